@@ -0,0 +1,56 @@
+package de.greenrobot.daobenchmark.entity;
+
+import android.database.sqlite.SQLiteDatabase;
+
+import java.util.Map;
+
+import de.greenrobot.dao.AbstractDao;
+import de.greenrobot.dao.AbstractDaoSession;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.StandardDatabase;
+import de.greenrobot.dao.identityscope.IdentityScopeType;
+import de.greenrobot.dao.internal.DaoConfig;
+
+import de.greenrobot.daobenchmark.entity.SimpleEntityNotNull;
+
+import de.greenrobot.daobenchmark.entity.SimpleEntityNotNullDao;
+
+// THIS CODE IS GENERATED BY greenDAO, DO NOT EDIT.
+
+/**
+ * {@inheritDoc}
+ * 
+ * @see de.greenrobot.dao.AbstractDaoSession
+ */
+public class DaoSession extends AbstractDaoSession {
+
+    private final DaoConfig simpleEntityNotNullDaoConfig;
+
+    private final SimpleEntityNotNullDao simpleEntityNotNullDao;
+
+    public DaoSession(SQLiteDatabase db, IdentityScopeType type, Map<Class<? extends AbstractDao<?, ?>>, DaoConfig>
+            daoConfigMap) {
+        this(new StandardDatabase(db), type, daoConfigMap);
+    }
+
+    public DaoSession(Database db, IdentityScopeType type, Map<Class<? extends AbstractDao<?, ?>>, DaoConfig>
+            daoConfigMap) {
+        super(db);
+
+        simpleEntityNotNullDaoConfig = daoConfigMap.get(SimpleEntityNotNullDao.class).clone();
+        simpleEntityNotNullDaoConfig.initIdentityScope(type);
+
+        simpleEntityNotNullDao = new SimpleEntityNotNullDao(simpleEntityNotNullDaoConfig, this);
+
+        registerDao(SimpleEntityNotNull.class, simpleEntityNotNullDao);
+    }
+    
+    public void clear() {
+        simpleEntityNotNullDaoConfig.getIdentityScope().clear();
+    }
+
+    public SimpleEntityNotNullDao getSimpleEntityNotNullDao() {
+        return simpleEntityNotNullDao;
+    }
+
+}
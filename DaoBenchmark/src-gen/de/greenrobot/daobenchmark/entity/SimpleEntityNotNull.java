@@ -0,0 +1,90 @@
+package de.greenrobot.daobenchmark.entity;
+
+import de.greenrobot.dao.Property;
+
+
+// THIS CODE IS GENERATED BY greenDAO, DO NOT EDIT. Enable "keep" sections if you want to edit. 
+/**
+ * Entity mapped to table SIMPLE_ENTITY_NOT_NULL.
+ */
+public class SimpleEntityNotNull extends BenchmarkEntityBase  {
+
+    public long id;
+    public boolean simpleBoolean;
+    public byte simpleByte;
+    public short simpleShort;
+    public int simpleInt;
+    public long simpleLong;
+    public float simpleFloat;
+    public double simpleDouble;
+    /** Not-null value. */
+    public String simpleString;
+    /** Not-null value. */
+    public byte[] simpleByteArray;
+
+
+
+    /**
+     * Properties of entity SimpleEntityNotNull.<br/>
+     * Can be used for QueryBuilder and for referencing column names.
+    */
+    public static class Properties {
+        public final static Property Id = new Property(0, long.class, "id", true, "_id", "SIMPLE_ENTITY_NOT_NULL");
+        public final static Property SimpleBoolean = new Property(1, boolean.class, "simpleBoolean", false, "SIMPLE_BOOLEAN", "SIMPLE_ENTITY_NOT_NULL");
+        public final static Property SimpleByte = new Property(2, byte.class, "simpleByte", false, "SIMPLE_BYTE", "SIMPLE_ENTITY_NOT_NULL");
+        public final static Property SimpleShort = new Property(3, short.class, "simpleShort", false, "SIMPLE_SHORT", "SIMPLE_ENTITY_NOT_NULL");
+        public final static Property SimpleInt = new Property(4, int.class, "simpleInt", false, "SIMPLE_INT", "SIMPLE_ENTITY_NOT_NULL");
+        public final static Property SimpleLong = new Property(5, long.class, "simpleLong", false, "SIMPLE_LONG", "SIMPLE_ENTITY_NOT_NULL");
+        public final static Property SimpleFloat = new Property(6, float.class, "simpleFloat", false, "SIMPLE_FLOAT", "SIMPLE_ENTITY_NOT_NULL");
+        public final static Property SimpleDouble = new Property(7, double.class, "simpleDouble", false, "SIMPLE_DOUBLE", "SIMPLE_ENTITY_NOT_NULL");
+        public final static Property SimpleString = new Property(8, String.class, "simpleString", false, "SIMPLE_STRING", "SIMPLE_ENTITY_NOT_NULL");
+        public final static Property SimpleByteArray = new Property(9, byte[].class, "simpleByteArray", false, "SIMPLE_BYTE_ARRAY", "SIMPLE_ENTITY_NOT_NULL");
+    };
+    
+    public static final String TABLE_NAME = "SIMPLE_ENTITY_NOT_NULL";
+    
+	@Override
+	public String getTableName() {
+		return TABLE_NAME; 
+	}
+	
+	@Override
+	public String getEntityName() {
+		return ENTITY_NAME; 
+	}
+	
+	@Override
+	public Long getId() {
+		return id; 
+	}
+	
+	@Override
+	protected void setId(Long id) {
+		this.id = id;
+	}
+
+
+
+    public SimpleEntityNotNull() {
+    }
+
+    public SimpleEntityNotNull(long id) {
+        this.id = id;
+    }
+
+    public SimpleEntityNotNull(long id, boolean simpleBoolean, byte simpleByte, short simpleShort, int simpleInt, long simpleLong, float simpleFloat, double simpleDouble, String simpleString, byte[] simpleByteArray) {
+        this.id = id;
+        this.simpleBoolean = simpleBoolean;
+        this.simpleByte = simpleByte;
+        this.simpleShort = simpleShort;
+        this.simpleInt = simpleInt;
+        this.simpleLong = simpleLong;
+        this.simpleFloat = simpleFloat;
+        this.simpleDouble = simpleDouble;
+        this.simpleString = simpleString;
+        this.simpleByteArray = simpleByteArray;
+    }
+
+
+
+}
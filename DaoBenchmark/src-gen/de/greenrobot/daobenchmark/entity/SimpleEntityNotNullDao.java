@@ -0,0 +1,204 @@
+package de.greenrobot.daobenchmark.entity;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import de.greenrobot.dao.AbstractDao;
+import de.greenrobot.dao.DaoException;
+import de.greenrobot.dao.Property;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.DatabaseStatement;
+import de.greenrobot.dao.database.StandardDatabase;
+import de.greenrobot.dao.internal.DaoConfig;
+
+import de.greenrobot.daobenchmark.entity.SimpleEntityNotNull;
+
+
+// THIS CODE IS GENERATED BY greenDAO, DO NOT EDIT.
+/** 
+ * DAO for table SIMPLE_ENTITY_NOT_NULL.
+*/
+public class SimpleEntityNotNullDao extends AbstractDao<SimpleEntityNotNull, Long> {
+
+    public static final String TABLENAME = "SIMPLE_ENTITY_NOT_NULL";
+   
+
+    public SimpleEntityNotNullDao(DaoConfig config) {
+        super(config);
+    }
+    
+    public SimpleEntityNotNullDao(DaoConfig config, DaoSession daoSession) {
+        super(config, daoSession);
+    }
+
+    /** Creates the underlying database table. */
+    public static void createTable(SQLiteDatabase db, boolean ifNotExists) {
+        createTable(new StandardDatabase(db), ifNotExists);
+    }
+
+    /** Creates the underlying database table. */
+    public static void createTable(Database db, boolean ifNotExists) {
+        String constraint = ifNotExists? "IF NOT EXISTS ": "";
+        db.execSQL("CREATE TABLE " + constraint + "'SIMPLE_ENTITY_NOT_NULL' (" + //
+                "'_id' INTEGER PRIMARY KEY NOT NULL ," + // 0: id
+                "'SIMPLE_BOOLEAN' INTEGER NOT NULL ," + // 1: simpleBoolean
+                "'SIMPLE_BYTE' INTEGER NOT NULL ," + // 2: simpleByte
+                "'SIMPLE_SHORT' INTEGER NOT NULL ," + // 3: simpleShort
+                "'SIMPLE_INT' INTEGER NOT NULL ," + // 4: simpleInt
+                "'SIMPLE_LONG' INTEGER NOT NULL ," + // 5: simpleLong
+                "'SIMPLE_FLOAT' REAL NOT NULL ," + // 6: simpleFloat
+                "'SIMPLE_DOUBLE' REAL NOT NULL ," + // 7: simpleDouble
+                "'SIMPLE_STRING' TEXT NOT NULL ," + // 8: simpleString
+                "'SIMPLE_BYTE_ARRAY' BLOB NOT NULL );"); // 9: simpleByteArray
+    }
+
+    /** Drops the underlying database table. */
+    public static void dropTable(SQLiteDatabase db, boolean ifExists) {
+        dropTable(new StandardDatabase(db), ifExists);
+    }
+
+    /** Drops the underlying database table. */
+    public static void dropTable(Database db, boolean ifExists) {
+        String sql = "DROP TABLE " + (ifExists ? "IF EXISTS " : "") + "'SIMPLE_ENTITY_NOT_NULL'";
+        db.execSQL(sql);
+    }
+
+    /** @inheritdoc */
+    @Override
+    protected void bindValues(SQLiteStatement stmt, SimpleEntityNotNull entity) {
+        stmt.clearBindings();
+        stmt.bindLong(1, entity.id);
+        stmt.bindLong(2, entity.simpleBoolean ? 1l: 0l);
+        stmt.bindLong(3, entity.simpleByte);
+        stmt.bindLong(4, entity.simpleShort);
+        stmt.bindLong(5, entity.simpleInt);
+        stmt.bindLong(6, entity.simpleLong);
+        stmt.bindDouble(7, entity.simpleFloat);
+        stmt.bindDouble(8, entity.simpleDouble);
+        stmt.bindString(9, entity.simpleString);
+        stmt.bindBlob(10, entity.simpleByteArray);
+    }
+
+    /** @inheritdoc */
+    @Override
+    protected void bindValues(DatabaseStatement stmt, SimpleEntityNotNull entity) {
+        stmt.clearBindings();
+        stmt.bindLong(1, entity.id);
+        stmt.bindLong(2, entity.simpleBoolean ? 1l: 0l);
+        stmt.bindLong(3, entity.simpleByte);
+        stmt.bindLong(4, entity.simpleShort);
+        stmt.bindLong(5, entity.simpleInt);
+        stmt.bindLong(6, entity.simpleLong);
+        stmt.bindDouble(7, entity.simpleFloat);
+        stmt.bindDouble(8, entity.simpleDouble);
+        stmt.bindString(9, entity.simpleString);
+        stmt.bindBlob(10, entity.simpleByteArray);
+    }
+
+    /** @inheritdoc */
+    @Override
+    public Long readKey(Cursor cursor, int offset) {
+        return cursor.getLong(offset + 0);
+    }    
+
+    /** @inheritdoc */
+    @Override
+    public SimpleEntityNotNull readEntity(Cursor cursor, int offset) {
+        SimpleEntityNotNull entity = new SimpleEntityNotNull( //
+            cursor.getLong(offset + 0), // id
+            cursor.getShort(offset + 1) != 0, // simpleBoolean
+            (byte) cursor.getShort(offset + 2), // simpleByte
+            cursor.getShort(offset + 3), // simpleShort
+            cursor.getInt(offset + 4), // simpleInt
+            cursor.getLong(offset + 5), // simpleLong
+            cursor.getFloat(offset + 6), // simpleFloat
+            cursor.getDouble(offset + 7), // simpleDouble
+            cursor.getString(offset + 8), // simpleString
+            cursor.getBlob(offset + 9) // simpleByteArray
+        );
+        return entity;
+    }
+     
+    /** @inheritdoc */
+    @Override
+    public void readEntity(Cursor cursor, SimpleEntityNotNull entity, int offset) {
+        entity.id = cursor.getLong(offset + 0);
+        entity.simpleBoolean = cursor.getShort(offset + 1) != 0;
+        entity.simpleByte = (byte) cursor.getShort(offset + 2);
+        entity.simpleShort = cursor.getShort(offset + 3);
+        entity.simpleInt = cursor.getInt(offset + 4);
+        entity.simpleLong = cursor.getLong(offset + 5);
+        entity.simpleFloat = cursor.getFloat(offset + 6);
+        entity.simpleDouble = cursor.getDouble(offset + 7);
+        entity.simpleString = cursor.getString(offset + 8);
+        entity.simpleByteArray = cursor.getBlob(offset + 9);
+     }
+
+    /** @inheritdoc */
+    @Override
+    protected SimpleEntityNotNull readEntityPartial(Cursor cursor, int[] propertyOrdinals) {
+        SimpleEntityNotNull entity = new SimpleEntityNotNull();
+        for (int i = 0; i < propertyOrdinals.length; i++) {
+            switch (propertyOrdinals[i]) {
+            case 0:
+                entity.id = cursor.getLong(i);
+                break;
+            case 1:
+                entity.simpleBoolean = cursor.getShort(i) != 0;
+                break;
+            case 2:
+                entity.simpleByte = (byte) cursor.getShort(i);
+                break;
+            case 3:
+                entity.simpleShort = cursor.getShort(i);
+                break;
+            case 4:
+                entity.simpleInt = cursor.getInt(i);
+                break;
+            case 5:
+                entity.simpleLong = cursor.getLong(i);
+                break;
+            case 6:
+                entity.simpleFloat = cursor.getFloat(i);
+                break;
+            case 7:
+                entity.simpleDouble = cursor.getDouble(i);
+                break;
+            case 8:
+                entity.simpleString = cursor.getString(i);
+                break;
+            case 9:
+                entity.simpleByteArray = cursor.getBlob(i);
+                break;
+            default:
+                throw new DaoException("Unknown property ordinal: " + propertyOrdinals[i]);
+            }
+        }
+        return entity;
+    }
+    
+    /** @inheritdoc */
+    @Override
+    protected Long updateKeyAfterInsert(SimpleEntityNotNull entity, long rowId) {
+        entity.id = rowId;
+        return rowId;
+    }
+    
+    /** @inheritdoc */
+    @Override
+    public Long getKey(SimpleEntityNotNull entity) {
+        if(entity != null) {
+            return entity.id;
+        } else {
+            return null;
+        }
+    }
+
+    /** @inheritdoc */
+    @Override    
+    protected boolean isEntityUpdateable() {
+        return true;
+    }
+    
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.daobenchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.greenrobot.dao.DaoException;
+import de.greenrobot.dao.async.AsyncSession;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.identityscope.IdentityScopeType;
+import de.greenrobot.daobenchmark.entity.DaoSession;
+
+/**
+ * Async throughput of several AsyncSessions sharing one DaoSession: {@link #operationCount} inserts are spread over
+ * {@link #sessionCount} sessions, which run on the default (unbounded) pool or on a bounded pool of 4 threads.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AsyncSessionBenchmark {
+
+    @Param({ "1", "4", "16" })
+    public int sessionCount;
+
+    @Param({ "false", "true" })
+    public boolean boundedPool;
+
+    @Param({ "1000" })
+    public int operationCount;
+
+    private Database db;
+    private DaoSession session;
+    private ExecutorService executor;
+    private long nextKey;
+
+    @Setup
+    public void setUp() {
+        db = BenchmarkDatabase.open();
+        session = BenchmarkDatabase.newSession(db, IdentityScopeType.None);
+        if (boundedPool) {
+            executor = Executors.newFixedThreadPool(4);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        session.getSimpleEntityNotNullDao().deleteAll();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+        db.close();
+    }
+
+    /** Enqueues all inserts and waits until every session completed them. */
+    @Benchmark
+    public void insert() {
+        List<AsyncSession> sessions = new ArrayList<AsyncSession>(sessionCount);
+        for (int i = 0; i < sessionCount; i++) {
+            AsyncSession asyncSession = executor != null ? session.startAsyncSession(executor) : session
+                    .startAsyncSession();
+            asyncSession.setIdleTimeoutMillis(0);
+            sessions.add(asyncSession);
+        }
+        for (int i = 0; i < operationCount; i++) {
+            sessions.get(i % sessionCount).insert(BenchmarkDatabase.createEntity(nextKey++));
+        }
+        for (AsyncSession asyncSession : sessions) {
+            if (!asyncSession.drain(60000)) {
+                throw new DaoException("Async operations did not complete in time");
+            }
+        }
+    }
+
+}
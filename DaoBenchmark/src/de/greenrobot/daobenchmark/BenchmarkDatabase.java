@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.daobenchmark;
+
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.JdbcDatabase;
+import de.greenrobot.dao.identityscope.IdentityScopeType;
+import de.greenrobot.daobenchmark.entity.DaoMaster;
+import de.greenrobot.daobenchmark.entity.DaoSession;
+import de.greenrobot.daobenchmark.entity.SimpleEntityNotNull;
+
+/** Opens the databases used by the benchmarks and creates test entities. */
+public class BenchmarkDatabase {
+
+    /** Opens a new in-memory database (sqlite-jdbc) with all tables of the test schema. */
+    public static Database open() {
+        Database db = JdbcDatabase.open("jdbc:sqlite::memory:");
+        DaoMaster.createAllTables(db, false);
+        return db;
+    }
+
+    public static DaoSession newSession(Database db, IdentityScopeType scopeType) {
+        return new DaoMaster(db).newSession(scopeType);
+    }
+
+    /** Same values as DaoTest's SimpleEntityNotNullHelper; simpleInt is set to the key for range queries. */
+    public static SimpleEntityNotNull createEntity(long key) {
+        SimpleEntityNotNull entity = new SimpleEntityNotNull();
+        entity.id = key;
+        entity.simpleBoolean = true;
+        entity.simpleByte = Byte.MAX_VALUE;
+        entity.simpleShort = Short.MAX_VALUE;
+        entity.simpleInt = (int) key;
+        entity.simpleLong = Long.MAX_VALUE;
+        entity.simpleFloat = Float.MAX_VALUE;
+        entity.simpleDouble = Double.MAX_VALUE;
+        entity.simpleString = "greenrobot greenDAO";
+        byte[] bytes = { 42, -17, 23, 0, 127, -128 };
+        entity.simpleByteArray = bytes;
+        return entity;
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.daobenchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.identityscope.IdentityScopeType;
+import de.greenrobot.daobenchmark.entity.SimpleEntityNotNull;
+import de.greenrobot.daobenchmark.entity.SimpleEntityNotNullDao;
+
+/**
+ * Several threads writing to the same DAO concurrently, each write in its own implicit transaction. Writers take
+ * statements from a pool instead of synchronizing on a single statement. Runs with 4 threads; use the "-t" option to
+ * compare other thread counts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Threads(4)
+@Fork(1)
+public class ConcurrentWriteBenchmark {
+
+    /** Rows updated by a single thread; each thread has its own rows. */
+    private static final int ROWS_PER_THREAD = 1000;
+
+    private Database db;
+    private SimpleEntityNotNullDao dao;
+    private final AtomicLong nextKey = new AtomicLong();
+
+    @State(Scope.Thread)
+    public static class ThreadRows {
+        private List<SimpleEntityNotNull> rows;
+        private int next;
+
+        @Setup
+        public void setUp(ConcurrentWriteBenchmark benchmark) {
+            rows = new ArrayList<SimpleEntityNotNull>(ROWS_PER_THREAD);
+            for (int i = 0; i < ROWS_PER_THREAD; i++) {
+                rows.add(BenchmarkDatabase.createEntity(benchmark.nextKey.getAndIncrement()));
+            }
+            benchmark.dao.insertInTx(rows);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        db = BenchmarkDatabase.open();
+        dao = BenchmarkDatabase.newSession(db, IdentityScopeType.None).getSimpleEntityNotNullDao();
+    }
+
+    @TearDown
+    public void tearDown() {
+        db.close();
+    }
+
+    @Benchmark
+    public long insert() {
+        return dao.insert(BenchmarkDatabase.createEntity(nextKey.getAndIncrement()));
+    }
+
+    @Benchmark
+    public void update(ThreadRows threadRows) {
+        if (threadRows.next == ROWS_PER_THREAD) {
+            threadRows.next = 0;
+        }
+        SimpleEntityNotNull entity = threadRows.rows.get(threadRows.next++);
+        entity.simpleInt++;
+        dao.update(entity);
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.daobenchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.identityscope.IdentityScopeType;
+import de.greenrobot.dao.query.LazyList;
+import de.greenrobot.dao.query.Query;
+import de.greenrobot.daobenchmark.entity.SimpleEntityNotNull;
+import de.greenrobot.daobenchmark.entity.SimpleEntityNotNull.Properties;
+import de.greenrobot.daobenchmark.entity.SimpleEntityNotNullDao;
+
+/**
+ * Read paths: loading single entities by key (without identity scope and as identity scope hit), loading all rows, and
+ * a query returning a tenth of the rows as list and as {@link LazyList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DaoReadBenchmark {
+
+    @Param({ "1000", "10000" })
+    public int rowCount;
+
+    private Database db;
+    private SimpleEntityNotNullDao dao;
+    private SimpleEntityNotNullDao scopedDao;
+    /** Strongly references the entities in the identity scope, which only holds weak references. */
+    private List<SimpleEntityNotNull> scopedEntities;
+    private Query<SimpleEntityNotNull> query;
+    private int nextKey;
+
+    @Setup
+    public void setUp() {
+        db = BenchmarkDatabase.open();
+        dao = BenchmarkDatabase.newSession(db, IdentityScopeType.None).getSimpleEntityNotNullDao();
+        List<SimpleEntityNotNull> entities = new ArrayList<SimpleEntityNotNull>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            entities.add(BenchmarkDatabase.createEntity(i));
+        }
+        dao.insertInTx(entities);
+
+        // Fills the identity scope, so scopedDao.load() is always a hit
+        scopedDao = BenchmarkDatabase.newSession(db, IdentityScopeType.Session).getSimpleEntityNotNullDao();
+        scopedEntities = scopedDao.loadAll();
+
+        query = dao.queryBuilder().where(Properties.SimpleInt.lt(rowCount / 10)).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        db.close();
+    }
+
+    private long nextKey() {
+        if (nextKey == rowCount) {
+            nextKey = 0;
+        }
+        return nextKey++;
+    }
+
+    @Benchmark
+    public SimpleEntityNotNull load() {
+        return dao.load(nextKey());
+    }
+
+    @Benchmark
+    public SimpleEntityNotNull identityScopeLookup() {
+        return scopedDao.load(nextKey());
+    }
+
+    @Benchmark
+    public List<SimpleEntityNotNull> loadAll() {
+        return dao.loadAll();
+    }
+
+    @Benchmark
+    public List<SimpleEntityNotNull> query() {
+        return query.list();
+    }
+
+    /** Iterates over all entities of a lazy list (entities are loaded on access). */
+    @Benchmark
+    public void lazyList(Blackhole blackhole) {
+        LazyList<SimpleEntityNotNull> lazyList = query.listLazyUncached();
+        try {
+            for (SimpleEntityNotNull entity : lazyList) {
+                blackhole.consume(entity);
+            }
+        } finally {
+            lazyList.close();
+        }
+    }
+
+}
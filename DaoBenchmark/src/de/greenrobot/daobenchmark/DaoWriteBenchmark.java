@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.daobenchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.identityscope.IdentityScopeType;
+import de.greenrobot.daobenchmark.entity.SimpleEntityNotNull;
+import de.greenrobot.daobenchmark.entity.SimpleEntityNotNullDao;
+
+/**
+ * Write paths: single inserts, updates and deletes (each in its own implicit transaction) and batches of
+ * {@link #batchSize} entities written in one transaction, including upserts and replaces of existing rows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DaoWriteBenchmark {
+
+    @Param({ "1000" })
+    public int batchSize;
+
+    private Database db;
+    private SimpleEntityNotNullDao dao;
+    private List<SimpleEntityNotNull> batch;
+    private List<SimpleEntityNotNull> existing;
+    private long nextKey;
+    private int nextExisting;
+
+    @Setup
+    public void setUp() {
+        db = BenchmarkDatabase.open();
+        dao = BenchmarkDatabase.newSession(db, IdentityScopeType.None).getSimpleEntityNotNullDao();
+        batch = new ArrayList<SimpleEntityNotNull>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(BenchmarkDatabase.createEntity(0));
+        }
+    }
+
+    /** Starts each iteration with {@link #batchSize} rows used by the update, upsert and replace benchmarks. */
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        dao.deleteAll();
+        nextKey = 0;
+        existing = new ArrayList<SimpleEntityNotNull>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            existing.add(BenchmarkDatabase.createEntity(nextKey++));
+        }
+        dao.insertInTx(existing);
+        nextExisting = 0;
+    }
+
+    @TearDown
+    public void tearDown() {
+        db.close();
+    }
+
+    @Benchmark
+    public long insert() {
+        return dao.insert(BenchmarkDatabase.createEntity(nextKey++));
+    }
+
+    @Benchmark
+    public void insertInTx() {
+        for (SimpleEntityNotNull entity : batch) {
+            entity.id = nextKey++;
+        }
+        dao.insertInTx(batch);
+    }
+
+    @Benchmark
+    public void update() {
+        if (nextExisting == batchSize) {
+            nextExisting = 0;
+        }
+        SimpleEntityNotNull entity = existing.get(nextExisting++);
+        entity.simpleInt++;
+        dao.update(entity);
+    }
+
+    @Benchmark
+    public void updateInTx() {
+        dao.updateInTx(existing);
+    }
+
+    /** Upserts existing rows in one transaction; compare with insertOrReplaceInTx() and updateInTx(). */
+    @Benchmark
+    public void upsertInTx() {
+        dao.upsertInTx(existing);
+    }
+
+    /** Replaces existing rows in one transaction (SQLite deletes and re-inserts each row). */
+    @Benchmark
+    public void insertOrReplaceInTx() {
+        dao.insertOrReplaceInTx(existing);
+    }
+
+    /** Inserts and deletes a row; compare with insert() to get the delete cost. */
+    @Benchmark
+    public void insertAndDelete() {
+        long key = dao.insert(BenchmarkDatabase.createEntity(nextKey++));
+        dao.deleteByKey(key);
+    }
+
+    /** Inserts and deletes a batch in two transactions; compare with insertInTx(). */
+    @Benchmark
+    public void insertAndDeleteInTx() {
+        for (SimpleEntityNotNull entity : batch) {
+            entity.id = nextKey++;
+        }
+        dao.insertInTx(batch);
+        dao.deleteInTx(batch);
+    }
+
+}
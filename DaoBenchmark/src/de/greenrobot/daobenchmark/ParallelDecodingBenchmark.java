@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.daobenchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.identityscope.IdentityScopeType;
+import de.greenrobot.daobenchmark.entity.DaoSession;
+import de.greenrobot.daobenchmark.entity.SimpleEntityNotNull;
+import de.greenrobot.daobenchmark.entity.SimpleEntityNotNullDao;
+
+/**
+ * Compares loadAll with serial and parallel entity decoding (see DaoSession.setParallelDecoding) for growing result
+ * sizes to find the row count at which parallel decoding starts to pay off. Uses a fresh identity scope for each call,
+ * so the merge phase attaches all entities.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParallelDecodingBenchmark {
+
+    @Param({ "1000", "10000", "100000", "500000" })
+    public int rowCount;
+
+    @Param({ "false", "true" })
+    public boolean parallel;
+
+    private Database db;
+    private DaoSession session;
+    private SimpleEntityNotNullDao dao;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        db = BenchmarkDatabase.open();
+        session = BenchmarkDatabase.newSession(db, IdentityScopeType.Session);
+        dao = session.getSimpleEntityNotNullDao();
+        List<SimpleEntityNotNull> entities = new ArrayList<SimpleEntityNotNull>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            entities.add(BenchmarkDatabase.createEntity(i));
+        }
+        dao.insertInTx(entities);
+
+        if (parallel) {
+            executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+            session.setParallelDecoding(executor, 1);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+        db.close();
+    }
+
+    @Benchmark
+    public List<SimpleEntityNotNull> loadAll() {
+        session.clear();
+        return dao.loadAll();
+    }
+
+}
@@ -20,21 +20,31 @@ import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 
 import android.database.CrossProcessCursor;
 import android.database.Cursor;
 import android.database.CursorWindow;
-import android.database.DatabaseUtils;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteStatement;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.DatabaseStatement;
+import de.greenrobot.dao.database.StandardDatabase;
 import de.greenrobot.dao.identityscope.IdentityScope;
 import de.greenrobot.dao.identityscope.IdentityScopeLong;
 import de.greenrobot.dao.internal.DaoConfig;
 import de.greenrobot.dao.internal.FastCursor;
+import de.greenrobot.dao.internal.SqlUtils;
+import de.greenrobot.dao.internal.StatementPool;
 import de.greenrobot.dao.internal.TableStatements;
 import de.greenrobot.dao.query.Query;
 import de.greenrobot.dao.query.QueryBuilder;
@@ -56,12 +66,17 @@ import de.greenrobot.dao.query.QueryBuilder;
  * 
  * 1.) If not inside a TX already, begin a TX to acquire a DB connection (connection is to be handled like a lock)
  * 
- * 2.) The SQLiteStatement
+ * 2.) The DatabaseStatement (taken exclusively from a StatementPool, which never blocks)
  * 
  * 3.) identityScope
  */
 public abstract class AbstractDao<T, K> implements Dao<T, K>  {
-    protected final SQLiteDatabase db;
+    /** SQLite limits the number of variables (default 999); used for IN queries. */
+    private static final int MAX_KEYS_PER_QUERY = 999;
+
+    protected final Database db;
+    /** Android's SQLiteDatabase: values are bound to the raw SQLiteStatement, avoiding the statement abstraction. */
+    protected final boolean isStandardSQLite;
     protected final DaoConfig config;
     protected IdentityScope<K, T> identityScope;
     protected IdentityScopeLong<T> identityScopeLong;
@@ -80,6 +95,7 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
         this.config = config;
         this.session = daoSession;
         db = config.db;
+        isStandardSQLite = db instanceof StandardDatabase;
         identityScope = (IdentityScope<K, T>) config.getIdentityScope();
         if (identityScope instanceof IdentityScopeLong) {
             identityScopeLong = (IdentityScopeLong<T>) identityScope;
@@ -157,16 +173,21 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
         if (key == null) {
             return null;
         }
+        long start = metricsStart();
         if (identityScope != null) {
             T entity = identityScope.get(key);
             if (entity != null) {
+                reportMetrics(DaoMetrics.Operation.LOAD, null, 1, DaoMetrics.Cache.HIT, start);
                 return entity;
             }
         }
         String sql = statements.getSelectByKey();
         String[] keyArray = new String[] { key.toString() };
-        Cursor cursor = db.rawQuery(sql, keyArray);
-        return loadUniqueAndCloseCursor(cursor);
+        Cursor cursor = getReadDatabase().rawQuery(sql, keyArray);
+        T entity = loadUniqueAndCloseCursor(cursor);
+        DaoMetrics.Cache cache = identityScope != null ? DaoMetrics.Cache.MISS : DaoMetrics.Cache.NOT_USED;
+        reportMetrics(DaoMetrics.Operation.LOAD, sql, entity != null ? 1 : 0, cache, start);
+        return entity;
     }
 
     /* (non-Javadoc)
@@ -174,9 +195,13 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
 	 */
     @Override
 	public T loadByRowId(long rowId) {
+        long start = metricsStart();
+        String sql = statements.getSelectByRowId();
         String[] idArray = new String[] { Long.toString(rowId) };
-        Cursor cursor = db.rawQuery(statements.getSelectByRowId(), idArray);
-        return loadUniqueAndCloseCursor(cursor);
+        Cursor cursor = getReadDatabase().rawQuery(sql, idArray);
+        T entity = loadUniqueAndCloseCursor(cursor);
+        reportMetrics(DaoMetrics.Operation.LOAD, sql, entity != null ? 1 : 0, DaoMetrics.Cache.NOT_USED, start);
+        return entity;
     }
 
     protected T loadUniqueAndCloseCursor(Cursor cursor) {
@@ -202,8 +227,12 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
 	 */
     @Override
 	public List<T> loadAll() {
-        Cursor cursor = db.rawQuery(statements.getSelectAll(), null);
-        return loadAllAndCloseCursor(cursor);
+        long start = metricsStart();
+        String sql = statements.getSelectAll();
+        Cursor cursor = getReadDatabase().rawQuery(sql, null);
+        List<T> list = loadAllAndCloseCursor(cursor);
+        reportMetrics(DaoMetrics.Operation.LOAD, sql, list.size(), DaoMetrics.Cache.NOT_USED, start);
+        return list;
     }
 
     /* (non-Javadoc)
@@ -248,8 +277,7 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
 	 */
     @Override
 	public void insertInTx(Iterable<T> entities, boolean setPrimaryKey) {
-        SQLiteStatement stmt = statements.getInsertStatement();
-        executeInsertInTx(stmt, entities, setPrimaryKey);
+        executeInsertInTx(statements.getInsertPool(), entities, setPrimaryKey);
     }
 
     /* (non-Javadoc)
@@ -257,8 +285,7 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
 	 */
     @Override
 	public void insertOrReplaceInTx(Iterable<T> entities, boolean setPrimaryKey) {
-        SQLiteStatement stmt = statements.getInsertOrReplaceStatement();
-        executeInsertInTx(stmt, entities, setPrimaryKey);
+        executeInsertInTx(statements.getInsertOrReplacePool(), entities, setPrimaryKey);
     }
 
     /* (non-Javadoc)
@@ -277,33 +304,96 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
         insertOrReplaceInTx(Arrays.asList(entities), isEntityUpdateable());
     }
 
-    private void executeInsertInTx(SQLiteStatement stmt, Iterable<T> entities, boolean setPrimaryKey) {
+    /* (non-Javadoc)
+	 * @see de.greenrobot.dao.Dao#upsertInTx(java.lang.Iterable)
+	 */
+    @Override
+	public void upsertInTx(Iterable<T> entities) {
+        long start = metricsStart();
+        int rows = 0;
+        boolean upsertSupported = statements.isUpsertSupported();
+        StatementPool pool = upsertSupported ? statements.getUpsertPool() : statements.getUpdatePool();
+        db.beginTransaction();
+        try {
+            DatabaseStatement stmt = pool.acquire();
+            try {
+                if (identityScope != null) {
+                    identityScope.lock();
+                }
+                try {
+                    for (T entity : entities) {
+                        if (upsertSupported) {
+                            upsertInsideSynchronized(entity, stmt, false);
+                        } else {
+                            updateOrInsertInsideSynchronized(entity, stmt, false);
+                        }
+                        rows++;
+                    }
+                } finally {
+                    if (identityScope != null) {
+                        identityScope.unlock();
+                    }
+                }
+            } finally {
+                pool.release(stmt);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        reportMetrics(DaoMetrics.Operation.UPSERT, pool.getSql(), rows, DaoMetrics.Cache.NOT_USED, start);
+    }
+
+    /* (non-Javadoc)
+	 * @see de.greenrobot.dao.Dao#upsertInTx(T)
+	 */
+    @Override
+	public void upsertInTx(T... entities) {
+        upsertInTx(Arrays.asList(entities));
+    }
+
+    /* (non-Javadoc)
+	 * @see de.greenrobot.dao.Dao#batchWriter(int, long)
+	 */
+    @Override
+	public BatchWriter<T> batchWriter(int batchSize, long maxDelayMillis) {
+        return new BatchWriter<T>(this, batchSize, maxDelayMillis);
+    }
+
+    private void executeInsertInTx(StatementPool pool, Iterable<T> entities, boolean setPrimaryKey) {
+        long start = metricsStart();
+        int rows = 0;
         db.beginTransaction();
         try {
-            synchronized (stmt) {
+            DatabaseStatement stmt = pool.acquire();
+            try {
                 if (identityScope != null) {
                     identityScope.lock();
                 }
                 try {
                     for (T entity : entities) {
-                        bindValues(stmt, entity);
+                        bindValuesTo(stmt, entity);
                         if (setPrimaryKey) {
                             long rowId = stmt.executeInsert();
                             updateKeyAfterInsertAndAttach(entity, rowId, false);
                         } else {
                             stmt.execute();
                         }
+                        rows++;
                     }
                 } finally {
                     if (identityScope != null) {
                         identityScope.unlock();
                     }
                 }
+            } finally {
+                pool.release(stmt);
             }
             db.setTransactionSuccessful();
         } finally {
             db.endTransaction();
         }
+        reportMetrics(DaoMetrics.Operation.INSERT, pool.getSql(), rows, DaoMetrics.Cache.NOT_USED, start);
     }
 
     /* (non-Javadoc)
@@ -311,7 +401,7 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
 	 */
     @Override
 	public long insert(T entity) {
-        return executeInsert(entity, statements.getInsertStatement());
+        return executeInsert(entity, statements.getInsertPool());
     }
 
     /* (non-Javadoc)
@@ -319,26 +409,17 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
 	 */
     @Override
 	public long insertWithoutSettingPk(T entity) {
-        SQLiteStatement stmt = statements.getInsertStatement();
+        long start = metricsStart();
+        StatementPool pool = statements.getInsertPool();
         long rowId;
-        if (db.isDbLockedByCurrentThread()) {
-            synchronized (stmt) {
-                bindValues(stmt, entity);
-                rowId = stmt.executeInsert();
-            }
-        } else {
-            // Do TX to acquire a connection before locking the stmt to avoid deadlocks
-            db.beginTransaction();
-            try {
-                synchronized (stmt) {
-                    bindValues(stmt, entity);
-                    rowId = stmt.executeInsert();
-                }
-                db.setTransactionSuccessful();
-            } finally {
-                db.endTransaction();
-            }
+        DatabaseStatement stmt = pool.acquire();
+        try {
+            bindValuesTo(stmt, entity);
+            rowId = stmt.executeInsert();
+        } finally {
+            pool.release(stmt);
         }
+        reportMetrics(DaoMetrics.Operation.INSERT, pool.getSql(), 1, DaoMetrics.Cache.NOT_USED, start);
         return rowId;
     }
 
@@ -347,30 +428,93 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
 	 */
     @Override
 	public long insertOrReplace(T entity) {
-        return executeInsert(entity, statements.getInsertOrReplaceStatement());
+        return executeInsert(entity, statements.getInsertOrReplacePool());
     }
 
-    private long executeInsert(T entity, SQLiteStatement stmt) {
-        long rowId;
-        if (db.isDbLockedByCurrentThread()) {
-            synchronized (stmt) {
-                bindValues(stmt, entity);
-                rowId = stmt.executeInsert();
-            }
+    /* (non-Javadoc)
+	 * @see de.greenrobot.dao.Dao#upsert(T)
+	 */
+    @Override
+	public void upsert(T entity) {
+        if (!statements.isUpsertSupported()) {
+            // The fallback needs a transaction to make UPDATE and INSERT atomic
+            upsertInTx(Collections.singletonList(entity));
+            return;
+        }
+        long start = metricsStart();
+        StatementPool pool = statements.getUpsertPool();
+        DatabaseStatement stmt = pool.acquire();
+        try {
+            upsertInsideSynchronized(entity, stmt, true);
+        } finally {
+            pool.release(stmt);
+        }
+        reportMetrics(DaoMetrics.Operation.UPSERT, pool.getSql(), 1, DaoMetrics.Cache.NOT_USED, start);
+    }
+
+    /**
+     * The row ID returned by SQLite is not reliable if an existing row was updated. Thus, only entities without a key
+     * take the key from the row ID (those are always inserted).
+     */
+    private void upsertInsideSynchronized(T entity, DatabaseStatement stmt, boolean lock) {
+        bindValuesTo(stmt, entity);
+        K key = getKey(entity);
+        if (key != null) {
+            stmt.execute();
+            attachEntity(key, entity, lock);
         } else {
-            // Do TX to acquire a connection before locking the stmt to avoid deadlocks
-            db.beginTransaction();
+            long rowId = stmt.executeInsert();
+            updateKeyAfterInsertAndAttach(entity, rowId, lock);
+        }
+    }
+
+    /**
+     * Upsert for SQLite before 3.24 (no "ON CONFLICT ... DO UPDATE"): updates the row with the entity's key and inserts
+     * the entity if no row was changed. Must be called inside a transaction.
+     */
+    private void updateOrInsertInsideSynchronized(T entity, DatabaseStatement updateStmt, boolean lock) {
+        K key = getKey(entity);
+        if (key != null) {
+            updateInsideSynchronized(entity, updateStmt, lock);
+            StatementPool changesPool = statements.getChangesPool();
+            DatabaseStatement changesStmt = changesPool.acquire();
+            long changes;
             try {
-                synchronized (stmt) {
-                    bindValues(stmt, entity);
-                    rowId = stmt.executeInsert();
-                }
-                db.setTransactionSuccessful();
+                changes = changesStmt.simpleQueryForLong();
             } finally {
-                db.endTransaction();
+                changesPool.release(changesStmt);
+            }
+            if (changes > 0) {
+                return;
             }
         }
+        StatementPool insertPool = statements.getInsertPool();
+        DatabaseStatement insertStmt = insertPool.acquire();
+        try {
+            bindValuesTo(insertStmt, entity);
+            if (key != null) {
+                insertStmt.execute();
+            } else {
+                long rowId = insertStmt.executeInsert();
+                updateKeyAfterInsertAndAttach(entity, rowId, lock);
+            }
+        } finally {
+            insertPool.release(insertStmt);
+        }
+    }
+
+    private long executeInsert(T entity, StatementPool pool) {
+        long start = metricsStart();
+        long rowId;
+        DatabaseStatement stmt = pool.acquire();
+        try {
+            bindValuesTo(stmt, entity);
+            rowId = stmt.executeInsert();
+        } finally {
+            pool.release(stmt);
+        }
         updateKeyAfterInsertAndAttach(entity, rowId, true);
+        reportMetrics(DaoMetrics.Operation.INSERT, pool.getSql(), 1, DaoMetrics.Cache.NOT_USED, start);
         return rowId;
     }
 
@@ -387,14 +531,25 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
     /** Reads all available rows from the given cursor and returns a list of entities. */
     protected List<T> loadAllFromCursor(Cursor cursor) {
         int count = cursor.getCount();
+        if (session != null && count > 0) {
+            Executor executor = session.getParallelDecodingExecutor();
+            if (executor != null && count >= session.getParallelDecodingMinRows()
+                    && ParallelEntityDecoder.canDecode(cursor)) {
+                return loadAllParallel(cursor, executor);
+            }
+        }
         List<T> list = new ArrayList<T>(count);
+        FastCursor fastCursor = null;
         if (cursor instanceof CrossProcessCursor) {
             CursorWindow window = ((CrossProcessCursor) cursor).getWindow();
             if (window != null) { // E.g. Roboelectric has no Window at this point
                 if (window.getNumRows() == count) {
                     cursor = new FastCursor(window);
                 } else {
+                    // Result spans multiple windows: the window is refilled while iterating
                     DaoLog.d("Window vs. result size: " + window.getNumRows() + "/" + count);
+                    fastCursor = new FastCursor((CrossProcessCursor) cursor);
+                    cursor = fastCursor;
                 }
             }
         }
@@ -405,9 +560,15 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
                 identityScope.reserveRoom(count);
             }
             try {
+                boolean hasNext;
                 do {
                     list.add(loadCurrent(cursor, 0, false));
-                } while (cursor.moveToNext());
+                    if (fastCursor != null && fastCursor.isLastInWindow()) {
+                        hasNext = moveToNextUnlocked(fastCursor);
+                    } else {
+                        hasNext = cursor.moveToNext();
+                    }
+                } while (hasNext);
             } finally {
                 if (identityScope != null) {
                     identityScope.unlock();
@@ -417,6 +578,58 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
         return list;
     }
 
+    /**
+     * Decodes the entities using several threads without touching the identity scope; afterwards, entities are attached
+     * to the identity scope in one step (keeping entities already present there like loadCurrent does).
+     */
+    @SuppressWarnings("unchecked")
+    private List<T> loadAllParallel(Cursor cursor, Executor executor) {
+        Object[] entities = new ParallelEntityDecoder<T>(this, executor).decode(cursor);
+        List<T> list = new ArrayList<T>(entities.length);
+        if (identityScope != null) {
+            identityScope.lock();
+            identityScope.reserveRoom(entities.length);
+        }
+        try {
+            for (Object decoded : entities) {
+                T entity = (T) decoded;
+                if (identityScope != null) {
+                    K key = getKey(entity);
+                    T existing = identityScope.getNoLock(key);
+                    if (existing != null) {
+                        entity = existing;
+                    } else {
+                        attachEntity(key, entity, false);
+                    }
+                } else {
+                    attachEntity(entity);
+                }
+                list.add(entity);
+            }
+        } finally {
+            if (identityScope != null) {
+                identityScope.unlock();
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Refilling the window steps through the query using the database connection; to keep the lock order (connection
+     * before identity scope), the identity scope lock is released meanwhile.
+     */
+    private boolean moveToNextUnlocked(Cursor cursor) {
+        if (identityScope == null) {
+            return cursor.moveToNext();
+        }
+        identityScope.unlock();
+        try {
+            return cursor.moveToNext();
+        } finally {
+            identityScope.lock();
+        }
+    }
+
     /** Internal use only. Considers identity scope. */
     final protected T loadCurrent(Cursor cursor, int offset, boolean lock) {
         if (identityScopeLong != null) {
@@ -475,13 +688,208 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
         return dao.loadCurrent(cursor, offset, /* TODO check this */true);
     }
 
+    /**
+     * Returns the SELECT statement (ending with a space) joining the tables of all to-one relations using the table
+     * aliases T (this entity) and T0, T1, ... (relations in the order they were defined), or null if the entity has no
+     * to-one relations. Overwritten by generated DAOs.
+     */
+    protected String getSelectDeep() {
+        return null;
+    }
+
+    /**
+     * Reads the entity and its to-one relations from the current cursor position of a cursor created using
+     * {@link #getSelectDeep()}. Overwritten by generated DAOs.
+     */
+    protected T loadCurrentDeep(Cursor cursor, boolean lock) {
+        throw new DaoException(this + " (" + config.tablename + ") does not have to-one relations");
+    }
+
+    /** Reads all available rows from the given cursor (see {@link #getSelectDeep()}) including to-one relations. */
+    public List<T> loadAllDeepFromCursor(Cursor cursor) {
+        int count = cursor.getCount();
+        List<T> list = new ArrayList<T>(count);
+
+        if (cursor.moveToFirst()) {
+            if (identityScope != null) {
+                identityScope.lock();
+                identityScope.reserveRoom(count);
+            }
+            try {
+                do {
+                    list.add(loadCurrentDeep(cursor, false));
+                } while (cursor.moveToNext());
+            } finally {
+                if (identityScope != null) {
+                    identityScope.unlock();
+                }
+            }
+        }
+        return list;
+    }
+
+    protected List<T> loadDeepAllAndCloseCursor(Cursor cursor) {
+        try {
+            return loadAllDeepFromCursor(cursor);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    protected T loadDeepUniqueAndCloseCursor(Cursor cursor) {
+        try {
+            boolean available = cursor.moveToFirst();
+            if (!available) {
+                return null;
+            } else if (!cursor.isLast()) {
+                throw new DaoException("Expected unique result, but count was " + cursor.getCount());
+            }
+            return loadCurrentDeep(cursor, true);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Reads a partially populated entity from a projection: the value of column i of the current cursor row is read
+     * into the property with ordinal propertyOrdinals[i]. Other properties keep their default values. Generated DAOs
+     * override this method; DAOs generated before partial loading was available throw a {@link DaoException}.
+     */
+    protected T readEntityPartial(Cursor cursor, int[] propertyOrdinals) {
+        throw new DaoException("Partial loading is not supported by " + getClass().getSimpleName()
+                + ", please regenerate it");
+    }
+
+    /** Partially populated entities are never put into the identity scope. */
+    protected List<T> loadPartialAllAndCloseCursor(Cursor cursor, int[] propertyOrdinals) {
+        try {
+            List<T> list = new ArrayList<T>(cursor.getCount());
+            while (cursor.moveToNext()) {
+                T entity = readEntityPartial(cursor, propertyOrdinals);
+                attachEntity(entity);
+                list.add(entity);
+            }
+            return list;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    protected T loadPartialUniqueAndCloseCursor(Cursor cursor, int[] propertyOrdinals) {
+        try {
+            boolean available = cursor.moveToFirst();
+            if (!available) {
+                return null;
+            } else if (!cursor.isLast()) {
+                throw new DaoException("Expected unique result, but count was " + cursor.getCount());
+            }
+            T entity = readEntityPartial(cursor, propertyOrdinals);
+            attachEntity(entity);
+            return entity;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Resolves the given to-one relation for all given entities at once. Distinct foreign keys are looked up in the
+     * target's identity scope first; the remaining targets are loaded using IN queries (chunked to respect SQLite's
+     * limit of variables). Entities with a null foreign key or without a matching target are left untouched.
+     *
+     * @param entities
+     *            Source entities, e.g. the result of a query
+     * @param relation
+     *            The relation to resolve; generated DAOs provide those in their "Relations" inner class
+     */
+    public <O> void resolveToOne(List<T> entities, ToOneRelation<T, O> relation) {
+        if (session == null) {
+            throw new DaoException("Resolving relations requires a DAO session");
+        }
+        @SuppressWarnings("unchecked")
+        AbstractDao<O, ?> targetDao = (AbstractDao<O, ?>) session.getDao(relation.targetClass);
+        boolean numericKeys = targetDao.config.keyIsNumeric;
+
+        Set<Object> keys = new HashSet<Object>();
+        for (T entity : entities) {
+            Object key = relation.getForeignKey(entity);
+            if (key != null) {
+                keys.add(numericKeys ? Long.valueOf(((Number) key).longValue()) : key);
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        Map<Object, O> targets = targetDao.loadByKeys(keys);
+        for (T entity : entities) {
+            Object key = relation.getForeignKey(entity);
+            if (key != null) {
+                O target = targets.get(numericKeys ? Long.valueOf(((Number) key).longValue()) : key);
+                if (target != null) {
+                    relation.setTarget(entity, target);
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the entities for the given keys: uses the identity scope first and loads the remaining entities using IN
+     * queries. Keys not matching any entity are not contained in the resulting map.
+     */
+    @SuppressWarnings("unchecked")
+    Map<Object, T> loadByKeys(Collection<?> keys) {
+        assertSinglePk();
+        Map<Object, T> result = new HashMap<Object, T>(keys.size() * 4 / 3 + 1);
+        List<Object> keysToLoad = new ArrayList<Object>(keys.size());
+        if (identityScope != null) {
+            identityScope.lock();
+            try {
+                for (Object key : keys) {
+                    T entity = identityScope.getNoLock((K) key);
+                    if (entity != null) {
+                        result.put(key, entity);
+                    } else {
+                        keysToLoad.add(key);
+                    }
+                }
+            } finally {
+                identityScope.unlock();
+            }
+        } else {
+            keysToLoad.addAll(keys);
+        }
+
+        int size = keysToLoad.size();
+        for (int start = 0; start < size; start += MAX_KEYS_PER_QUERY) {
+            int end = Math.min(start + MAX_KEYS_PER_QUERY, size);
+            StringBuilder builder = new StringBuilder(statements.getSelectAll());
+            builder.append("WHERE ");
+            SqlUtils.appendColumn(builder, "T", config.pkColumns[0]).append(" IN (");
+            SqlUtils.appendPlaceholders(builder, end - start).append(')');
+            String[] keyArray = new String[end - start];
+            for (int i = start; i < end; i++) {
+                keyArray[i - start] = keysToLoad.get(i).toString();
+            }
+            Cursor cursor = getReadDatabase().rawQuery(builder.toString(), keyArray);
+            List<T> loaded = loadAllAndCloseCursor(cursor);
+            for (T entity : loaded) {
+                result.put(getKey(entity), entity);
+            }
+        }
+        return result;
+    }
+
     /* (non-Javadoc)
 	 * @see de.greenrobot.dao.Dao#queryRaw(java.lang.String, java.lang.String)
 	 */
     @Override
 	public List<T> queryRaw(String where, String... selectionArg) {
-        Cursor cursor = db.rawQuery(statements.getSelectAll() + where, selectionArg);
-        return loadAllAndCloseCursor(cursor);
+        long start = metricsStart();
+        String sql = statements.getSelectAll() + where;
+        Cursor cursor = getReadDatabase().rawQuery(sql, selectionArg);
+        List<T> list = loadAllAndCloseCursor(cursor);
+        reportQuery(sql, selectionArg, list.size(), start);
+        return list;
     }
 
     /* (non-Javadoc)
@@ -509,10 +917,55 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
         // String sql = SqlUtils.createSqlDelete(config.tablename, null);
         // db.execSQL(sql);
 
-        db.execSQL("DELETE FROM '" + config.tablename + "'");
+        long start = metricsStart();
+        String sql = "DELETE FROM '" + config.tablename + "'";
+        db.execSQL(sql);
         if (identityScope != null) {
             identityScope.clear();
         }
+        reportMetrics(DaoMetrics.Operation.DELETE, sql, -1, DaoMetrics.Cache.NOT_USED, start);
+    }
+
+    /**
+     * Executes an UPDATE or DELETE statement in a transaction (used by queries). If there is an identity scope, the
+     * keys of the affected rows are selected before (selectKeysSql must select the PK column only) and their entities
+     * are detached afterwards. Without a single-column PK, the identity scope is cleared instead. The statement is
+     * reported to the metrics listener as the given operation.
+     */
+    protected void executeAndDetachAffected(DaoMetrics.Operation operation, String sql, Object[] bindArgs,
+            String selectKeysSql, String[] selectionArgs) {
+        long start = metricsStart();
+        int rows = -1;
+        db.beginTransaction();
+        try {
+            if (identityScope == null) {
+                db.execSQL(sql, bindArgs);
+            } else if (config.pkProperty == null) {
+                db.execSQL(sql, bindArgs);
+                identityScope.clear();
+            } else {
+                List<K> keys = new ArrayList<K>();
+                Cursor cursor = db.rawQuery(selectKeysSql, selectionArgs);
+                try {
+                    // readKey expects the offset of a full row
+                    int offset = -config.pkProperty.ordinal;
+                    while (cursor.moveToNext()) {
+                        keys.add(readKey(cursor, offset));
+                    }
+                } finally {
+                    cursor.close();
+                }
+                db.execSQL(sql, bindArgs);
+                if (!keys.isEmpty()) {
+                    identityScope.remove(keys);
+                }
+                rows = keys.size();
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        reportMetrics(operation, sql, rows, DaoMetrics.Cache.NOT_USED, start);
     }
 
     /* (non-Javadoc)
@@ -531,29 +984,21 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
     @Override
 	public void deleteByKey(K key) {
         assertSinglePk();
-        SQLiteStatement stmt = statements.getDeleteStatement();
-        if (db.isDbLockedByCurrentThread()) {
-            synchronized (stmt) {
-                deleteByKeyInsideSynchronized(key, stmt);
-            }
-        } else {
-            // Do TX to acquire a connection before locking the stmt to avoid deadlocks
-            db.beginTransaction();
-            try {
-                synchronized (stmt) {
-                    deleteByKeyInsideSynchronized(key, stmt);
-                }
-                db.setTransactionSuccessful();
-            } finally {
-                db.endTransaction();
-            }
+        long start = metricsStart();
+        StatementPool pool = statements.getDeletePool();
+        DatabaseStatement stmt = pool.acquire();
+        try {
+            deleteByKeyInsideSynchronized(key, stmt);
+        } finally {
+            pool.release(stmt);
         }
         if (identityScope != null) {
             identityScope.remove(key);
         }
+        reportMetrics(DaoMetrics.Operation.DELETE, pool.getSql(), 1, DaoMetrics.Cache.NOT_USED, start);
     }
 
-    private void deleteByKeyInsideSynchronized(K key, SQLiteStatement stmt) {
+    private void deleteByKeyInsideSynchronized(K key, DatabaseStatement stmt) {
         if (key instanceof Long) {
             stmt.bindLong(1, (Long) key);
         } else if (key == null) {
@@ -566,11 +1011,14 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
 
     private void deleteInTxInternal(Iterable<T> entities, Iterable<K> keys) {
         assertSinglePk();
-        SQLiteStatement stmt = statements.getDeleteStatement();
+        long start = metricsStart();
+        int rows = 0;
+        StatementPool pool = statements.getDeletePool();
         List<K> keysToRemoveFromIdentityScope = null;
         db.beginTransaction();
         try {
-            synchronized (stmt) {
+            DatabaseStatement stmt = pool.acquire();
+            try {
                 if (identityScope != null) {
                     identityScope.lock();
                     keysToRemoveFromIdentityScope = new ArrayList<K>();
@@ -580,6 +1028,7 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
                         for (T entity : entities) {
                             K key = getKeyVerified(entity);
                             deleteByKeyInsideSynchronized(key, stmt);
+                            rows++;
                             if (keysToRemoveFromIdentityScope != null) {
                                 keysToRemoveFromIdentityScope.add(key);
                             }
@@ -588,6 +1037,7 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
                     if (keys != null) {
                         for (K key : keys) {
                             deleteByKeyInsideSynchronized(key, stmt);
+                            rows++;
                             if (keysToRemoveFromIdentityScope != null) {
                                 keysToRemoveFromIdentityScope.add(key);
                             }
@@ -598,6 +1048,8 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
                         identityScope.unlock();
                     }
                 }
+            } finally {
+                pool.release(stmt);
             }
             db.setTransactionSuccessful();
             if (keysToRemoveFromIdentityScope != null && identityScope != null) {
@@ -606,6 +1058,7 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
         } finally {
             db.endTransaction();
         }
+        reportMetrics(DaoMetrics.Operation.DELETE, pool.getSql(), rows, DaoMetrics.Cache.NOT_USED, start);
     }
 
     /* (non-Javadoc)
@@ -640,6 +1093,49 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
         deleteInTxInternal(null, Arrays.asList(keys));
     }
 
+    /* (non-Javadoc)
+	 * @see de.greenrobot.dao.Dao#deleteByLongKeysInTx(long[])
+	 */
+    @Override
+	public void deleteByLongKeysInTx(long... keys) {
+        assertSinglePk();
+        if (!config.keyIsNumeric) {
+            throw new DaoException(this + " (" + config.tablename + ") does not have a numeric primary key");
+        }
+        long start = metricsStart();
+        StatementPool pool = statements.getDeletePool();
+        db.beginTransaction();
+        try {
+            DatabaseStatement stmt = pool.acquire();
+            try {
+                for (long key : keys) {
+                    stmt.bindLong(1, key);
+                    stmt.execute();
+                }
+            } finally {
+                pool.release(stmt);
+            }
+            db.setTransactionSuccessful();
+            if (identityScopeLong != null) {
+                identityScopeLong.remove2(keys);
+            } else if (identityScope != null) {
+                identityScope.lock();
+                try {
+                    for (long key : keys) {
+                        @SuppressWarnings("unchecked")
+                        K boxedKey = (K) Long.valueOf(key);
+                        identityScope.remove(boxedKey);
+                    }
+                } finally {
+                    identityScope.unlock();
+                }
+            }
+        } finally {
+            db.endTransaction();
+        }
+        reportMetrics(DaoMetrics.Operation.DELETE, pool.getSql(), keys.length, DaoMetrics.Cache.NOT_USED, start);
+    }
+
     /* (non-Javadoc)
 	 * @see de.greenrobot.dao.Dao#refresh(T)
 	 */
@@ -649,7 +1145,7 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
         K key = getKeyVerified(entity);
         String sql = statements.getSelectByKey();
         String[] keyArray = new String[] { key.toString() };
-        Cursor cursor = db.rawQuery(sql, keyArray);
+        Cursor cursor = getReadDatabase().rawQuery(sql, keyArray);
         try {
             boolean available = cursor.moveToFirst();
             if (!available) {
@@ -671,23 +1167,15 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
     @Override
 	public void update(T entity) {
         assertSinglePk();
-        SQLiteStatement stmt = statements.getUpdateStatement();
-        if (db.isDbLockedByCurrentThread()) {
-            synchronized (stmt) {
-                updateInsideSynchronized(entity, stmt, true);
-            }
-        } else {
-            // Do TX to acquire a connection before locking the stmt to avoid deadlocks
-            db.beginTransaction();
-            try {
-                synchronized (stmt) {
-                    updateInsideSynchronized(entity, stmt, true);
-                }
-                db.setTransactionSuccessful();
-            } finally {
-                db.endTransaction();
-            }
+        long start = metricsStart();
+        StatementPool pool = statements.getUpdatePool();
+        DatabaseStatement stmt = pool.acquire();
+        try {
+            updateInsideSynchronized(entity, stmt, true);
+        } finally {
+            pool.release(stmt);
         }
+        reportMetrics(DaoMetrics.Operation.UPDATE, pool.getSql(), 1, DaoMetrics.Cache.NOT_USED, start);
     }
 
     /* (non-Javadoc)
@@ -698,9 +1186,9 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
         return QueryBuilder.internalCreate(this);
     }
 
-    protected void updateInsideSynchronized(T entity, SQLiteStatement stmt, boolean lock) {
+    protected void updateInsideSynchronized(T entity, DatabaseStatement stmt, boolean lock) {
         // To do? Check if it's worth not to bind PKs here (performance).
-        bindValues(stmt, entity);
+        bindValuesTo(stmt, entity);
         int index = config.allColumns.length + 1;
         K key = getKey(entity);
         if (key instanceof Long) {
@@ -748,27 +1236,34 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
 	 */
     @Override
 	public void updateInTx(Iterable<T> entities) {
-        SQLiteStatement stmt = statements.getUpdateStatement();
+        long start = metricsStart();
+        int rows = 0;
+        StatementPool pool = statements.getUpdatePool();
         db.beginTransaction();
         try {
-            synchronized (stmt) {
+            DatabaseStatement stmt = pool.acquire();
+            try {
                 if (identityScope != null) {
                     identityScope.lock();
                 }
                 try {
                     for (T entity : entities) {
                         updateInsideSynchronized(entity, stmt, false);
+                        rows++;
                     }
                 } finally {
                     if (identityScope != null) {
                         identityScope.unlock();
                     }
                 }
+            } finally {
+                pool.release(stmt);
             }
             db.setTransactionSuccessful();
         } finally {
             db.endTransaction();
         }
+        reportMetrics(DaoMetrics.Operation.UPDATE, pool.getSql(), rows, DaoMetrics.Cache.NOT_USED, start);
     }
 
     /* (non-Javadoc)
@@ -790,7 +1285,12 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
 	 */
     @Override
 	public long count() {
-        return DatabaseUtils.queryNumEntries(db, '\'' + config.tablename + '\'');
+        DatabaseStatement stmt = getReadDatabase().compileStatement("SELECT COUNT(*) FROM '" + config.tablename + "'");
+        try {
+            return stmt.simpleQueryForLong();
+        } finally {
+            stmt.close();
+        }
     }
 
     /** See {@link #getKey(Object)}, but guarantees that the returned key is never null (throws if null). */
@@ -812,9 +1312,61 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
 	 */
     @Override
 	public SQLiteDatabase getDatabase() {
+        if (db instanceof StandardDatabase) {
+            return ((StandardDatabase) db).getRawDatabase();
+        }
+        throw new UnsupportedOperationException("No SQLiteDatabase available for " + db + ", use getDaoDatabase()");
+    }
+
+    /* (non-Javadoc)
+	 * @see de.greenrobot.dao.Dao#getDaoDatabase()
+	 */
+    @Override
+	public Database getDaoDatabase() {
         return db;
     }
 
+    /**
+     * The database to run reads on: a pooled read connection if enabled (see
+     * {@link AbstractDaoMaster#enableReadConnectionPool(int)}), otherwise the same as {@link #getDaoDatabase()}.
+     */
+    protected Database getReadDatabase() {
+        ReadConnectionPool readConnectionPool = config.getReadConnectionPool();
+        return readConnectionPool != null ? readConnectionPool.getReadDatabase() : db;
+    }
+
+    /**
+     * Start time of an operation for {@link #reportMetrics(DaoMetrics.Operation, String, int, DaoMetrics.Cache, long)};
+     * 0 if the session has neither a metrics listener nor a slow query log, so the clock is not read.
+     */
+    protected final long metricsStart() {
+        if (session == null || (session.getMetrics() == DaoMetrics.NONE && session.getSlowQueryLog() == null)) {
+            return 0;
+        }
+        return System.nanoTime();
+    }
+
+    /** Reports a completed operation to the session's metrics listener (if there was one at start). */
+    protected final void reportMetrics(DaoMetrics.Operation operation, String sql, int rows, DaoMetrics.Cache cache,
+            long start) {
+        if (start != 0) {
+            session.getMetrics().onOperation(operation, config.tablename, sql, rows, System.nanoTime() - start, cache);
+        }
+    }
+
+    /** Reports a completed query to the session's metrics listener and slow query log. */
+    protected final void reportQuery(String sql, String[] parameters, int rows, long start) {
+        if (start != 0) {
+            long durationNanos = System.nanoTime() - start;
+            session.getMetrics().onOperation(DaoMetrics.Operation.QUERY, config.tablename, sql, rows, durationNanos,
+                    DaoMetrics.Cache.NOT_USED);
+            SlowQueryLog slowQueryLog = session.getSlowQueryLog();
+            if (slowQueryLog != null) {
+                slowQueryLog.onQuery(getReadDatabase(), config.tablename, sql, parameters, rows, durationNanos);
+            }
+        }
+    }
+
     /** Reads the values from the current position of the given cursor and returns a new entity. */
     abstract protected T readEntity(Cursor cursor, int offset);
 
@@ -824,9 +1376,30 @@ public abstract class AbstractDao<T, K> implements Dao<T, K>  {
     /** Reads the values from the current position of the given cursor into an existing entity. */
     abstract protected void readEntity(Cursor cursor, T entity, int offset);
 
-    /** Binds the entity's values to the statement. Make sure to synchronize the statement outside of the method. */
+    /**
+     * Binds the entity's values to the statement. The calling thread has the statement to itself (it was taken from a
+     * {@link de.greenrobot.dao.internal.StatementPool}), so no synchronization is needed.
+     */
     abstract protected void bindValues(SQLiteStatement stmt, T entity);
 
+    /**
+     * Binds the entity's values to a statement of a database other than Android's SQLiteDatabase (e.g.
+     * {@link de.greenrobot.dao.database.JdbcDatabase}). DAOs generated before the Database abstraction do not override
+     * this and must be regenerated to be used with those databases.
+     */
+    protected void bindValues(DatabaseStatement stmt, T entity) {
+        throw new DaoException(getClass().getSimpleName() + " was generated for Android's SQLiteDatabase only, "
+                + "regenerate it to use " + db);
+    }
+
+    private void bindValuesTo(DatabaseStatement stmt, T entity) {
+        if (isStandardSQLite) {
+            bindValues((SQLiteStatement) stmt.getRawStatement(), entity);
+        } else {
+            bindValues(stmt, entity);
+        }
+    }
+
     /**
      * Updates the entity's key if possible (only for Long PKs currently). This method must always return the entity's
      * key regardless of whether the key existed before or not.
@@ -20,6 +20,8 @@ import java.util.HashMap;
 import java.util.Map;
 
 import android.database.sqlite.SQLiteDatabase;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.StandardDatabase;
 import de.greenrobot.dao.identityscope.IdentityScopeType;
 import de.greenrobot.dao.internal.DaoConfig;
 
@@ -29,11 +31,16 @@ import de.greenrobot.dao.internal.DaoConfig;
  * @author Markus
  */
 public abstract class AbstractDaoMaster {
-    protected final SQLiteDatabase db;
+    protected final Database db;
     protected final int schemaVersion;
     protected final Map<Class<? extends AbstractDao<?, ?>>, DaoConfig> daoConfigMap;
+    protected ReadConnectionPool readConnectionPool;
 
     public AbstractDaoMaster(SQLiteDatabase db, int schemaVersion) {
+        this(new StandardDatabase(db), schemaVersion);
+    }
+
+    public AbstractDaoMaster(Database db, int schemaVersion) {
         this.db = db;
         this.schemaVersion = schemaVersion;
 
@@ -51,9 +58,61 @@ public abstract class AbstractDaoMaster {
 
     /** Gets the SQLiteDatabase for custom database access. Not needed for greenDAO entities. */
     public SQLiteDatabase getDatabase() {
+        if (db instanceof StandardDatabase) {
+            return ((StandardDatabase) db).getRawDatabase();
+        }
+        throw new UnsupportedOperationException("No SQLiteDatabase available for " + db + ", use getDaoDatabase()");
+    }
+
+    /**
+     * Gets the {@link Database} for custom database access, which unlike {@link #getDatabase()} is also available for
+     * databases not backed by Android's SQLiteDatabase (e.g. JdbcDatabase). Not needed for greenDAO entities.
+     */
+    public Database getDaoDatabase() {
         return db;
     }
 
+    /**
+     * Switches the database to write-ahead-log (WAL) mode, in which readers do not block the writer and vice versa.
+     * Must not be called inside a transaction.
+     * 
+     * @return false if WAL is not available (API level below 11, in-memory database, or not an Android
+     *         {@link StandardDatabase})
+     */
+    public boolean enableWriteAheadLogging() {
+        if (!(db instanceof StandardDatabase)) {
+            return false;
+        }
+        return ReadConnectionPool.enableWriteAheadLogging(((StandardDatabase) db).getRawDatabase());
+    }
+
+    /**
+     * Enables WAL mode and opens the given number of read-only connections. DAOs and queries of sessions created
+     * afterwards run reads on the pooled connections, while writes (and reads inside transactions) go through the
+     * primary database. Call this before creating sessions.
+     * 
+     * @throws DaoException
+     *             if WAL is not available or a pool was enabled already
+     */
+    public ReadConnectionPool enableReadConnectionPool(int size) {
+        if (readConnectionPool != null) {
+            throw new DaoException("Read connection pool was enabled already");
+        }
+        if (!enableWriteAheadLogging()) {
+            throw new DaoException("Read connections require WAL, which is not available for " + db);
+        }
+        readConnectionPool = new ReadConnectionPool((StandardDatabase) db, size);
+        for (DaoConfig daoConfig : daoConfigMap.values()) {
+            daoConfig.setReadConnectionPool(readConnectionPool);
+        }
+        return readConnectionPool;
+    }
+
+    /** The read connection pool or null if not enabled; see {@link #enableReadConnectionPool(int)}. */
+    public ReadConnectionPool getReadConnectionPool() {
+        return readConnectionPool;
+    }
+
     public abstract AbstractDaoSession newSession();
 
     public abstract AbstractDaoSession newSession(IdentityScopeType type);
@@ -19,9 +19,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 
 import android.database.sqlite.SQLiteDatabase;
 import de.greenrobot.dao.async.AsyncSession;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.StandardDatabase;
 import de.greenrobot.dao.query.QueryBuilder;
 
 /**
@@ -44,10 +47,18 @@ import de.greenrobot.dao.query.QueryBuilder;
  * 
  */
 public class AbstractDaoSession {
-    private final SQLiteDatabase db;
+    private final Database db;
     private final Map<Class<?>, AbstractDao<?, ?>> entityToDao;
+    private volatile DaoMetrics metrics = DaoMetrics.NONE;
+    private volatile SlowQueryLog slowQueryLog;
+    private volatile Executor decodingExecutor;
+    private volatile int parallelDecodingMinRows;
 
     public AbstractDaoSession(SQLiteDatabase db) {
+        this(new StandardDatabase(db));
+    }
+
+    public AbstractDaoSession(Database db) {
         this.db = db;
         this.entityToDao = new HashMap<Class<?>, AbstractDao<?, ?>>();
     }
@@ -182,11 +193,77 @@ public class AbstractDaoSession {
         }
     }
 
+    /**
+     * Installs a listener receiving timing events of the operations and queries of this session's DAOs; pass null to
+     * remove it.
+     */
+    public void setMetrics(DaoMetrics metrics) {
+        this.metrics = metrics != null ? metrics : DaoMetrics.NONE;
+    }
+
+    /** The installed metrics listener; {@link DaoMetrics#NONE} if none is installed. */
+    public DaoMetrics getMetrics() {
+        return metrics;
+    }
+
+    /** Installs a log recording slow queries of this session's DAOs; pass null to remove it. */
+    public void setSlowQueryLog(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    /** The installed slow query log or null. */
+    public SlowQueryLog getSlowQueryLog() {
+        return slowQueryLog;
+    }
+
+    /**
+     * Opt-in: entity lists of at least minRows rows (e.g. loadAll or Query.list) are decoded in slices on the given
+     * executor; the calling thread decodes a slice, too. Decoded entities are attached to the identity scope
+     * afterwards in one step. This requires readEntity to be free of side effects (like in generated DAOs). Only pays
+     * off for large results on multi-core devices; see ParallelDecodingBenchmark for the crossover point. Pass null to
+     * disable.
+     */
+    public void setParallelDecoding(Executor executor, int minRows) {
+        if (executor != null && minRows < 1) {
+            throw new IllegalArgumentException("Min rows must be at least 1: " + minRows);
+        }
+        parallelDecodingMinRows = minRows;
+        decodingExecutor = executor;
+    }
+
+    /** The executor used for parallel decoding; null if disabled. */
+    public Executor getParallelDecodingExecutor() {
+        return decodingExecutor;
+    }
+
+    public int getParallelDecodingMinRows() {
+        return parallelDecodingMinRows;
+    }
+
     /** Gets the SQLiteDatabase for custom database access. Not needed for greenDAO entities. */
     public SQLiteDatabase getDatabase() {
+        if (db instanceof StandardDatabase) {
+            return ((StandardDatabase) db).getRawDatabase();
+        }
+        throw new UnsupportedOperationException("No SQLiteDatabase available for " + db + ", use getDaoDatabase()");
+    }
+
+    /**
+     * Gets the {@link Database} for custom database access, which unlike {@link #getDatabase()} is also available for
+     * databases not backed by Android's SQLiteDatabase (e.g. JdbcDatabase). Not needed for greenDAO entities.
+     */
+    public Database getDaoDatabase() {
         return db;
     }
 
+    /**
+     * Creates a new {@link UnitOfWork} recording entity operations until they are flushed in a single transaction. See
+     * {@link UnitOfWork} for details.
+     */
+    public UnitOfWork startUnitOfWork() {
+        return new UnitOfWork(this);
+    }
+
     /**
      * Creates a new {@link AsyncSession} to issue asynchronous entity operations. See {@link AsyncSession} for details.
      */
@@ -194,4 +271,14 @@ public class AbstractDaoSession {
         return new AsyncSession(this);
     }
 
+    /**
+     * Creates a new {@link AsyncSession} processing its operations using the given executor (e.g. a bounded pool shared
+     * by several sessions).
+     * 
+     * @see AsyncSession#AsyncSession(AbstractDaoSession, Executor)
+     */
+    public AsyncSession startAsyncSession(Executor executor) {
+        return new AsyncSession(this, executor);
+    }
+
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2011-2013 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao;
+
+import java.util.List;
+
+/**
+ * Thrown by {@link BatchWriter} if writing a batch failed. The transaction was rolled back and the batch was removed
+ * from the writer, which stays usable; the entities of the failed batch are available using {@link #getEntities()},
+ * e.g. to retry them individually.
+ */
+public class BatchWriteException extends DaoException {
+
+    private static final long serialVersionUID = 4329734958205372311L;
+
+    private final List<?> entities;
+
+    public BatchWriteException(String error, List<?> entities, Throwable cause) {
+        super(error, cause);
+        this.entities = entities;
+    }
+
+    /**
+     * The entities of the failed batch. They were detached from the identity scope, but keys assigned during the
+     * rolled back insert are not reset.
+     */
+    public List<?> getEntities() {
+        return entities;
+    }
+
+}
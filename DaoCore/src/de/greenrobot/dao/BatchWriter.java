@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2011-2013 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.greenrobot.dao;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+
+/**
+ * Inserts entities produced one by one (e.g. while parsing a file or network stream) in batches. Entities are buffered
+ * and written using the DAO's compiled insert statement in a transaction of their own once the batch size is reached
+ * or the oldest buffered entity is older than the max delay. Thus, memory stays flat and the database lock is only held
+ * for one batch at a time. The delay is checked when entities are added; call {@link #flush()} or {@link #close()} to
+ * write remaining entities. If writing a batch fails, the batch is dropped and handed to the caller using a
+ * {@link BatchWriteException}.<br/>
+ * <br/>
+ * Example:<br/>
+ * <code>
+ * BatchWriter&lt;Note&gt; writer = noteDao.batchWriter(500, 1000);<br/>
+ * while (parser.hasNext()) writer.add(parser.next());<br/>
+ * writer.close();
+ * </code>
+ *
+ * @param <T>
+ *            Entity type
+ * @see Dao#batchWriter(int, long)
+ */
+public class BatchWriter<T> implements Closeable {
+    private final AbstractDao<T, ?> dao;
+    private final int batchSize;
+    private final long maxDelayMillis;
+    private final ArrayList<T> buffer;
+
+    private long firstBufferedMillis;
+    private boolean closed;
+
+    private long rowsWritten;
+    private int batchCount;
+    private long writeNanos;
+
+    BatchWriter(AbstractDao<T, ?> dao, int batchSize, long maxDelayMillis) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1: " + batchSize);
+        }
+        this.dao = dao;
+        this.batchSize = batchSize;
+        this.maxDelayMillis = maxDelayMillis;
+        buffer = new ArrayList<T>(batchSize);
+    }
+
+    /** Buffers the given entity; writes the buffered entities if the batch is full or the max delay is exceeded. */
+    public synchronized void add(T entity) {
+        if (closed) {
+            throw new DaoException("BatchWriter was already closed");
+        }
+        long now = System.currentTimeMillis();
+        if (buffer.isEmpty()) {
+            firstBufferedMillis = now;
+        }
+        buffer.add(entity);
+        if (buffer.size() >= batchSize || now - firstBufferedMillis >= maxDelayMillis) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes all buffered entities in a single transaction.
+     * 
+     * @throws BatchWriteException
+     *             if writing fails: the transaction was rolled back, and the entities were removed from the buffer and
+     *             detached from the identity scope
+     */
+    public synchronized void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            dao.insertInTx(buffer);
+        } catch (RuntimeException e) {
+            ArrayList<T> failed = new ArrayList<T>(buffer);
+            buffer.clear();
+            for (T entity : failed) {
+                // The rolled back insert may have attached the entity already
+                if (dao.getKey(entity) != null) {
+                    dao.detach(entity);
+                }
+            }
+            throw new BatchWriteException("Writing a batch of " + failed.size() + " entities to "
+                    + dao.getTablename() + " failed, the batch was dropped", failed, e);
+        }
+        writeNanos += System.nanoTime() - start;
+        rowsWritten += buffer.size();
+        batchCount++;
+        buffer.clear();
+    }
+
+    /** Writes remaining entities; afterwards, no more entities can be added (even if writing failed). */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        flush();
+    }
+
+    /** Drops all buffered entities without writing them. */
+    public synchronized void discard() {
+        buffer.clear();
+    }
+
+    /** Number of entities currently buffered. */
+    public synchronized int getBufferedCount() {
+        return buffer.size();
+    }
+
+    public synchronized long getRowsWritten() {
+        return rowsWritten;
+    }
+
+    /** Number of transactions written so far. */
+    public synchronized int getBatchCount() {
+        return batchCount;
+    }
+
+    /** Time spent writing (inside transactions) in milliseconds. */
+    public synchronized long getWriteMillis() {
+        return writeNanos / 1000000;
+    }
+
+    /** Write throughput based on the time spent writing; 0 if nothing was written yet. */
+    public synchronized double getRowsPerSecond() {
+        return writeNanos == 0 ? 0 : rowsWritten * 1000000000d / writeNanos;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "BatchWriter[" + dao.getTablename() + ": " + rowsWritten + " rows in " + batchCount + " batches, "
+                + (long) getRowsPerSecond() + " rows/s]";
+    }
+
+}
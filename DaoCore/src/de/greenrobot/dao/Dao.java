@@ -4,6 +4,7 @@ import java.util.Collection;
 import java.util.List;
 
 import android.database.sqlite.SQLiteDatabase;
+import de.greenrobot.dao.database.Database;
 import de.greenrobot.dao.query.Query;
 import de.greenrobot.dao.query.QueryBuilder;
 
@@ -56,6 +57,17 @@ public interface Dao<T, K> {
 	 */
 	public abstract void insertInTx(T... entities);
 
+	/**
+	 * Creates a writer for streaming inserts: entities are added one by one and inserted in batches, each in its own
+	 * transaction. See {@link BatchWriter} for details.
+	 * 
+	 * @param batchSize
+	 *            Number of buffered entities that triggers a write
+	 * @param maxDelayMillis
+	 *            Maximum age of the oldest buffered entity; checked whenever an entity is added
+	 */
+	public abstract BatchWriter<T> batchWriter(int batchSize, long maxDelayMillis);
+
 	/**
 	 * Inserts the given entities in the database using a transaction. The given entities will become tracked if the PK
 	 * is set.
@@ -117,6 +129,32 @@ public interface Dao<T, K> {
 	 */
 	public abstract long insertOrReplace(T entity);
 
+	/**
+	 * Inserts the given entity or, if a row with the same PK exists, updates the existing row. In contrast to
+	 * {@link #insertOrReplace(Object)}, an existing row is not deleted and re-inserted: it keeps its row ID, delete
+	 * triggers do not fire and only indexes of changed columns are touched. Entities without PK are inserted and get
+	 * their PK set. The entity will be tracked by the identity scope. Uses "INSERT ... ON CONFLICT DO UPDATE" if
+	 * available (SQLite 3.24, Android 11); on older versions, an UPDATE followed by an INSERT if no row was changed
+	 * (both in one transaction).
+	 */
+	public abstract void upsert(T entity);
+
+	/**
+	 * Upserts the given entities in the database using a transaction; see {@link #upsert(Object)}.
+	 * 
+	 * @param entities
+	 *            The entities to insert or update.
+	 */
+	public abstract void upsertInTx(Iterable<T> entities);
+
+	/**
+	 * Upserts the given entities in the database using a transaction; see {@link #upsert(Object)}.
+	 * 
+	 * @param entities
+	 *            The entities to insert or update.
+	 */
+	public abstract void upsertInTx(T... entities);
+
 
 	/** A raw-style query where you can pass any WHERE clause and arguments. */
 	public abstract List<T> queryRaw(String where, String... selectionArg);
@@ -175,6 +213,16 @@ public interface Dao<T, K> {
 	 */
 	public abstract void deleteByKeyInTx(K... keys);
 
+	/**
+	 * Deletes all entities with the given long keys in the database using a transaction. Avoids boxing the keys and
+	 * takes the identity scope lock only once, which makes a difference when deleting many entities. Requires a
+	 * numeric primary key.
+	 * 
+	 * @param keys
+	 *            Keys of the entities to delete.
+	 */
+	public abstract void deleteByLongKeysInTx(long... keys);
+
 	/** Resets all locally changed properties of the entity by reloading the values from the database. */
 	public abstract void refresh(T entity);
 
@@ -200,7 +248,24 @@ public interface Dao<T, K> {
 
 	public abstract long count();
 
+	/**
+	 * Resolves the given to-one relation for all given entities at once using the identity scope and IN queries
+	 * instead of loading each target individually.
+	 * 
+	 * @param entities
+	 *            Source entities, e.g. the result of a query
+	 * @param relation
+	 *            The relation to resolve; generated DAOs provide those in their "Relations" inner class
+	 */
+	public abstract <O> void resolveToOne(List<T> entities, ToOneRelation<T, O> relation);
+
 	/** Gets the SQLiteDatabase for custom database access. Not needed for greenDAO entities. */
 	public abstract SQLiteDatabase getDatabase();
 
+	/**
+	 * Gets the {@link Database} for custom database access, which unlike {@link #getDatabase()} is also available for
+	 * databases not backed by Android's SQLiteDatabase (e.g. JdbcDatabase). Not needed for greenDAO entities.
+	 */
+	public abstract Database getDaoDatabase();
+
 }
\ No newline at end of file
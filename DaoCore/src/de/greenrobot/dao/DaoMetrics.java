@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao;
+
+/**
+ * Listener receiving timing events of DAO operations and queries; install it using
+ * {@link AbstractDaoSession#setMetrics(DaoMetrics)}. Events are reported synchronously on the thread running the
+ * operation after it completed, so implementations must be thread-safe and fast. If no listener is installed
+ * ({@link #NONE}), operations do not even read the clock. See {@link DaoMetricsHistogram} for a built-in
+ * implementation.
+ */
+public interface DaoMetrics {
+
+    public static enum Operation {
+        LOAD, INSERT, UPDATE, DELETE, QUERY,
+        /** Insert or update of existing rows by key (upsert and upsertInTx). */
+        UPSERT
+    }
+
+    /** Whether the operation was served by the identity scope (session cache). */
+    public static enum Cache {
+        /** The operation does not use the identity scope (or there is none). */
+        NOT_USED,
+        /** Served by the identity scope without touching the database. */
+        HIT,
+        /** Not in the identity scope, so the database was queried. */
+        MISS
+    }
+
+    /** Default listener ignoring all events. */
+    public static final DaoMetrics NONE = new DaoMetrics() {
+        @Override
+        public void onOperation(Operation operation, String tablename, String sql, int rows, long durationNanos,
+                Cache cache) {
+        }
+    };
+
+    /**
+     * Called after an operation completed successfully.
+     * 
+     * @param tablename
+     *            Table of the DAO running the operation
+     * @param sql
+     *            The SQL executed, with placeholders instead of values, so it serves as a fingerprint of the statement;
+     *            null if the database was not queried (cache hit)
+     * @param rows
+     *            Number of entities or rows written or read; -1 if unknown
+     */
+    void onOperation(Operation operation, String tablename, String sql, int rows, long durationNanos, Cache cache);
+
+}
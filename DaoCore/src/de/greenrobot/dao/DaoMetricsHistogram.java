@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link DaoMetrics} collecting latencies in memory, per table and operation. Latencies are counted in power-of-two
+ * microsecond buckets (1us, 2us, 4us, ... up to about 36 minutes), so memory stays constant and percentiles are
+ * approximated by the upper bound of their bucket. Use {@link #getStats(String, DaoMetrics.Operation)} or
+ * {@link #getAllStats()} to read a snapshot.
+ */
+public class DaoMetricsHistogram implements DaoMetrics {
+
+    private static final int BUCKET_COUNT = 32;
+
+    /** Snapshot of the metrics of one table and operation. */
+    public static class Stats {
+        private final String tablename;
+        private final Operation operation;
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long rows;
+        private long cacheHits;
+        private long cacheMisses;
+        private final long[] buckets = new long[BUCKET_COUNT];
+
+        Stats(String tablename, Operation operation) {
+            this.tablename = tablename;
+            this.operation = operation;
+        }
+
+        Stats(Stats source) {
+            this(source.tablename, source.operation);
+            count = source.count;
+            totalNanos = source.totalNanos;
+            maxNanos = source.maxNanos;
+            rows = source.rows;
+            cacheHits = source.cacheHits;
+            cacheMisses = source.cacheMisses;
+            System.arraycopy(source.buckets, 0, buckets, 0, BUCKET_COUNT);
+        }
+
+        void add(int rows, long durationNanos, Cache cache) {
+            count++;
+            totalNanos += durationNanos;
+            if (durationNanos > maxNanos) {
+                maxNanos = durationNanos;
+            }
+            if (rows > 0) {
+                this.rows += rows;
+            }
+            if (cache == Cache.HIT) {
+                cacheHits++;
+            } else if (cache == Cache.MISS) {
+                cacheMisses++;
+            }
+            long micros = durationNanos / 1000;
+            int bucket = micros <= 1 ? 0 : 64 - Long.numberOfLeadingZeros(micros - 1);
+            buckets[Math.min(bucket, BUCKET_COUNT - 1)]++;
+        }
+
+        public String getTablename() {
+            return tablename;
+        }
+
+        public Operation getOperation() {
+            return operation;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        /** Total number of entities or rows of all operations (unknown row counts are not included). */
+        public long getRows() {
+            return rows;
+        }
+
+        public double getAverageMillis() {
+            return count == 0 ? 0 : totalNanos / 1000000d / count;
+        }
+
+        public double getMaxMillis() {
+            return maxNanos / 1000000d;
+        }
+
+        /** Upper bound of the latency bucket containing the given percentile (0-100). */
+        public double getPercentileMillis(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(count * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += buckets[i];
+                if (seen >= rank && seen > 0) {
+                    return Math.min((1L << i) / 1000d, getMaxMillis());
+                }
+            }
+            return getMaxMillis();
+        }
+
+        public long getCacheHits() {
+            return cacheHits;
+        }
+
+        public long getCacheMisses() {
+            return cacheMisses;
+        }
+
+        /** Identity scope hit rate (0-1) of operations using it. */
+        public double getCacheHitRate() {
+            long total = cacheHits + cacheMisses;
+            return total == 0 ? 0 : cacheHits / (double) total;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats[" + tablename + " " + operation + ": count=" + count + ", rows=" + rows + ", avgMillis="
+                    + getAverageMillis() + ", p99Millis=" + getPercentileMillis(99) + ", maxMillis=" + getMaxMillis()
+                    + ", cacheHitRate=" + getCacheHitRate() + "]";
+        }
+    }
+
+    /** Stats per operation (by ordinal), per table. */
+    private final Map<String, Stats[]> statsByTable = new HashMap<String, Stats[]>();
+
+    @Override
+    public void onOperation(Operation operation, String tablename, String sql, int rows, long durationNanos,
+            Cache cache) {
+        synchronized (statsByTable) {
+            Stats[] tableStats = statsByTable.get(tablename);
+            if (tableStats == null) {
+                tableStats = new Stats[Operation.values().length];
+                statsByTable.put(tablename, tableStats);
+            }
+            Stats stats = tableStats[operation.ordinal()];
+            if (stats == null) {
+                stats = new Stats(tablename, operation);
+                tableStats[operation.ordinal()] = stats;
+            }
+            stats.add(rows, durationNanos, cache);
+        }
+    }
+
+    /** Snapshot of the given table and operation; null if there was no such operation yet. */
+    public Stats getStats(String tablename, Operation operation) {
+        synchronized (statsByTable) {
+            Stats[] tableStats = statsByTable.get(tablename);
+            Stats stats = tableStats != null ? tableStats[operation.ordinal()] : null;
+            return stats != null ? new Stats(stats) : null;
+        }
+    }
+
+    /** Snapshots of all tables and operations. */
+    public List<Stats> getAllStats() {
+        synchronized (statsByTable) {
+            List<Stats> list = new ArrayList<Stats>();
+            for (Stats[] tableStats : statsByTable.values()) {
+                for (Stats stats : tableStats) {
+                    if (stats != null) {
+                        list.add(new Stats(stats));
+                    }
+                }
+            }
+            return list;
+        }
+    }
+
+    public void reset() {
+        synchronized (statsByTable) {
+            statsByTable.clear();
+        }
+    }
+
+}
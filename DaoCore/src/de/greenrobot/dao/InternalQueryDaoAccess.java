@@ -3,6 +3,7 @@ package de.greenrobot.dao;
 import java.util.List;
 
 import android.database.Cursor;
+import de.greenrobot.dao.database.Database;
 import de.greenrobot.dao.internal.TableStatements;
 
 /** For internal use by greenDAO only. */
@@ -25,6 +26,26 @@ public final class InternalQueryDaoAccess<T> {
         return dao.loadUniqueAndCloseCursor(cursor);
     }
 
+    public T loadCurrentDeep(Cursor cursor, boolean lock) {
+        return dao.loadCurrentDeep(cursor, lock);
+    }
+
+    public List<T> loadDeepAllAndCloseCursor(Cursor cursor) {
+        return dao.loadDeepAllAndCloseCursor(cursor);
+    }
+
+    public T loadDeepUniqueAndCloseCursor(Cursor cursor) {
+        return dao.loadDeepUniqueAndCloseCursor(cursor);
+    }
+
+    public List<T> loadPartialAllAndCloseCursor(Cursor cursor, int[] propertyOrdinals) {
+        return dao.loadPartialAllAndCloseCursor(cursor, propertyOrdinals);
+    }
+
+    public T loadPartialUniqueAndCloseCursor(Cursor cursor, int[] propertyOrdinals) {
+        return dao.loadPartialUniqueAndCloseCursor(cursor, propertyOrdinals);
+    }
+
     public TableStatements getStatements() {
         return dao.getStatements();
     }
@@ -33,4 +54,34 @@ public final class InternalQueryDaoAccess<T> {
         return dao.getStatements();
     }
 
+    public static <T2> Object getKey(AbstractDao<T2, ?> dao, T2 entity) {
+        return dao.getKey(entity);
+    }
+
+    public static <T2> void executeAndDetachAffected(AbstractDao<T2, ?> dao, DaoMetrics.Operation operation,
+            String sql, Object[] bindArgs, String selectKeysSql, String[] selectionArgs) {
+        dao.executeAndDetachAffected(operation, sql, bindArgs, selectKeysSql, selectionArgs);
+    }
+
+    public static Database getReadDatabase(AbstractDao<?, ?> dao) {
+        return dao.getReadDatabase();
+    }
+
+    public static long metricsStart(AbstractDao<?, ?> dao) {
+        return dao.metricsStart();
+    }
+
+    public static void reportMetrics(AbstractDao<?, ?> dao, DaoMetrics.Operation operation, String sql, int rows,
+            long start) {
+        dao.reportMetrics(operation, sql, rows, DaoMetrics.Cache.NOT_USED, start);
+    }
+
+    public static void reportQuery(AbstractDao<?, ?> dao, String sql, String[] parameters, int rows, long start) {
+        dao.reportQuery(sql, parameters, rows, start);
+    }
+
+    public static <T2> String getSelectDeep(AbstractDao<T2, ?> dao) {
+        return dao.getSelectDeep();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.greenrobot.dao;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import android.database.CrossProcessCursor;
+import android.database.Cursor;
+import android.database.CursorWindow;
+import de.greenrobot.dao.database.JdbcCursor;
+import de.greenrobot.dao.internal.FastCursor;
+
+/**
+ * Decodes the rows of a cursor into entities using several threads; see
+ * {@link AbstractDaoSession#setParallelDecoding(Executor, int)}. Rows are split into slices, each read by a cursor of
+ * its own (a FastCursor on the current window or a copy of a JdbcCursor). Decoded entities are not attached; the
+ * caller does that in a single step afterwards.
+ */
+class ParallelEntityDecoder<T> {
+    /** Slices smaller than this are not worth the hand-over to another thread. */
+    static final int MIN_SLICE_ROWS = 256;
+
+    private final AbstractDao<T, ?> dao;
+    private final Executor executor;
+    private final int maxSlices;
+
+    ParallelEntityDecoder(AbstractDao<T, ?> dao, Executor executor) {
+        this.dao = dao;
+        this.executor = executor;
+        maxSlices = Runtime.getRuntime().availableProcessors();
+    }
+
+    /** True if the rows of the given cursor can be read by several threads. */
+    static boolean canDecode(Cursor cursor) {
+        return cursor instanceof JdbcCursor
+                || (cursor instanceof CrossProcessCursor && ((CrossProcessCursor) cursor).getWindow() != null);
+    }
+
+    /** Decodes all rows; the returned array holds the entities in cursor order. */
+    Object[] decode(Cursor cursor) {
+        int count = cursor.getCount();
+        Object[] entities = new Object[count];
+        if (cursor instanceof JdbcCursor) {
+            JdbcCursor jdbcCursor = (JdbcCursor) cursor;
+            Cursor[] cursors = new Cursor[sliceCount(count)];
+            for (int i = 0; i < cursors.length; i++) {
+                cursors[i] = jdbcCursor.copy();
+            }
+            decodeRange(cursors, 0, count, entities);
+        } else {
+            // Decode window by window; the window is only refilled after all its slices are done
+            CrossProcessCursor crossProcessCursor = (CrossProcessCursor) cursor;
+            int position = 0;
+            while (position < count) {
+                if (!crossProcessCursor.moveToPosition(position)) {
+                    throw new DaoException("Could not move cursor to position " + position + " of " + count);
+                }
+                CursorWindow window = crossProcessCursor.getWindow();
+                int end = window != null ? window.getStartPosition() + window.getNumRows() : 0;
+                if (end <= position) {
+                    throw new DaoException("Cursor window does not contain position " + position);
+                }
+                Cursor[] cursors = new Cursor[sliceCount(end - position)];
+                for (int i = 0; i < cursors.length; i++) {
+                    cursors[i] = new FastCursor(window);
+                }
+                decodeRange(cursors, position, end, entities);
+                position = end;
+            }
+        }
+        return entities;
+    }
+
+    private int sliceCount(int rows) {
+        return Math.max(1, Math.min(maxSlices, rows / MIN_SLICE_ROWS));
+    }
+
+    /**
+     * Decodes the rows from start (inclusive) to end (exclusive) using one slice per given cursor. Slices are offered to
+     * the executor, but the calling thread runs every slice no other thread has started yet. Thus, it only waits for
+     * slices actually in progress, and does not deadlock if it is a thread of the executor itself (e.g. loadAll called
+     * from a task running on the same executor).
+     */
+    private void decodeRange(Cursor[] cursors, int start, int end, Object[] entities) {
+        int sliceRows = (end - start + cursors.length - 1) / cursors.length;
+        Slice[] slices = new Slice[cursors.length];
+        CountDownLatch latch = new CountDownLatch(slices.length);
+        for (int i = 0; i < slices.length; i++) {
+            int sliceStart = start + i * sliceRows;
+            slices[i] = new Slice(dao, cursors[i], sliceStart, Math.min(sliceStart + sliceRows, end), entities, latch);
+        }
+        for (int i = 1; i < slices.length; i++) {
+            try {
+                executor.execute(slices[i]);
+            } catch (RejectedExecutionException e) {
+                // The calling thread runs it below
+            }
+        }
+        for (Slice slice : slices) {
+            slice.run();
+        }
+        // Slices claimed by other threads must be done before the window is refilled
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DaoException("Interrupted while decoding entities", e);
+        }
+        for (Slice slice : slices) {
+            Throwable error = slice.error;
+            if (error instanceof RuntimeException) {
+                throw (RuntimeException) error;
+            } else if (error instanceof Error) {
+                throw (Error) error;
+            } else if (error != null) {
+                throw new DaoException("Could not decode entities", error);
+            }
+        }
+    }
+
+    /** Rows decoded by the first thread claiming the slice; running it again (e.g. by the executor) does nothing. */
+    private static class Slice implements Runnable {
+        private final AbstractDao<?, ?> dao;
+        private final Cursor cursor;
+        private final int start;
+        private final int end;
+        private final Object[] entities;
+        private final CountDownLatch latch;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        volatile Throwable error;
+
+        Slice(AbstractDao<?, ?> dao, Cursor cursor, int start, int end, Object[] entities, CountDownLatch latch) {
+            this.dao = dao;
+            this.cursor = cursor;
+            this.start = start;
+            this.end = end;
+            this.entities = entities;
+            this.latch = latch;
+        }
+
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                for (int position = start; position < end; position++) {
+                    cursor.moveToPosition(position);
+                    entities[position] = dao.readEntity(cursor, 0);
+                }
+            } catch (Throwable th) {
+                error = th;
+            } finally {
+                latch.countDown();
+            }
+        }
+    }
+
+}
@@ -19,6 +19,8 @@ package de.greenrobot.dao;
 import java.util.Collection;
 
 import de.greenrobot.dao.internal.SqlUtils;
+import de.greenrobot.dao.query.Aggregate;
+import de.greenrobot.dao.query.SetClause;
 import de.greenrobot.dao.query.WhereCondition;
 import de.greenrobot.dao.query.WhereCondition.PropertyCondition;
 import de.greenrobot.dao.selectable.PropertyWithAlias;
@@ -51,6 +53,11 @@ public class Property implements Selectable {
         return new PropertyCondition(this, "=?", value);
     }
 
+    /** Creates an assignment of the given value to this property for update queries. */
+    public SetClause set(Object value) {
+        return new SetClause(this, value);
+    }
+
     /** Creates an "not equal ('<>')" condition  for this property. */
     public WhereCondition notEq(Object value) {
         return new PropertyCondition(this, "<>?", value);
@@ -121,6 +128,31 @@ public class Property implements Selectable {
         return new PropertyCondition(this, " IS NOT NULL");
     }
     
+    /** Creates a SUM aggregate of this property; see {@link Aggregate}. */
+    public Aggregate sum() {
+        return Aggregate.sum(this);
+    }
+
+    /** Creates an AVG aggregate of this property; see {@link Aggregate}. */
+    public Aggregate avg() {
+        return Aggregate.avg(this);
+    }
+
+    /** Creates a MIN aggregate of this property; see {@link Aggregate}. */
+    public Aggregate min() {
+        return Aggregate.min(this);
+    }
+
+    /** Creates a MAX aggregate of this property; see {@link Aggregate}. */
+    public Aggregate max() {
+        return Aggregate.max(this);
+    }
+
+    /** Creates a COUNT(DISTINCT ...) aggregate of this property; see {@link Aggregate}. */
+    public Aggregate countDistinct() {
+        return Aggregate.countDistinct(this);
+    }
+
     public PropertyWithAlias withAlias(String alias) {
     	return new PropertyWithAlias(this, alias);
     }
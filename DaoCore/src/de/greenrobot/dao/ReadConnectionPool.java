@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import android.database.sqlite.SQLiteDatabase;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.StandardDatabase;
+
+/**
+ * Read-only connections to the database file of a primary database in write-ahead-log (WAL) mode. In WAL mode, readers
+ * do not block the writer and vice versa, so DAOs and queries can read on the pooled connections while writes go
+ * through the primary database. Reads of a thread inside a transaction of the primary database use the primary
+ * database, so they see the changes of their own transaction. See
+ * {@link AbstractDaoMaster#enableReadConnectionPool(int)}.
+ */
+public class ReadConnectionPool {
+
+    /**
+     * Enables WAL for the given database using reflection (API level 11+); must not be called inside a transaction.
+     * 
+     * @return false if WAL is not available (API level below 11 or in-memory database)
+     */
+    public static boolean enableWriteAheadLogging(SQLiteDatabase db) {
+        try {
+            Method method = SQLiteDatabase.class.getMethod("enableWriteAheadLogging");
+            return (Boolean) method.invoke(db);
+        } catch (NoSuchMethodException e) {
+            return false;
+        } catch (Exception e) {
+            throw new DaoException("Could not enable WAL", e);
+        }
+    }
+
+    private final StandardDatabase primary;
+    private final StandardDatabase[] connections;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile boolean closed;
+
+    /** Opens the given number of read-only connections; the primary database must already be in WAL mode. */
+    public ReadConnectionPool(SQLiteDatabase primary, int size) {
+        this(new StandardDatabase(primary), size);
+    }
+
+    /** Like {@link #ReadConnectionPool(SQLiteDatabase, int)}; reads inside transactions return the given primary. */
+    public ReadConnectionPool(StandardDatabase primary, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be at least 1: " + size);
+        }
+        String path = primary.getRawDatabase().getPath();
+        if (path == null || ":memory:".equals(path)) {
+            throw new DaoException("Read connections require a database file");
+        }
+        this.primary = primary;
+        connections = new StandardDatabase[size];
+        for (int i = 0; i < size; i++) {
+            SQLiteDatabase connection = SQLiteDatabase.openDatabase(path, null, SQLiteDatabase.OPEN_READONLY);
+            connections[i] = new StandardDatabase(connection);
+        }
+    }
+
+    /**
+     * A database to read from: the primary database if the current thread is inside a transaction of it (or the pool
+     * is closed), otherwise one of the pooled connections (round robin).
+     */
+    public Database getReadDatabase() {
+        if (closed || primary.isDbLockedByCurrentThread()) {
+            return primary;
+        }
+        int index = (next.getAndIncrement() & Integer.MAX_VALUE) % connections.length;
+        return connections[index];
+    }
+
+    public Database getPrimary() {
+        return primary;
+    }
+
+    public int getSize() {
+        return connections.length;
+    }
+
+    /**
+     * Closes the pooled connections right away; afterwards, reads use the primary database. This does not wait for
+     * running reads: the caller must stop reading threads and close cursors and lazy lists obtained from pooled
+     * connections first. Reads still using a pooled connection fail once it is closed.
+     */
+    public void close() {
+        closed = true;
+        for (StandardDatabase connection : connections) {
+            connection.close();
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+}
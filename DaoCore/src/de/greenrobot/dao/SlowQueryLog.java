@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import android.database.Cursor;
+import de.greenrobot.dao.database.Database;
+
+/**
+ * Records queries exceeding a time threshold in a bounded ring buffer; install it using
+ * {@link AbstractDaoSession#setSlowQueryLog(SlowQueryLog)}. Covers queries built by QueryBuilder or
+ * {@link AbstractDao#queryRawCreate(String, Object...)} (list, unique and count) and
+ * {@link AbstractDao#queryRaw(String, String...)}. For each distinct SQL, EXPLAIN QUERY PLAN is run once when it is
+ * first recorded (on the querying thread), and full table scans are flagged: they usually indicate a missing index in
+ * the schema. Plans of the {@value #MAX_CACHED_PLANS} most recently recorded SQL statements are cached. Use
+ * {@link #getEntries()} or {@link #dump()} to read the log.<br/>
+ * <br/>
+ * This class is thread-safe.
+ */
+public class SlowQueryLog {
+
+    /** A recorded slow query. */
+    public static class Entry {
+        private final long timeMillis;
+        private final String tablename;
+        private final String sql;
+        private final String[] values;
+        private final int rows;
+        private final long durationNanos;
+        private final Plan plan;
+
+        Entry(long timeMillis, String tablename, String sql, String[] values, int rows, long durationNanos, Plan plan) {
+            this.timeMillis = timeMillis;
+            this.tablename = tablename;
+            this.sql = sql;
+            this.values = values;
+            this.rows = rows;
+            this.durationNanos = durationNanos;
+            this.plan = plan;
+        }
+
+        /** Wall clock time the query completed. */
+        public long getTimeMillis() {
+            return timeMillis;
+        }
+
+        public String getTablename() {
+            return tablename;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        /** Values bound to the placeholders of the SQL (may be null). */
+        public String[] getValues() {
+            return values;
+        }
+
+        public int getRows() {
+            return rows;
+        }
+
+        public double getDurationMillis() {
+            return durationNanos / 1000000d;
+        }
+
+        /** Output of EXPLAIN QUERY PLAN, one line per step. */
+        public String getQueryPlan() {
+            return plan.text;
+        }
+
+        /** True if the query plan scans a table without using an index. */
+        public boolean isFullTableScan() {
+            return plan.fullTableScan;
+        }
+
+        @Override
+        public String toString() {
+            return getDurationMillis() + "ms, " + rows + " rows" + (plan.fullTableScan ? ", FULL TABLE SCAN" : "")
+                    + ": " + sql + " " + Arrays.toString(values) + "\n" + plan.text;
+        }
+    }
+
+    private static class Plan {
+        final String text;
+        final boolean fullTableScan;
+
+        Plan(String text, boolean fullTableScan) {
+            this.text = text;
+            this.fullTableScan = fullTableScan;
+        }
+    }
+
+    /** Number of query plans kept; the least recently used plan is evicted first. */
+    public static final int MAX_CACHED_PLANS = 64;
+
+    private final long thresholdNanos;
+    private final Entry[] ring;
+    private int next;
+    private int size;
+    /** Access-ordered, so the least recently used plan is the eldest entry. */
+    private final Map<String, Plan> plans = new LinkedHashMap<String, Plan>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Plan> eldest) {
+            return size() > MAX_CACHED_PLANS;
+        }
+    };
+
+    /**
+     * @param thresholdMillis
+     *            Queries taking at least this long are recorded
+     * @param capacity
+     *            Number of entries kept; the oldest entries are overwritten
+     */
+    public SlowQueryLog(long thresholdMillis, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+        }
+        thresholdNanos = thresholdMillis * 1000000;
+        ring = new Entry[capacity];
+    }
+
+    /** Called by DAOs after a query completed; records it if it exceeds the threshold. */
+    void onQuery(Database db, String tablename, String sql, String[] values, int rows, long durationNanos) {
+        if (durationNanos < thresholdNanos) {
+            return;
+        }
+        Plan plan;
+        synchronized (plans) {
+            plan = plans.get(sql);
+        }
+        if (plan == null) {
+            plan = explain(db, sql, values);
+            synchronized (plans) {
+                plans.put(sql, plan);
+            }
+        }
+        String[] valuesCopy = values != null ? values.clone() : null;
+        Entry entry = new Entry(System.currentTimeMillis(), tablename, sql, valuesCopy, rows, durationNanos, plan);
+        synchronized (ring) {
+            ring[next] = entry;
+            next = (next + 1) % ring.length;
+            if (size < ring.length) {
+                size++;
+            }
+        }
+    }
+
+    private Plan explain(Database db, String sql, String[] values) {
+        StringBuilder text = new StringBuilder();
+        boolean fullTableScan = false;
+        try {
+            Cursor cursor = db.rawQuery("EXPLAIN QUERY PLAN " + sql, values);
+            try {
+                // The last column is the detail column in all SQLite versions
+                int detailColumn = cursor.getColumnCount() - 1;
+                while (cursor.moveToNext()) {
+                    String detail = cursor.getString(detailColumn);
+                    if (text.length() > 0) {
+                        text.append('\n');
+                    }
+                    text.append(detail);
+                    if (detail != null && detail.startsWith("SCAN") && !detail.contains(" INDEX")) {
+                        fullTableScan = true;
+                    }
+                }
+            } finally {
+                cursor.close();
+            }
+        } catch (RuntimeException e) {
+            DaoLog.w("Could not explain query: " + sql, e);
+            text.append("EXPLAIN QUERY PLAN failed: ").append(e.getMessage());
+        }
+        return new Plan(text.toString(), fullTableScan);
+    }
+
+    /** The recorded entries, oldest first. */
+    public List<Entry> getEntries() {
+        synchronized (ring) {
+            List<Entry> entries = new ArrayList<Entry>(size);
+            int first = (next - size + ring.length) % ring.length;
+            for (int i = 0; i < size; i++) {
+                entries.add(ring[(first + i) % ring.length]);
+            }
+            return entries;
+        }
+    }
+
+    /** The recorded entries as text, oldest first. */
+    public String dump() {
+        StringBuilder builder = new StringBuilder();
+        for (Entry entry : getEntries()) {
+            builder.append(entry).append("\n\n");
+        }
+        return builder.toString();
+    }
+
+    /** Removes all entries and cached query plans. */
+    public void clear() {
+        synchronized (ring) {
+            Arrays.fill(ring, null);
+            next = 0;
+            size = 0;
+        }
+        synchronized (plans) {
+            plans.clear();
+        }
+    }
+
+    public long getThresholdMillis() {
+        return thresholdNanos / 1000000;
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2011-2013 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.greenrobot.dao;
+
+import java.util.List;
+
+import de.greenrobot.dao.selectable.PropertyWithAlias;
+
+/**
+ * Meta data describing a to-one relation of an entity; used to resolve the relation for many entities at once (see
+ * {@link AbstractDao#resolveToOne(List, ToOneRelation)}). Generated DAOs provide instances in their "Relations" inner
+ * class.
+ *
+ * @param <S>
+ *            Source entity type (holding the foreign key)
+ * @param <T>
+ *            Target entity type
+ */
+public abstract class ToOneRelation<S, T> {
+    public final String name;
+    public final Class<T> targetClass;
+    /** Table alias of the target table in deep queries (e.g. "T0"). */
+    public final String deepAlias;
+
+    protected ToOneRelation(String name, Class<T> targetClass, String deepAlias) {
+        this.name = name;
+        this.targetClass = targetClass;
+        this.deepAlias = deepAlias;
+    }
+
+    /**
+     * References the given property of the target entity in deep queries (see
+     * {@link de.greenrobot.dao.query.QueryBuilder#buildDeep()}), e.g. to order by a column of the joined table.
+     */
+    public PropertyWithAlias target(Property targetProperty) {
+        return targetProperty.withAlias(deepAlias);
+    }
+
+    /** Returns the foreign key of the given source entity, or null if it is not set. */
+    public abstract Object getForeignKey(S source);
+
+    /** Sets the resolved target entity (never null) on the given source entity. */
+    public abstract void setTarget(S source, T target);
+
+}
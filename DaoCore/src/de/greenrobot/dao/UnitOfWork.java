@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.greenrobot.dao.database.Database;
+
+/**
+ * Records inserts, updates and deletes of entities instead of executing them immediately; {@link #flush()} executes
+ * them in a single transaction, grouped by DAO and operation, using the DAOs' compiled statements (e.g.
+ * {@link AbstractDao#insertInTx(Iterable)}). Operations are tracked per entity key (per entity object for entities
+ * without a key yet), and redundant ones are eliminated before touching the database:
+ * <ul>
+ * <li>insert or update followed by update: the entity's values at flush time are written once</li>
+ * <li>insert followed by delete: nothing is written</li>
+ * <li>update followed by delete: only the delete is executed</li>
+ * <li>delete followed by insert: the entity is written using insert or replace</li>
+ * </ul>
+ * If another object with the same key is recorded, it takes the place of the previously recorded object; e.g. deleting
+ * a loaded entity and inserting a new object with its key writes the new object using insert or replace.
+ * Within a DAO, entities are written in the order they were first recorded. Inserts, replaces and updates are executed
+ * in the order the DAOs were first used, followed by deletes in reverse order, so parent rows are written before and
+ * deleted after their children if the parent DAO was used first. Keys of inserted entities are set during flush.<br/>
+ * <br/>
+ * This class is thread-safe.
+ * 
+ * @see AbstractDaoSession#startUnitOfWork()
+ */
+public class UnitOfWork {
+
+    private static enum Operation {
+        INSERT, INSERT_OR_REPLACE, UPDATE, DELETE
+    }
+
+    private static class PendingEntity {
+        /** The object recorded last for this key. */
+        Object entity;
+        /** Null if eliminated. */
+        Operation operation;
+
+        PendingEntity(Object entity, Operation operation) {
+            this.entity = entity;
+            this.operation = operation;
+        }
+    }
+
+    /** Pending operations of one DAO in the order entities were first recorded. */
+    private static class PendingOperations {
+        final ArrayList<PendingEntity> entities = new ArrayList<PendingEntity>();
+        final IdentityHashMap<Object, PendingEntity> index = new IdentityHashMap<Object, PendingEntity>();
+        final HashMap<Object, PendingEntity> indexByKey = new HashMap<Object, PendingEntity>();
+    }
+
+    private final AbstractDaoSession daoSession;
+    private final LinkedHashMap<AbstractDao<?, ?>, PendingOperations> pendingByDao;
+
+    private int pendingCount;
+    private long eliminatedCount;
+    private long flushedCount;
+
+    public UnitOfWork(AbstractDaoSession daoSession) {
+        this.daoSession = daoSession;
+        pendingByDao = new LinkedHashMap<AbstractDao<?, ?>, PendingOperations>();
+    }
+
+    /** Records an insert of the given entity. */
+    public synchronized void insert(Object entity) {
+        PendingEntity pending = getPending(entity);
+        if (pending.operation == null) {
+            record(pending, entity, Operation.INSERT);
+        } else if (pending.operation == Operation.DELETE) {
+            pending.entity = entity;
+            pending.operation = Operation.INSERT_OR_REPLACE;
+            eliminatedCount++;
+        } else {
+            throw new DaoException("Entity was already recorded for " + pending.operation + ": " + entity);
+        }
+    }
+
+    /** Records an insert or replace of the given entity. */
+    public synchronized void insertOrReplace(Object entity) {
+        PendingEntity pending = getPending(entity);
+        if (pending.operation == null) {
+            record(pending, entity, Operation.INSERT_OR_REPLACE);
+        } else {
+            pending.entity = entity;
+            if (pending.operation != Operation.INSERT) {
+                pending.operation = Operation.INSERT_OR_REPLACE;
+            }
+            eliminatedCount++;
+        }
+    }
+
+    /** Records an update of the given entity; merged with a pending insert or update of it. */
+    public synchronized void update(Object entity) {
+        PendingEntity pending = getPending(entity);
+        if (pending.operation == null) {
+            record(pending, entity, Operation.UPDATE);
+        } else if (pending.operation == Operation.DELETE) {
+            throw new DaoException("Entity was already recorded for delete: " + entity);
+        } else {
+            pending.entity = entity;
+            eliminatedCount++;
+        }
+    }
+
+    /** Records a delete of the given entity; a pending insert of it is dropped instead. */
+    public synchronized void delete(Object entity) {
+        PendingEntity pending = getPending(entity);
+        if (pending.operation == null) {
+            record(pending, entity, Operation.DELETE);
+        } else if (pending.operation == Operation.INSERT) {
+            pending.operation = null;
+            pendingCount--;
+            eliminatedCount += 2;
+        } else if (pending.operation == Operation.DELETE) {
+            eliminatedCount++;
+        } else {
+            pending.entity = entity;
+            pending.operation = Operation.DELETE;
+            eliminatedCount++;
+        }
+    }
+
+    /**
+     * Looks up the pending entry by object and then by key; the caller sets {@link PendingEntity#entity} to the given
+     * object if it records the operation.
+     */
+    @SuppressWarnings("unchecked")
+    private PendingEntity getPending(Object entity) {
+        AbstractDao<Object, ?> dao = (AbstractDao<Object, ?>) daoSession.getDao(entity.getClass());
+        PendingOperations operations = pendingByDao.get(dao);
+        if (operations == null) {
+            operations = new PendingOperations();
+            pendingByDao.put(dao, operations);
+        }
+        PendingEntity pending = operations.index.get(entity);
+        if (pending == null) {
+            Object key = dao.getKey(entity);
+            if (key != null) {
+                pending = operations.indexByKey.get(key);
+            }
+            if (pending == null) {
+                pending = new PendingEntity(entity, null);
+                operations.entities.add(pending);
+                if (key != null) {
+                    operations.indexByKey.put(key, pending);
+                }
+            }
+            operations.index.put(entity, pending);
+        }
+        return pending;
+    }
+
+    private void record(PendingEntity pending, Object entity, Operation operation) {
+        pending.entity = entity;
+        pending.operation = operation;
+        pendingCount++;
+    }
+
+    /**
+     * Executes all pending operations in a single transaction (joining the transaction of the current thread if there
+     * is one). If an operation fails, the transaction is rolled back and the operations remain pending.
+     */
+    public synchronized void flush() {
+        if (pendingCount == 0) {
+            pendingByDao.clear();
+            return;
+        }
+        List<AbstractDao<?, ?>> daos = new ArrayList<AbstractDao<?, ?>>(pendingByDao.keySet());
+        Database db = daoSession.getDaoDatabase();
+        db.beginTransaction();
+        try {
+            for (AbstractDao<?, ?> dao : daos) {
+                PendingOperations operations = pendingByDao.get(dao);
+                execute(dao, operations, Operation.INSERT);
+                execute(dao, operations, Operation.INSERT_OR_REPLACE);
+                execute(dao, operations, Operation.UPDATE);
+            }
+            for (int i = daos.size() - 1; i >= 0; i--) {
+                AbstractDao<?, ?> dao = daos.get(i);
+                execute(dao, pendingByDao.get(dao), Operation.DELETE);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        flushedCount += pendingCount;
+        pendingCount = 0;
+        pendingByDao.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void execute(AbstractDao<?, ?> dao, PendingOperations operations, Operation operation) {
+        List<Object> entities = new ArrayList<Object>();
+        for (PendingEntity pending : operations.entities) {
+            if (pending.operation == operation) {
+                entities.add(pending.entity);
+            }
+        }
+        if (entities.isEmpty()) {
+            return;
+        }
+        AbstractDao<Object, ?> objectDao = (AbstractDao<Object, ?>) dao;
+        switch (operation) {
+        case INSERT:
+            objectDao.insertInTx(entities);
+            break;
+        case INSERT_OR_REPLACE:
+            objectDao.insertOrReplaceInTx(entities);
+            break;
+        case UPDATE:
+            objectDao.updateInTx(entities);
+            break;
+        case DELETE:
+            objectDao.deleteInTx(entities);
+            break;
+        }
+    }
+
+    /** Drops all pending operations without executing them. */
+    public synchronized void discard() {
+        eliminatedCount += pendingCount;
+        pendingCount = 0;
+        pendingByDao.clear();
+    }
+
+    /** Number of operations to be executed by the next flush (after eliminating redundant operations). */
+    public synchronized int getPendingCount() {
+        return pendingCount;
+    }
+
+    /** Number of recorded operations that were eliminated (merged, canceled or discarded). */
+    public synchronized long getEliminatedCount() {
+        return eliminatedCount;
+    }
+
+    /** Number of operations executed by flushes so far. */
+    public synchronized long getFlushedCount() {
+        return flushedCount;
+    }
+
+}
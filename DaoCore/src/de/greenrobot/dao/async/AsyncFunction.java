@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2012 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao.async;
+
+/**
+ * Continuation of an {@link AsyncOperation}; see {@link AsyncOperation#thenApply(AsyncFunction)} and
+ * {@link AsyncOperation#thenCompose(AsyncFunction)}.
+ *
+ * @param <R>
+ *            Type returned by the function
+ */
+public interface AsyncFunction<R> {
+    /**
+     * Called with the result of the successfully completed operation. Exceptions thrown here fail the derived
+     * operation.
+     */
+    R apply(Object result) throws Exception;
+}
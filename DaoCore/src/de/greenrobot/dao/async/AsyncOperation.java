@@ -16,19 +16,29 @@
 
 package de.greenrobot.dao.async;
 
-import android.database.sqlite.SQLiteDatabase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import de.greenrobot.dao.AbstractDao;
 import de.greenrobot.dao.DaoException;
+import de.greenrobot.dao.DaoLog;
+import de.greenrobot.dao.database.Database;
 
 /**
- * An operation that will be enqueued for asynchronous execution.
+ * An operation that will be enqueued for asynchronous execution. Operations are futures: besides blocking using
+ * {@link #get()} or {@link #waitForCompletion()}, you can register callbacks for a single operation using
+ * {@link #addListener(AsyncOperationListener)} and chain further work using {@link #thenApply(AsyncFunction)} or
+ * {@link #thenCompose(AsyncFunction)}.
  * 
  * @author Markus
  * 
  * @see AsyncSession
  */
-// TODO Implement Future<V>
-public class AsyncOperation {
+public class AsyncOperation implements Future<Object> {
     public static enum OperationType {
         Insert, InsertInTxIterable, InsertInTxArray, //
         InsertOrReplace, InsertOrReplaceInTxIterable, InsertOrReplaceInTxArray, //
@@ -38,7 +48,9 @@ public class AsyncOperation {
         TransactionRunnable, TransactionCallable, //
         QueryList, QueryUnique, //
         Load, LoadAll, //
-        Count, Refresh
+        Count, Refresh, //
+        /** Derived operation created by thenApply or thenCompose; it is never enqueued. */
+        Continuation
     }
 
     public static final int FLAG_MERGE_TX = 1;
@@ -46,9 +58,15 @@ public class AsyncOperation {
     /** TODO unused, just an idea */
     public static final int FLAG_STOP_QUEUE_ON_EXCEPTION = 1 << 1;
 
+    /**
+     * Low priority: the operation is only executed if no operation without this flag is queued. Ordering is only
+     * guaranteed among operations of the same priority.
+     */
+    public static final int FLAG_BACKGROUND = 1 << 2;
+
     final OperationType type;
     final AbstractDao<Object, Object> dao;
-    private final SQLiteDatabase database;
+    private final Database database;
     /** Entity, Iterable<Entity>, Entity[], or Runnable. */
     final Object parameter;
     final int flags;
@@ -61,6 +79,17 @@ public class AsyncOperation {
     volatile int mergedOperationsCount;
 
     int sequenceNumber;
+    /** Set by AsyncOperationQueue to measure the time spent in the queue. */
+    long timeEnqueuedNanos;
+
+    /** Key used to find the pending write this operation may supersede (see AsyncSession#setCoalesceWrites). */
+    Object coalesceKey;
+    /** Pending operations superseded by this operation; completed along with this operation. */
+    List<AsyncOperation> coalescedOperations;
+    volatile AsyncOperation coalescedInto;
+
+    /** Per-operation listeners; set to null once the operation completed (guarded by this). */
+    private List<AsyncOperationListener> listeners;
 
     @SuppressWarnings("unchecked")
     AsyncOperation(OperationType type, AbstractDao<?, ?> dao, Object parameter, int flags) {
@@ -71,7 +100,7 @@ public class AsyncOperation {
         this.parameter = parameter;
     }
 
-    AsyncOperation(OperationType type, SQLiteDatabase database, Object parameter, int flags) {
+    AsyncOperation(OperationType type, Database database, Object parameter, int flags) {
         this.type = type;
         this.database = database;
         this.flags = flags;
@@ -79,6 +108,15 @@ public class AsyncOperation {
         this.parameter = parameter;
     }
 
+    /** Creates a derived operation ({@link OperationType#Continuation}), which is completed by its source. */
+    private AsyncOperation(AsyncOperation source, AsyncFunction<?> function) {
+        this.type = OperationType.Continuation;
+        this.dao = source.dao;
+        this.database = source.database;
+        this.parameter = function;
+        this.flags = 0;
+    }
+
     public Throwable getThrowable() {
         return throwable;
     }
@@ -112,13 +150,36 @@ public class AsyncOperation {
         return result;
     }
 
+    /**
+     * @return true if this operation only reads from the database (queries, load, loadAll, and count). Read-only
+     *         operations may run in parallel if the async session has a read executor.
+     * @see AsyncSession#setParallelReads(int)
+     */
+    public boolean isReadOnly() {
+        switch (type) {
+        case QueryList:
+        case QueryUnique:
+        case Load:
+        case LoadAll:
+        case Count:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /** @return true if this operation has the low priority flag {@link #FLAG_BACKGROUND}. */
+    public boolean isBackground() {
+        return (flags & FLAG_BACKGROUND) != 0;
+    }
+
     /** @return true if this operation may be merged with others into a single database transaction. */
     public boolean isMergeTx() {
         return (flags & FLAG_MERGE_TX) != 0;
     }
 
-    SQLiteDatabase getDatabase() {
-        return database != null ? database : dao.getDatabase();
+    Database getDatabase() {
+        return database != null ? database : dao.getDaoDatabase();
     }
 
     /**
@@ -187,10 +248,185 @@ public class AsyncOperation {
         return completed;
     }
 
-    /** Called when the operation is done. Notifies any threads waiting for this operation's completion. */
-    synchronized void setCompleted() {
-        completed = true;
-        notifyAll();
+    /**
+     * Called when the operation is done. Notifies any threads waiting for this operation's completion and calls the
+     * listeners registered for this operation (on the calling thread).
+     */
+    void setCompleted() {
+        List<AsyncOperationListener> listenersToCall;
+        synchronized (this) {
+            completed = true;
+            notifyAll();
+            listenersToCall = listeners;
+            listeners = null;
+        }
+        if (listenersToCall != null) {
+            for (AsyncOperationListener listener : listenersToCall) {
+                callListener(listener);
+            }
+        }
+    }
+
+    private void callListener(AsyncOperationListener listener) {
+        try {
+            listener.onAsyncOperationCompleted(this);
+        } catch (RuntimeException e) {
+            DaoLog.e("Listener of async operation " + sequenceNumber + " threw an exception", e);
+        }
+    }
+
+    /**
+     * Registers a listener for this operation only. If the operation is already completed, the listener is called
+     * immediately on the calling thread. Otherwise, it is called on the thread completing the operation (usually a
+     * background thread of the async session), so the listener must not block waiting for other operations of the same
+     * {@link AsyncSession}.
+     * 
+     * @return this operation to allow chaining
+     */
+    public AsyncOperation addListener(AsyncOperationListener listener) {
+        synchronized (this) {
+            if (!completed) {
+                if (listeners == null) {
+                    listeners = new ArrayList<AsyncOperationListener>(2);
+                }
+                listeners.add(listener);
+                return this;
+            }
+        }
+        callListener(listener);
+        return this;
+    }
+
+    /**
+     * Returns a new operation completing with the value returned by the given function, which is called with this
+     * operation's result once it completed successfully. If this operation fails (or the function throws), the returned
+     * operation fails with the same exception without calling the function. The function is called like a listener
+     * (see {@link #addListener(AsyncOperationListener)}).
+     */
+    public AsyncOperation thenApply(final AsyncFunction<?> function) {
+        final AsyncOperation derived = new AsyncOperation(this, function);
+        addListener(new AsyncOperationListener() {
+            @Override
+            public void onAsyncOperationCompleted(AsyncOperation operation) {
+                derived.timeStarted = System.currentTimeMillis();
+                if (operation.throwable != null) {
+                    derived.complete(null, operation.throwable);
+                    return;
+                }
+                try {
+                    derived.complete(function.apply(operation.result), null);
+                } catch (Throwable th) {
+                    derived.complete(null, th);
+                }
+            }
+        });
+        return derived;
+    }
+
+    /**
+     * Like {@link #thenApply(AsyncFunction)}, but the function returns another operation (typically enqueued at an
+     * {@link AsyncSession}, e.g. an update of the entities just queried). The returned operation completes with the
+     * result (or exception) of that operation, which allows pipelines without blocking any thread. If the function
+     * returns null, the returned operation completes with a null result.
+     */
+    public AsyncOperation thenCompose(final AsyncFunction<? extends AsyncOperation> function) {
+        final AsyncOperation derived = new AsyncOperation(this, function);
+        addListener(new AsyncOperationListener() {
+            @Override
+            public void onAsyncOperationCompleted(AsyncOperation operation) {
+                derived.timeStarted = System.currentTimeMillis();
+                if (operation.throwable != null) {
+                    derived.complete(null, operation.throwable);
+                    return;
+                }
+                AsyncOperation next;
+                try {
+                    next = function.apply(operation.result);
+                } catch (Throwable th) {
+                    derived.complete(null, th);
+                    return;
+                }
+                if (next == null) {
+                    derived.complete(null, null);
+                } else {
+                    next.addListener(new AsyncOperationListener() {
+                        @Override
+                        public void onAsyncOperationCompleted(AsyncOperation nextOperation) {
+                            derived.complete(nextOperation.result, nextOperation.throwable);
+                        }
+                    });
+                }
+            }
+        });
+        return derived;
+    }
+
+    private void complete(Object result, Throwable throwable) {
+        this.result = result;
+        this.throwable = throwable;
+        timeCompleted = System.currentTimeMillis();
+        setCompleted();
+    }
+
+    /** Async operations cannot be cancelled once they are enqueued; always returns false. */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return false;
+    }
+
+    /** Always false, see {@link #cancel(boolean)}. */
+    @Override
+    public boolean isCancelled() {
+        return false;
+    }
+
+    /** Same as {@link #isCompleted()}. */
+    @Override
+    public boolean isDone() {
+        return completed;
+    }
+
+    /**
+     * Waits for the operation to complete like {@link #waitForCompletion()}, but follows the {@link Future} contract.
+     * 
+     * @throws ExecutionException
+     *             if the operation failed; the cause is the operation's throwable
+     */
+    @Override
+    public synchronized Object get() throws InterruptedException, ExecutionException {
+        while (!completed) {
+            wait();
+        }
+        return getResultOrThrowExecutionException();
+    }
+
+    /**
+     * Waits at most the given time for the operation to complete.
+     * 
+     * @throws ExecutionException
+     *             if the operation failed; the cause is the operation's throwable
+     * @throws TimeoutException
+     *             if the operation did not complete in time
+     */
+    @Override
+    public synchronized Object get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException,
+            TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!completed) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException("Operation " + sequenceNumber + " did not complete in time");
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return getResultOrThrowExecutionException();
+    }
+
+    private Object getResultOrThrowExecutionException() throws ExecutionException {
+        if (throwable != null) {
+            throw new ExecutionException(throwable);
+        }
+        return result;
     }
 
     public boolean isCompletedSucessfully() {
@@ -205,6 +441,31 @@ public class AsyncOperation {
         return mergedOperationsCount;
     }
 
+    /**
+     * If coalescing is enabled (see {@link AsyncSession#setCoalesceWrites(boolean)}) and this write was superseded by a
+     * later write to the same entity before it was executed, this returns the operation that superseded it. This
+     * operation completes together with that operation (taking over its exception, if any). Otherwise null.
+     */
+    public AsyncOperation getCoalescedInto() {
+        return coalescedInto;
+    }
+
+    /** Makes this operation supersede the given pending operation (including the operations it superseded). */
+    void supersede(AsyncOperation pending) {
+        if (coalescedOperations == null) {
+            coalescedOperations = new ArrayList<AsyncOperation>(2);
+        }
+        if (pending.coalescedOperations != null) {
+            for (AsyncOperation operation : pending.coalescedOperations) {
+                operation.coalescedInto = this;
+                coalescedOperations.add(operation);
+            }
+            pending.coalescedOperations = null;
+        }
+        pending.coalescedInto = this;
+        coalescedOperations.add(pending);
+    }
+
     /**
      * Each operation get a unique sequence number when the operation is enqueued. Can be used for efficiently
      * identifying/mapping operations.
@@ -16,26 +16,37 @@
 package de.greenrobot.dao.async;
 
 import java.util.ArrayList;
-import java.util.concurrent.BlockingQueue;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
-import android.database.sqlite.SQLiteDatabase;
 import android.os.Handler;
 import android.os.Looper;
 import android.os.Message;
 import de.greenrobot.dao.DaoException;
 import de.greenrobot.dao.DaoLog;
+import de.greenrobot.dao.InternalQueryDaoAccess;
+import de.greenrobot.dao.async.AsyncOperation.OperationType;
+import de.greenrobot.dao.async.AsyncSession.OverflowPolicy;
+import de.greenrobot.dao.database.Database;
 import de.greenrobot.dao.query.Query;
 
 class AsyncOperationExecutor implements Runnable, Handler.Callback {
 
-    private static ExecutorService executorService = Executors.newCachedThreadPool();
+    /** Used by sessions without an explicit executor; created on first use. */
+    private static ExecutorService defaultExecutorService;
 
-    private final BlockingQueue<AsyncOperation> queue;
+    private final Executor executorService;
+    private final AsyncOperationQueue queue;
+    private volatile int idleTimeoutMillis;
+    private volatile boolean shutdown;
+    private volatile OverflowPolicy overflowPolicy;
     private volatile boolean executorRunning;
     private volatile int maxOperationCountToMerge;
     private volatile AsyncOperationListener listener;
@@ -48,22 +59,193 @@ class AsyncOperationExecutor implements Runnable, Handler.Callback {
     private Handler handlerMainThread;
     private int lastSequenceNumber;
 
+    /** Optional pool for read-only operations; if null, all operations are executed serially. */
+    private volatile ExecutorService readExecutorService;
+    /** Read-only operations dispatched to readExecutorService that did not complete yet (guarded by readLock). */
+    private int readsInFlight;
+    private final Object readLock = new Object();
+
+    /** Weight of a new sample in the moving averages used for adaptive merging. */
+    private static final double EWMA_WEIGHT = 0.2;
+
+    private volatile boolean adaptiveMerging;
+    private volatile int mergeTargetMillis;
+    /** Moving average of the execution time of a mergeable operation in ms (written by the runner thread only). */
+    private volatile double avgOperationMillis;
+    /** Moving average of the time between two enqueued operations in ms (guarded by this). */
+    private double avgEnqueueGapMillis;
+    private long lastEnqueueNanos;
+    private final MergedBatchHistogram mergedBatchHistogram = new MergedBatchHistogram();
+
+    private volatile boolean coalesceWrites;
+    /** Latest enqueued single entity write per DAO and key, candidates to be superseded (guarded by this). */
+    private final Map<CoalesceKey, AsyncOperation> pendingWrites = new HashMap<CoalesceKey, AsyncOperation>();
+
+    /** Set while the current thread executes operations for this executor (serial runner or parallel read). */
+    private final ThreadLocal<Boolean> executorThread = new ThreadLocal<Boolean>();
+
     AsyncOperationExecutor() {
-        queue = new LinkedBlockingQueue<AsyncOperation>();
+        this(getDefaultExecutorService());
+    }
+
+    /**
+     * @param executorService
+     *            runs the executor's serial runner whenever there are operations to process (at most one task per
+     *            executor at a time)
+     */
+    AsyncOperationExecutor(Executor executorService) {
+        this.executorService = executorService;
+        idleTimeoutMillis = 1000;
+        queue = new AsyncOperationQueue();
+        overflowPolicy = OverflowPolicy.BLOCK;
         maxOperationCountToMerge = 50;
         waitForMergeMillis = 50;
+        mergeTargetMillis = 100;
     }
 
+    /**
+     * Enqueues the operation. If the queue is full, the overflow policy applies: BLOCK waits for the executor to take
+     * operations from the queue (outside of this executor's lock), FAIL throws a {@link DaoException}, and
+     * DROP_OLDEST_BACKGROUND fails the oldest queued background operation (or blocks if there is none). Instead of
+     * blocking, operations enqueued by this executor's own threads (e.g. from a listener or a TX runnable) exceed the
+     * capacity: only these threads make space in the queue, so waiting would deadlock.
+     */
     public void enqueue(AsyncOperation operation) {
+        AsyncOperation dropped = null;
+        while (!tryEnqueue(operation, false)) {
+            OverflowPolicy policy = overflowPolicy;
+            if (policy == OverflowPolicy.FAIL) {
+                queue.countRejected();
+                throw new DaoException("Async operation queue is full (capacity " + queue.getCapacity() + ")");
+            } else if (policy == OverflowPolicy.DROP_OLDEST_BACKGROUND && dropped == null) {
+                dropped = queue.dropOldestBackground();
+                if (dropped != null) {
+                    continue;
+                }
+            }
+            if (executorThread.get() != null) {
+                tryEnqueue(operation, true);
+                break;
+            }
+            try {
+                queue.awaitNotFull();
+            } catch (InterruptedException e) {
+                throw new DaoException("Interrupted while waiting for space in the async operation queue", e);
+            }
+        }
+        if (dropped != null) {
+            dropped.throwable = new DaoException("Background operation was dropped because the queue was full");
+            handleOperationCompleted(dropped);
+        }
+    }
+
+    private static synchronized ExecutorService getDefaultExecutorService() {
+        if (defaultExecutorService == null) {
+            defaultExecutorService = Executors.newCachedThreadPool();
+        }
+        return defaultExecutorService;
+    }
+
+    private boolean tryEnqueue(AsyncOperation operation, boolean ignoreCapacity) {
         synchronized (this) {
+            if (shutdown) {
+                throw new DaoException("Async session was shut down, cannot enqueue " + operation.type);
+            }
+            if (!ignoreCapacity && queue.isFull()) {
+                return false;
+            }
+            long now = System.nanoTime();
+            if (lastEnqueueNanos != 0) {
+                double gapMillis = Math.min((now - lastEnqueueNanos) / 1000000d, 1000);
+                avgEnqueueGapMillis = avgEnqueueGapMillis == 0 ? gapMillis : avgEnqueueGapMillis + EWMA_WEIGHT
+                        * (gapMillis - avgEnqueueGapMillis);
+            }
+            lastEnqueueNanos = now;
             operation.sequenceNumber = ++lastSequenceNumber;
+            if (coalesceWrites) {
+                coalesce(operation);
+            }
             queue.add(operation);
             countOperationsEnqueued++;
             if (!executorRunning) {
                 executorRunning = true;
-                executorService.execute(this);
+                try {
+                    executorService.execute(this);
+                } catch (RejectedExecutionException e) {
+                    executorRunning = false;
+                    queue.remove(operation);
+                    countOperationsEnqueued--;
+                    throw new DaoException("Executor rejected processing the async operation queue", e);
+                }
             }
         }
+        return true;
+    }
+
+    public int getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    public void setIdleTimeoutMillis(int idleTimeoutMillis) {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /** Rejects new operations; operations already enqueued are still executed. */
+    public synchronized void shutdown() {
+        shutdown = true;
+    }
+
+    /**
+     * Rejects new operations and removes all queued operations, which complete as failed without being executed. An
+     * operation being executed right now will still complete normally.
+     * 
+     * @return the operations removed from the queue
+     */
+    public List<AsyncOperation> shutdownNow() {
+        List<AsyncOperation> removed = new ArrayList<AsyncOperation>();
+        synchronized (this) {
+            shutdown = true;
+            AsyncOperation operation;
+            while ((operation = queue.poll()) != null) {
+                removed.add(operation);
+            }
+        }
+        for (AsyncOperation operation : removed) {
+            operation.throwable = new DaoException("Async session was shut down before the operation was executed");
+            handleOperationCompleted(operation);
+        }
+        return removed;
+    }
+
+    public int getQueueCapacity() {
+        return queue.getCapacity();
+    }
+
+    public void setQueueCapacity(int capacity) {
+        queue.setCapacity(capacity);
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        if (overflowPolicy == null) {
+            throw new IllegalArgumentException("Overflow policy must not be null");
+        }
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public AsyncQueueMetrics getQueueMetrics() {
+        return queue.getMetrics();
+    }
+
+    public void resetQueueMetrics() {
+        queue.resetMetrics();
     }
 
     public int getMaxOperationCountToMerge() {
@@ -82,6 +264,151 @@ class AsyncOperationExecutor implements Runnable, Handler.Callback {
         this.waitForMergeMillis = waitForMergeMillis;
     }
 
+    public boolean isAdaptiveMerging() {
+        return adaptiveMerging;
+    }
+
+    public void setAdaptiveMerging(boolean adaptiveMerging) {
+        this.adaptiveMerging = adaptiveMerging;
+    }
+
+    public int getMergeTargetMillis() {
+        return mergeTargetMillis;
+    }
+
+    public void setMergeTargetMillis(int mergeTargetMillis) {
+        this.mergeTargetMillis = mergeTargetMillis;
+    }
+
+    public double getAverageOperationMillis() {
+        return avgOperationMillis;
+    }
+
+    public MergedBatchHistogram getMergedBatchHistogram() {
+        return mergedBatchHistogram;
+    }
+
+    /**
+     * How long to wait for a second operation to merge with. Adaptive merging does not wait if operations are already
+     * queued or if operations did not arrive within waitForMergeMillis recently; otherwise it waits about twice the
+     * average gap between operations (at most waitForMergeMillis).
+     */
+    private long getMergeWaitMillis() {
+        if (!adaptiveMerging) {
+            return waitForMergeMillis;
+        }
+        if (!queue.isEmpty()) {
+            return 0;
+        }
+        double avgGap;
+        synchronized (this) {
+            avgGap = avgEnqueueGapMillis;
+        }
+        if (avgGap == 0) {
+            // No history yet
+            return waitForMergeMillis;
+        } else if (avgGap > waitForMergeMillis) {
+            return 0;
+        } else {
+            return Math.min(waitForMergeMillis, (long) Math.ceil(2 * avgGap));
+        }
+    }
+
+    /**
+     * Maximum number of operations in a merged TX. Adaptive merging limits the TX to about mergeTargetMillis based on
+     * the average operation time, so writes do not hold the database lock for too long (at most
+     * maxOperationCountToMerge operations).
+     */
+    private int getMaxMergeCount() {
+        int max = maxOperationCountToMerge;
+        double avgMillis = avgOperationMillis;
+        if (adaptiveMerging && avgMillis > 0) {
+            double target = mergeTargetMillis / avgMillis;
+            if (target < max) {
+                max = Math.max(2, (int) target);
+            }
+        }
+        return max;
+    }
+
+    private void updateAverageOperationMillis(long durationNanos, int operationCount) {
+        double millis = durationNanos / 1000000d / operationCount;
+        double avg = avgOperationMillis;
+        avgOperationMillis = avg == 0 ? millis : avg + EWMA_WEIGHT * (millis - avg);
+    }
+
+    /**
+     * Sets the executor used to run read-only operations (see {@link AsyncOperation#isReadOnly()}) in parallel, or
+     * null to run all operations serially. The serial runner dispatches reads in queue order, and a write waits for all
+     * previously dispatched reads, so a read still sees all writes enqueued before it and no later ones.
+     */
+    public void setReadExecutorService(ExecutorService readExecutorService) {
+        this.readExecutorService = readExecutorService;
+    }
+
+    public ExecutorService getReadExecutorService() {
+        return readExecutorService;
+    }
+
+    public boolean isCoalesceWrites() {
+        return coalesceWrites;
+    }
+
+    public synchronized void setCoalesceWrites(boolean coalesceWrites) {
+        this.coalesceWrites = coalesceWrites;
+        if (!coalesceWrites) {
+            pendingWrites.clear();
+        }
+    }
+
+    /**
+     * Removes a still queued write to the same entity from the queue if the given operation supersedes it. Any other
+     * kind of operation (e.g. a query, which might observe the pending write) ends coalescing for all pending writes.
+     */
+    private void coalesce(AsyncOperation operation) {
+        Object key = getCoalesceKey(operation);
+        if (key == null) {
+            pendingWrites.clear();
+            return;
+        }
+        CoalesceKey coalesceKey = new CoalesceKey(operation.dao, key);
+        operation.coalesceKey = coalesceKey;
+        AsyncOperation pending = pendingWrites.put(coalesceKey, operation);
+        // If the pending operation is no longer in the queue, it is being executed right now
+        if (pending != null && supersedes(operation.type, pending.type) && queue.remove(pending)) {
+            operation.supersede(pending);
+        }
+    }
+
+    /** @return the entity key for single entity writes that may be coalesced, or null for all other operations */
+    private Object getCoalesceKey(AsyncOperation operation) {
+        switch (operation.type) {
+        case Update:
+        case InsertOrReplace:
+        case Delete:
+            return InternalQueryDaoAccess.getKey(operation.dao, operation.parameter);
+        case DeleteByKey:
+            return operation.parameter;
+        default:
+            return null;
+        }
+    }
+
+    private static boolean supersedes(OperationType type, OperationType pendingType) {
+        switch (type) {
+        case Update:
+            return pendingType == OperationType.Update;
+        case InsertOrReplace:
+            return pendingType == OperationType.Update || pendingType == OperationType.InsertOrReplace;
+        case Delete:
+        case DeleteByKey:
+            // The entity is gone afterwards, no matter what the pending write did
+            return true;
+        default:
+            return false;
+        }
+    }
+
     public AsyncOperationListener getListener() {
         return listener;
     }
@@ -135,41 +462,108 @@ class AsyncOperationExecutor implements Runnable, Handler.Callback {
 
     @Override
     public void run() {
+        executorThread.set(Boolean.TRUE);
+        boolean idle = false;
         try {
             try {
                 while (true) {
-                    AsyncOperation operation = queue.poll(1, TimeUnit.SECONDS);
+                    AsyncOperation operation = queue.poll(idleTimeoutMillis, TimeUnit.MILLISECONDS);
                     if (operation == null) {
                         synchronized (this) {
                             // Check again, this time in synchronized
                             operation = queue.poll();
                             if (operation == null) {
                                 executorRunning = false;
+                                idle = true;
                                 return;
                             }
                         }
                     }
                     if (operation.isMergeTx()) {
                         // Wait some ms for another operation to merge because a TX is expensive
-                        AsyncOperation operation2 = queue.poll(waitForMergeMillis, TimeUnit.MILLISECONDS);
+                        AsyncOperation operation2 = queue.poll(getMergeWaitMillis(), TimeUnit.MILLISECONDS);
                         if (operation2 != null) {
                             if (operation.isMergeableWith(operation2)) {
+                                waitForReadsInFlight();
                                 mergeTxAndExecute(operation, operation2);
                             } else {
                                 // Cannot merge, execute both
-                                executeOperationAndPostCompleted(operation);
-                                executeOperationAndPostCompleted(operation2);
+                                executeNotMerged(operation);
+                                executeNotMerged(operation2);
                             }
                             continue;
                         }
                     }
-                    executeOperationAndPostCompleted(operation);
+                    executeNotMerged(operation);
                 }
             } catch (InterruptedException e) {
                 DaoLog.w(Thread.currentThread().getName() + " was interruppted", e);
             }
         } finally {
-            executorRunning = false;
+            executorThread.remove();
+            if (!idle) {
+                // Interrupted or failed; after an idle exit, tryEnqueue may already have started the next runner
+                synchronized (this) {
+                    executorRunning = false;
+                }
+            }
+        }
+    }
+
+    private void executeNotMerged(AsyncOperation operation) throws InterruptedException {
+        if (operation.isMergeTx()) {
+            mergedBatchHistogram.record(1);
+        }
+        executeInOrder(operation);
+    }
+
+    /**
+     * Called by the serial runner for the next operation in queue order: dispatches read-only operations to the read
+     * executor (if any); other operations are executed after all previously dispatched reads completed.
+     */
+    private void executeInOrder(final AsyncOperation operation) throws InterruptedException {
+        ExecutorService readExecutor = readExecutorService;
+        if (readExecutor != null && operation.isReadOnly()) {
+            synchronized (readLock) {
+                readsInFlight++;
+            }
+            try {
+                readExecutor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        executorThread.set(Boolean.TRUE);
+                        try {
+                            executeOperationAndPostCompleted(operation);
+                        } finally {
+                            executorThread.remove();
+                            readCompleted();
+                        }
+                    }
+                });
+                return;
+            } catch (RejectedExecutionException e) {
+                // Read executor was shut down or is saturated, fall back to the serial runner
+                readCompleted();
+            }
+        }
+        waitForReadsInFlight();
+        executeOperationAndPostCompleted(operation);
+    }
+
+    private void readCompleted() {
+        synchronized (readLock) {
+            readsInFlight--;
+            if (readsInFlight == 0) {
+                readLock.notifyAll();
+            }
+        }
+    }
+
+    private void waitForReadsInFlight() throws InterruptedException {
+        synchronized (readLock) {
+            while (readsInFlight > 0) {
+                readLock.wait();
+            }
         }
     }
 
@@ -178,7 +572,9 @@ class AsyncOperationExecutor implements Runnable, Handler.Callback {
         mergedOps.add(operation1);
         mergedOps.add(operation2);
 
-        SQLiteDatabase db = operation1.getDatabase();
+        int maxMergeCount = getMaxMergeCount();
+        long startNanos = System.nanoTime();
+        Database db = operation1.getDatabase();
         db.beginTransaction();
         boolean failed = false;
         try {
@@ -191,13 +587,19 @@ class AsyncOperationExecutor implements Runnable, Handler.Callback {
                     break;
                 }
                 if (i == mergedOps.size() - 1) {
-                    AsyncOperation peekedOp = queue.peek();
-                    if (i < maxOperationCountToMerge && operation.isMergeableWith(peekedOp)) {
-                        AsyncOperation removedOp = queue.remove();
-                        if (removedOp != peekedOp) {
-                            // Paranoia check, should not occur unless threading is broken
-                            throw new DaoException("Internal error: peeked op did not match removed op");
+                    AsyncOperation removedOp = null;
+                    // Synchronized because coalescing may remove queued operations while enqueuing
+                    synchronized (this) {
+                        AsyncOperation peekedOp = queue.peek();
+                        if (i < maxMergeCount && operation.isMergeableWith(peekedOp)) {
+                            removedOp = queue.remove();
+                            if (removedOp != peekedOp) {
+                                // Paranoia check, should not occur unless threading is broken
+                                throw new DaoException("Internal error: peeked op did not match removed op");
+                            }
                         }
+                    }
+                    if (removedOp != null) {
                         mergedOps.add(removedOp);
                     } else {
                         // No more ops in the queue to merge, finish it
@@ -216,6 +618,8 @@ class AsyncOperationExecutor implements Runnable, Handler.Callback {
             }
         } else {
             int mergedCount = mergedOps.size();
+            updateAverageOperationMillis(System.nanoTime() - startNanos, mergedCount);
+            mergedBatchHistogram.record(mergedCount);
             for (AsyncOperation asyncOperation : mergedOps) {
                 asyncOperation.mergedOperationsCount = mergedCount;
                 handleOperationCompleted(asyncOperation);
@@ -224,6 +628,22 @@ class AsyncOperationExecutor implements Runnable, Handler.Callback {
     }
 
     private void handleOperationCompleted(AsyncOperation operation) {
+        List<AsyncOperation> coalescedOperations = operation.coalescedOperations;
+        if (coalescedOperations != null) {
+            for (AsyncOperation coalesced : coalescedOperations) {
+                coalesced.timeStarted = operation.timeStarted;
+                coalesced.timeCompleted = operation.timeCompleted;
+                coalesced.throwable = operation.throwable;
+                handleOperationCompleted(coalesced);
+            }
+        }
+        if (operation.coalesceKey != null) {
+            synchronized (this) {
+                if (pendingWrites.get(operation.coalesceKey) == operation) {
+                    pendingWrites.remove(operation.coalesceKey);
+                }
+            }
+        }
         operation.setCompleted();
 
         AsyncOperationListener listenerToCall = listener;
@@ -231,11 +651,16 @@ class AsyncOperationExecutor implements Runnable, Handler.Callback {
             listenerToCall.onAsyncOperationCompleted(operation);
         }
         if (listenerMainThread != null) {
-            if (handlerMainThread == null) {
-                handlerMainThread = new Handler(Looper.getMainLooper(), this);
+            Handler handler;
+            synchronized (this) {
+                // Operations may complete on several threads if reads are executed in parallel
+                if (handlerMainThread == null) {
+                    handlerMainThread = new Handler(Looper.getMainLooper(), this);
+                }
+                handler = handlerMainThread;
             }
-            Message msg = handlerMainThread.obtainMessage(1, operation);
-            handlerMainThread.sendMessage(msg);
+            Message msg = handler.obtainMessage(1, operation);
+            handler.sendMessage(msg);
         }
         synchronized (this) {
             countOperationsCompleted++;
@@ -298,10 +723,10 @@ class AsyncOperationExecutor implements Runnable, Handler.Callback {
                 executeTransactionCallable(operation);
                 break;
             case QueryList:
-                operation.result = ((Query) operation.parameter).list();
+                operation.result = ((Query) operation.parameter).forCurrentThreadWithParameters().list();
                 break;
             case QueryUnique:
-                operation.result = ((Query) operation.parameter).unique();
+                operation.result = ((Query) operation.parameter).forCurrentThreadWithParameters().unique();
                 break;
             case DeleteByKey:
                 operation.dao.deleteByKey(operation.parameter);
@@ -332,7 +757,7 @@ class AsyncOperationExecutor implements Runnable, Handler.Callback {
     }
 
     private void executeTransactionRunnable(AsyncOperation operation) {
-        SQLiteDatabase db = operation.getDatabase();
+        Database db = operation.getDatabase();
         db.beginTransaction();
         try {
             ((Runnable) operation.parameter).run();
@@ -344,7 +769,7 @@ class AsyncOperationExecutor implements Runnable, Handler.Callback {
 
     @SuppressWarnings("unchecked")
     private void executeTransactionCallable(AsyncOperation operation) throws Exception {
-        SQLiteDatabase db = operation.getDatabase();
+        Database db = operation.getDatabase();
         db.beginTransaction();
         try {
             operation.result = ((Callable<Object>) operation.parameter).call();
@@ -354,6 +779,30 @@ class AsyncOperationExecutor implements Runnable, Handler.Callback {
         }
     }
 
+    private static class CoalesceKey {
+        private final Object dao;
+        private final Object key;
+
+        CoalesceKey(Object dao, Object key) {
+            this.dao = dao;
+            this.key = key;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(dao) + key.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof CoalesceKey)) {
+                return false;
+            }
+            CoalesceKey other = (CoalesceKey) obj;
+            return dao == other.dao && key.equals(other.key);
+        }
+    }
+
     @Override
     public boolean handleMessage(Message msg) {
         AsyncOperationListener listenerToCall = listenerMainThread;
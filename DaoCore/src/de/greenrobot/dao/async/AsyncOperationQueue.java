@@ -0,0 +1,252 @@
+/*
+ * Copyright (C) 2012 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao.async;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Queue of {@link AsyncOperationExecutor} with two priority lanes: operations flagged with
+ * {@link AsyncOperation#FLAG_BACKGROUND} are only taken if there is no other (interactive) operation. The capacity
+ * limits both lanes together. Also collects the metrics exposed by {@link AsyncQueueMetrics}.
+ */
+class AsyncOperationQueue {
+    private final ArrayDeque<AsyncOperation> interactive = new ArrayDeque<AsyncOperation>();
+    private final ArrayDeque<AsyncOperation> background = new ArrayDeque<AsyncOperation>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    private volatile int capacity = Integer.MAX_VALUE;
+
+    // Metrics (guarded by lock)
+    private int maxDepth;
+    private long dequeuedInteractive;
+    private long dequeuedBackground;
+    private long waitNanosInteractive;
+    private long waitNanosBackground;
+    private long maxWaitNanos;
+    private long droppedCount;
+    private long rejectedCount;
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    void setCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+        }
+        lock.lock();
+        try {
+            this.capacity = capacity;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isFull() {
+        lock.lock();
+        try {
+            return size() >= capacity;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Waits until the queue is not full anymore. */
+    void awaitNotFull() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size() >= capacity) {
+                notFull.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Adds the operation regardless of the capacity; callers check the capacity before. */
+    void add(AsyncOperation operation) {
+        lock.lock();
+        try {
+            operation.timeEnqueuedNanos = System.nanoTime();
+            (operation.isBackground() ? background : interactive).add(operation);
+            int size = size();
+            if (size > maxDepth) {
+                maxDepth = size;
+            }
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Removes the oldest background operation to make room for another operation; null if there is none. */
+    AsyncOperation dropOldestBackground() {
+        lock.lock();
+        try {
+            AsyncOperation dropped = background.poll();
+            if (dropped != null) {
+                droppedCount++;
+                notFull.signal();
+            }
+            return dropped;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void countRejected() {
+        lock.lock();
+        try {
+            rejectedCount++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    AsyncOperation peek() {
+        lock.lock();
+        try {
+            AsyncOperation operation = interactive.peek();
+            return operation != null ? operation : background.peek();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    AsyncOperation poll() {
+        lock.lock();
+        try {
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    AsyncOperation poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (isEmpty()) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    AsyncOperation remove() {
+        AsyncOperation operation = poll();
+        if (operation == null) {
+            throw new NoSuchElementException();
+        }
+        return operation;
+    }
+
+    boolean remove(AsyncOperation operation) {
+        lock.lock();
+        try {
+            boolean removed = interactive.remove(operation) || background.remove(operation);
+            if (removed) {
+                notFull.signal();
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isEmpty() {
+        lock.lock();
+        try {
+            return interactive.isEmpty() && background.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return interactive.size() + background.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private AsyncOperation dequeue() {
+        AsyncOperation operation = interactive.poll();
+        boolean isBackground = false;
+        if (operation == null) {
+            operation = background.poll();
+            if (operation == null) {
+                return null;
+            }
+            isBackground = true;
+        }
+        long waitNanos = System.nanoTime() - operation.timeEnqueuedNanos;
+        if (isBackground) {
+            dequeuedBackground++;
+            waitNanosBackground += waitNanos;
+        } else {
+            dequeuedInteractive++;
+            waitNanosInteractive += waitNanos;
+        }
+        if (waitNanos > maxWaitNanos) {
+            maxWaitNanos = waitNanos;
+        }
+        notFull.signal();
+        return operation;
+    }
+
+    AsyncQueueMetrics getMetrics() {
+        lock.lock();
+        try {
+            return new AsyncQueueMetrics(interactive.size(), background.size(), maxDepth, dequeuedInteractive,
+                    dequeuedBackground, waitNanosInteractive, waitNanosBackground, maxWaitNanos, droppedCount,
+                    rejectedCount);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void resetMetrics() {
+        lock.lock();
+        try {
+            maxDepth = size();
+            dequeuedInteractive = 0;
+            dequeuedBackground = 0;
+            waitNanosInteractive = 0;
+            waitNanosBackground = 0;
+            maxWaitNanos = 0;
+            droppedCount = 0;
+            rejectedCount = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
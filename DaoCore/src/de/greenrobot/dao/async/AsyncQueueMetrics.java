@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2012 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao.async;
+
+/**
+ * Snapshot of the queue metrics of an {@link AsyncSession}; see {@link AsyncSession#getQueueMetrics()}. Wait times are
+ * measured from enqueuing an operation until the executor takes it from the queue.
+ */
+public class AsyncQueueMetrics {
+    private final int interactiveDepth;
+    private final int backgroundDepth;
+    private final int maxDepth;
+    private final long dequeuedInteractive;
+    private final long dequeuedBackground;
+    private final long waitNanosInteractive;
+    private final long waitNanosBackground;
+    private final long maxWaitNanos;
+    private final long droppedCount;
+    private final long rejectedCount;
+
+    AsyncQueueMetrics(int interactiveDepth, int backgroundDepth, int maxDepth, long dequeuedInteractive,
+            long dequeuedBackground, long waitNanosInteractive, long waitNanosBackground, long maxWaitNanos,
+            long droppedCount, long rejectedCount) {
+        this.interactiveDepth = interactiveDepth;
+        this.backgroundDepth = backgroundDepth;
+        this.maxDepth = maxDepth;
+        this.dequeuedInteractive = dequeuedInteractive;
+        this.dequeuedBackground = dequeuedBackground;
+        this.waitNanosInteractive = waitNanosInteractive;
+        this.waitNanosBackground = waitNanosBackground;
+        this.maxWaitNanos = maxWaitNanos;
+        this.droppedCount = droppedCount;
+        this.rejectedCount = rejectedCount;
+    }
+
+    /** Number of queued operations (both lanes). */
+    public int getDepth() {
+        return interactiveDepth + backgroundDepth;
+    }
+
+    public int getInteractiveDepth() {
+        return interactiveDepth;
+    }
+
+    public int getBackgroundDepth() {
+        return backgroundDepth;
+    }
+
+    /** Highest number of queued operations observed (since the last reset). */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /** Number of operations taken from the interactive lane. */
+    public long getDequeuedInteractiveCount() {
+        return dequeuedInteractive;
+    }
+
+    /** Number of operations taken from the background lane. */
+    public long getDequeuedBackgroundCount() {
+        return dequeuedBackground;
+    }
+
+    public double getAverageWaitMillisInteractive() {
+        return dequeuedInteractive == 0 ? 0 : waitNanosInteractive / 1000000d / dequeuedInteractive;
+    }
+
+    public double getAverageWaitMillisBackground() {
+        return dequeuedBackground == 0 ? 0 : waitNanosBackground / 1000000d / dequeuedBackground;
+    }
+
+    public double getMaxWaitMillis() {
+        return maxWaitNanos / 1000000d;
+    }
+
+    /** Background operations dropped because of {@link AsyncSession.OverflowPolicy#DROP_OLDEST_BACKGROUND}. */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /** Operations rejected because of {@link AsyncSession.OverflowPolicy#FAIL}. */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncQueueMetrics[depth=" + getDepth() + " (background: " + backgroundDepth + "), maxDepth="
+                + maxDepth + ", avgWaitMillis=" + getAverageWaitMillisInteractive() + " (background: "
+                + getAverageWaitMillisBackground() + "), maxWaitMillis=" + getMaxWaitMillis() + ", dropped="
+                + droppedCount + ", rejected=" + rejectedCount + "]";
+    }
+
+}
@@ -1,6 +1,12 @@
 package de.greenrobot.dao.async;
 
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import android.database.sqlite.SQLiteDatabase;
 
 import de.greenrobot.dao.AbstractDao;
 import de.greenrobot.dao.AbstractDaoSession;
@@ -20,14 +26,96 @@ import de.greenrobot.dao.query.Query;
  */
 // Facade to AsyncOperationExecutor: prepares operations and delegates work to AsyncOperationExecutor.
 public class AsyncSession {
+    /** What {@link AsyncSession} does if an operation is enqueued while the queue is full. */
+    public static enum OverflowPolicy {
+        /**
+         * The enqueuing thread waits until there is space in the queue (default). Operations enqueued by the executor
+         * itself (e.g. from a listener) exceed the capacity instead, as waiting would deadlock.
+         */
+        BLOCK,
+        /** Enqueuing throws a {@link DaoException}. */
+        FAIL,
+        /**
+         * The oldest queued operation flagged with {@link AsyncOperation#FLAG_BACKGROUND} is dropped: it completes as
+         * failed without being executed. Blocks if no background operation is queued.
+         */
+        DROP_OLDEST_BACKGROUND
+    }
+
     private final AbstractDaoSession daoSession;
     private final AsyncOperationExecutor executor;
+    /** Read pool created by setParallelReads (not set for executors passed in by the user). */
+    private ExecutorService ownReadPool;
 
     public AsyncSession(AbstractDaoSession daoSession) {
         this.daoSession = daoSession;
         this.executor = new AsyncOperationExecutor();
     }
 
+    /**
+     * Creates an async session processing its operations using the given executor instead of the default thread pool
+     * shared by all sessions. The executor may be shared by several sessions (e.g. a bounded pool); each session
+     * occupies at most one of its threads at a time, and only while it has operations to process (see
+     * {@link #setIdleTimeoutMillis(int)}). On JVMs with virtual threads, a virtual thread per task executor works as
+     * well.
+     */
+    public AsyncSession(AbstractDaoSession daoSession, Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor must not be null");
+        }
+        this.daoSession = daoSession;
+        this.executor = new AsyncOperationExecutor(executor);
+    }
+
+    public int getIdleTimeoutMillis() {
+        return executor.getIdleTimeoutMillis();
+    }
+
+    /**
+     * Sets how long the session keeps its executor thread after the queue became empty (default: 1000 ms). Lower values
+     * free threads of a shared executor sooner; 0 returns the thread as soon as the queue is empty.
+     */
+    public void setIdleTimeoutMillis(int idleTimeoutMillis) {
+        executor.setIdleTimeoutMillis(idleTimeoutMillis);
+    }
+
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    /**
+     * Stops accepting operations (enqueuing throws a {@link DaoException}); operations already enqueued are still
+     * executed. A read pool created by {@link #setParallelReads(int)} is shut down as well (remaining reads then run on
+     * the serial executor thread). Use {@link #drain(int)} to also wait for the queue to become empty.
+     */
+    public synchronized void shutdown() {
+        executor.shutdown();
+        if (ownReadPool != null) {
+            ownReadPool.shutdown();
+        }
+    }
+
+    /**
+     * Shuts down (see {@link #shutdown()}) and waits at most the given time until all enqueued operations completed.
+     * 
+     * @return true if all operations completed in the given time frame
+     */
+    public boolean drain(int maxMillis) {
+        shutdown();
+        return executor.waitForCompletion(maxMillis);
+    }
+
+    /**
+     * Shuts down (see {@link #shutdown()}) and removes all queued operations, which complete as failed without being
+     * executed.
+     * 
+     * @return the operations that were removed from the queue
+     */
+    public List<AsyncOperation> shutdownNow() {
+        shutdown();
+        return executor.shutdownNow();
+    }
+
     public int getMaxOperationCountToMerge() {
         return executor.getMaxOperationCountToMerge();
     }
@@ -44,6 +132,121 @@ public class AsyncSession {
         executor.setWaitForMergeMillis(waitForMergeMillis);
     }
 
+    public boolean isAdaptiveMerging() {
+        return executor.isAdaptiveMerging();
+    }
+
+    /**
+     * Enables adaptive merging of operations flagged with {@link AsyncOperation#FLAG_MERGE_TX}. Instead of always
+     * waiting {@link #getWaitForMergeMillis()} for another operation, the executor waits only if operations arrived at
+     * a high rate recently (about twice the average gap between operations) and not at all if operations are already
+     * queued. The number of operations per TX is limited so that a TX takes about {@link #getMergeTargetMillis()} based
+     * on the average operation time. Both values are bounded by the wait and max count settings. Disabled by default.
+     */
+    public void setAdaptiveMerging(boolean adaptiveMerging) {
+        executor.setAdaptiveMerging(adaptiveMerging);
+    }
+
+    public int getMergeTargetMillis() {
+        return executor.getMergeTargetMillis();
+    }
+
+    /** Target duration of a merged TX used by adaptive merging (default: 100 ms). */
+    public void setMergeTargetMillis(int mergeTargetMillis) {
+        executor.setMergeTargetMillis(mergeTargetMillis);
+    }
+
+    /** Moving average of the time a mergeable operation took inside a merged TX (in ms); 0 if nothing was merged yet. */
+    public double getAverageOperationMillis() {
+        return executor.getAverageOperationMillis();
+    }
+
+    /** Live histogram of the TX sizes of operations flagged with {@link AsyncOperation#FLAG_MERGE_TX}. */
+    public MergedBatchHistogram getMergedBatchHistogram() {
+        return executor.getMergedBatchHistogram();
+    }
+
+    /**
+     * Executes read-only operations (queries, load, loadAll, and count) on a pool of the given number of threads
+     * instead of the serial executor thread. Reads are still dispatched in the order they were enqueued and writes wait
+     * for preceding reads, so each read observes exactly the writes enqueued before it. This pays off if the database
+     * uses write-ahead logging (see {@link SQLiteDatabase#enableWriteAheadLogging()}), which allows concurrent reads
+     * on separate connections. Pass 0 to go back to serial execution; the previous pool is shut down after its
+     * operations completed.
+     * <p>
+     * Note that reads still block writes: a write does not start before all reads enqueued ahead of it completed, so a
+     * slow read (e.g. a large report query) delays all writes behind it. Only reads without a write in between run in
+     * parallel.
+     */
+    public synchronized void setParallelReads(int threadCount) {
+        if (threadCount < 0) {
+            throw new IllegalArgumentException("Thread count must not be negative: " + threadCount);
+        }
+        ExecutorService newPool = threadCount > 0 ? Executors.newFixedThreadPool(threadCount) : null;
+        setReadExecutor(newPool);
+        ownReadPool = newPool;
+    }
+
+    /**
+     * Uses the given executor (e.g. a pool shared by several sessions) for read-only operations, or null for serial
+     * execution. See {@link #setParallelReads(int)} for details; the caller is responsible to shut down the executor.
+     */
+    public synchronized void setReadExecutor(ExecutorService readExecutor) {
+        executor.setReadExecutorService(readExecutor);
+        if (ownReadPool != null) {
+            // Already dispatched reads are still executed
+            ownReadPool.shutdown();
+            ownReadPool = null;
+        }
+    }
+
+    public int getQueueCapacity() {
+        return executor.getQueueCapacity();
+    }
+
+    /**
+     * Limits the number of queued operations (default: unlimited). Operations flagged with
+     * {@link AsyncOperation#FLAG_BACKGROUND} share the capacity with interactive operations, but are only executed if
+     * no interactive operation is queued. See {@link #setOverflowPolicy(OverflowPolicy)} for full queues.
+     */
+    public void setQueueCapacity(int capacity) {
+        executor.setQueueCapacity(capacity);
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return executor.getOverflowPolicy();
+    }
+
+    /** Sets what happens if an operation is enqueued while the queue is full (default: {@link OverflowPolicy#BLOCK}). */
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        executor.setOverflowPolicy(overflowPolicy);
+    }
+
+    /** Returns a snapshot of the queue depth and wait time metrics. */
+    public AsyncQueueMetrics getQueueMetrics() {
+        return executor.getQueueMetrics();
+    }
+
+    public void resetQueueMetrics() {
+        executor.resetQueueMetrics();
+    }
+
+    public boolean isCoalesceWrites() {
+        return executor.isCoalesceWrites();
+    }
+
+    /**
+     * Enables coalescing of single entity writes (update, insertOrReplace, delete, and deleteByKey) that target the
+     * same DAO and key and are still queued: an update supersedes a pending update, insertOrReplace supersedes a
+     * pending update or insertOrReplace, and a delete supersedes any pending write. Superseded operations are removed
+     * from the queue and complete together with the operation superseding them (see
+     * {@link AsyncOperation#getCoalescedInto()}). Any other operation (e.g. a query) enqueued in between prevents
+     * coalescing with the writes enqueued before it, so it still observes them. Disabled by default.
+     */
+    public void setCoalesceWrites(boolean coalesceWrites) {
+        executor.setCoalesceWrites(coalesceWrites);
+    }
+
     public AsyncOperationListener getListener() {
         return executor.getListener();
     }
@@ -303,7 +506,7 @@ public class AsyncSession {
     }
 
     private AsyncOperation enqueueDatabaseOperation(OperationType type, Object param, int flags) {
-        AsyncOperation operation = new AsyncOperation(type, daoSession.getDatabase(), param, flags);
+        AsyncOperation operation = new AsyncOperation(type, daoSession.getDaoDatabase(), param, flags);
         executor.enqueue(operation);
         return operation;
     }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2012 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao.async;
+
+/**
+ * Histogram of the transaction sizes produced for operations flagged with {@link AsyncOperation#FLAG_MERGE_TX}. Bucket
+ * i counts transactions containing 2^i to 2^(i+1)-1 operations (the last bucket is open ended); an operation that
+ * could not be merged counts as a transaction of size 1.
+ *
+ * @see AsyncSession#getMergedBatchHistogram()
+ */
+public class MergedBatchHistogram {
+    public static final int BUCKET_COUNT = 8;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long batchCount;
+    private long operationCount;
+
+    synchronized void record(int batchSize) {
+        int bucket = 31 - Integer.numberOfLeadingZeros(Math.max(batchSize, 1));
+        counts[Math.min(bucket, BUCKET_COUNT - 1)]++;
+        batchCount++;
+        operationCount += batchSize;
+    }
+
+    /** Smallest batch size counted by the given bucket. */
+    public static int getBucketLowerBound(int bucket) {
+        return 1 << bucket;
+    }
+
+    /** @return a copy of the counts per bucket */
+    public synchronized long[] getCounts() {
+        return counts.clone();
+    }
+
+    /** Number of transactions (including single operations that could not be merged). */
+    public synchronized long getBatchCount() {
+        return batchCount;
+    }
+
+    /** Number of operations executed in all recorded transactions. */
+    public synchronized long getOperationCount() {
+        return operationCount;
+    }
+
+    public synchronized double getAverageBatchSize() {
+        return batchCount == 0 ? 0 : (double) operationCount / batchCount;
+    }
+
+    public synchronized void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = 0;
+        }
+        batchCount = 0;
+        operationCount = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder builder = new StringBuilder("MergedBatchHistogram[");
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(getBucketLowerBound(i)).append(i == BUCKET_COUNT - 1 ? "+" : "").append(": ");
+            builder.append(counts[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao.database;
+
+import android.database.Cursor;
+import android.database.SQLException;
+
+/**
+ * Database abstraction used by greenDAO instead of Android's SQLiteDatabase, so DAOs can run on other SQLite
+ * implementations. Methods behave like their SQLiteDatabase counterparts, including nested transactions. Use
+ * {@link StandardDatabase} on Android and {@link JdbcDatabase} on a plain JVM.
+ */
+public interface Database {
+    Cursor rawQuery(String sql, String[] selectionArgs);
+
+    void execSQL(String sql) throws SQLException;
+
+    void execSQL(String sql, Object[] bindArgs) throws SQLException;
+
+    DatabaseStatement compileStatement(String sql);
+
+    void beginTransaction();
+
+    void setTransactionSuccessful();
+
+    void endTransaction();
+
+    /** True if the current thread has a transaction pending. */
+    boolean inTransaction();
+
+    /** True if the current thread holds the database connection (e.g. inside a transaction). */
+    boolean isDbLockedByCurrentThread();
+
+    boolean isOpen();
+
+    void close();
+
+    /** The underlying database object, e.g. SQLiteDatabase or java.sql.Connection. */
+    Object getRawDatabase();
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao.database;
+
+/** Compiled statement of a {@link Database}; methods behave like their SQLiteStatement counterparts. */
+public interface DatabaseStatement {
+    void execute();
+
+    /** Executes an INSERT statement and returns the row ID of the inserted row, or -1 if no row was inserted. */
+    long executeInsert();
+
+    /** Executes a statement returning a single row and column, e.g. a COUNT query. */
+    long simpleQueryForLong();
+
+    void bindNull(int index);
+
+    void bindLong(int index, long value);
+
+    void bindDouble(int index, double value);
+
+    void bindString(int index, String value);
+
+    void bindBlob(int index, byte[] value);
+
+    void clearBindings();
+
+    void close();
+
+    /** The underlying statement object, e.g. SQLiteStatement or java.sql.PreparedStatement. */
+    Object getRawStatement();
+}
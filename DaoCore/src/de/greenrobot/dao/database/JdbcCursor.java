@@ -0,0 +1,360 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao.database;
+
+import java.nio.charset.Charset;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+
+import android.content.ContentResolver;
+import android.database.CharArrayBuffer;
+import android.database.ContentObserver;
+import android.database.Cursor;
+import android.database.DataSetObserver;
+import android.net.Uri;
+import android.os.Bundle;
+
+/**
+ * Cursor of a {@link JdbcDatabase} holding all rows of a result in memory (like a single CursorWindow). Values are
+ * converted between types like SQLite does for Android cursors, e.g. getLong() parses strings.
+ */
+public class JdbcCursor implements Cursor {
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private final String[] columnNames;
+    private final ArrayList<Object[]> rows;
+    private final int count;
+    private int position = -1;
+    private Object[] row;
+    private boolean closed;
+
+    /** Reads all remaining rows of the given result set; the result set is not closed. */
+    public JdbcCursor(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        columnNames = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnNames[i] = metaData.getColumnLabel(i + 1);
+        }
+        rows = new ArrayList<Object[]>();
+        while (resultSet.next()) {
+            Object[] values = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                Object value = resultSet.getObject(i + 1);
+                if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                    value = ((Number) value).longValue();
+                } else if (value instanceof Float) {
+                    value = ((Float) value).doubleValue();
+                } else if (value instanceof Boolean) {
+                    value = ((Boolean) value) ? 1L : 0L;
+                }
+                values[i] = value;
+            }
+            rows.add(values);
+        }
+        count = rows.size();
+    }
+
+    private JdbcCursor(JdbcCursor source) {
+        columnNames = source.columnNames;
+        rows = source.rows;
+        count = source.count;
+    }
+
+    /** Returns a cursor sharing the (immutable) rows with an own position, e.g. to read rows in several threads. */
+    public JdbcCursor copy() {
+        return new JdbcCursor(this);
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public int getPosition() {
+        return position;
+    }
+
+    @Override
+    public boolean move(int offset) {
+        return moveToPosition(position + offset);
+    }
+
+    @Override
+    public boolean moveToPosition(int position) {
+        if (position < 0) {
+            this.position = -1;
+            row = null;
+            return false;
+        } else if (position >= count) {
+            this.position = count;
+            row = null;
+            return false;
+        }
+        this.position = position;
+        row = rows.get(position);
+        return true;
+    }
+
+    @Override
+    public boolean moveToFirst() {
+        return moveToPosition(0);
+    }
+
+    @Override
+    public boolean moveToLast() {
+        return moveToPosition(count - 1);
+    }
+
+    @Override
+    public boolean moveToNext() {
+        return moveToPosition(position + 1);
+    }
+
+    @Override
+    public boolean moveToPrevious() {
+        return moveToPosition(position - 1);
+    }
+
+    @Override
+    public boolean isFirst() {
+        return count > 0 && position == 0;
+    }
+
+    @Override
+    public boolean isLast() {
+        return count > 0 && position == count - 1;
+    }
+
+    @Override
+    public boolean isBeforeFirst() {
+        return count == 0 || position == -1;
+    }
+
+    @Override
+    public boolean isAfterLast() {
+        return count == 0 || position == count;
+    }
+
+    @Override
+    public int getColumnIndex(String columnName) {
+        for (int i = 0; i < columnNames.length; i++) {
+            if (columnNames[i].equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int getColumnIndexOrThrow(String columnName) throws IllegalArgumentException {
+        int index = getColumnIndex(columnName);
+        if (index < 0) {
+            throw new IllegalArgumentException("Column '" + columnName + "' does not exist");
+        }
+        return index;
+    }
+
+    @Override
+    public String getColumnName(int columnIndex) {
+        return columnNames[columnIndex];
+    }
+
+    @Override
+    public String[] getColumnNames() {
+        return columnNames.clone();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    private Object getValue(int columnIndex) {
+        if (row == null) {
+            throw new IllegalStateException("Cursor is not positioned on a row: " + position);
+        }
+        return row[columnIndex];
+    }
+
+    @Override
+    public byte[] getBlob(int columnIndex) {
+        Object value = getValue(columnIndex);
+        if (value == null || value instanceof byte[]) {
+            return (byte[]) value;
+        }
+        return value.toString().getBytes(UTF8);
+    }
+
+    @Override
+    public String getString(int columnIndex) {
+        Object value = getValue(columnIndex);
+        if (value == null || value instanceof String) {
+            return (String) value;
+        } else if (value instanceof byte[]) {
+            return new String((byte[]) value, UTF8);
+        }
+        return value.toString();
+    }
+
+    @Override
+    public void copyStringToBuffer(int columnIndex, CharArrayBuffer buffer) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public short getShort(int columnIndex) {
+        return (short) getLong(columnIndex);
+    }
+
+    @Override
+    public int getInt(int columnIndex) {
+        return (int) getLong(columnIndex);
+    }
+
+    /** Like SQLite, converts floating point values by truncating and returns 0 for text not starting with a number. */
+    @Override
+    public long getLong(int columnIndex) {
+        Object value = getValue(columnIndex);
+        if (value instanceof Long) {
+            return (Long) value;
+        } else if (value instanceof Number) {
+            return ((Number) value).longValue();
+        } else if (value == null) {
+            return 0;
+        }
+        String text = getString(columnIndex).trim();
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            return (long) parseDouble(text);
+        }
+    }
+
+    @Override
+    public float getFloat(int columnIndex) {
+        return (float) getDouble(columnIndex);
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+        Object value = getValue(columnIndex);
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        } else if (value == null) {
+            return 0;
+        }
+        return parseDouble(getString(columnIndex).trim());
+    }
+
+    private double parseDouble(String text) {
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    @Override
+    public boolean isNull(int columnIndex) {
+        return getValue(columnIndex) == null;
+    }
+
+    @Override
+    public void deactivate() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean requery() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void registerContentObserver(ContentObserver observer) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void unregisterContentObserver(ContentObserver observer) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void registerDataSetObserver(DataSetObserver observer) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void unregisterDataSetObserver(DataSetObserver observer) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setNotificationUri(ContentResolver cr, Uri uri) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean getWantsAllOnMoveCalls() {
+        return false;
+    }
+
+    @Override
+    public Bundle getExtras() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Bundle respond(Bundle extras) {
+        throw new UnsupportedOperationException();
+    }
+
+    /** Since API level 11 */
+    public int getType(int columnIndex) {
+        Object value = getValue(columnIndex);
+        if (value == null) {
+            return FIELD_TYPE_NULL;
+        } else if (value instanceof Long) {
+            return FIELD_TYPE_INTEGER;
+        } else if (value instanceof Number) {
+            return FIELD_TYPE_FLOAT;
+        } else if (value instanceof byte[]) {
+            return FIELD_TYPE_BLOB;
+        } else {
+            return FIELD_TYPE_STRING;
+        }
+    }
+
+    /** Since API level 19 */
+    public Uri getNotificationUri() {
+        return null;
+    }
+
+}
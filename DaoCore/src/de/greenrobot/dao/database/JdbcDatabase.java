@@ -0,0 +1,274 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao.database;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.BitSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+import android.database.Cursor;
+
+/**
+ * {@link Database} backed by a JDBC connection to SQLite (e.g. the xerial sqlite-jdbc driver), which allows using DAOs
+ * on a plain JVM, for example in server side tools and benchmarks. Like SQLiteDatabase, a thread holding a transaction
+ * has exclusive access to the connection; other threads wait until it ends the transaction. Queries read their entire
+ * result into a {@link JdbcCursor}.<br/>
+ * <br/>
+ * Example:<br/>
+ * <code>
+ * Database db = JdbcDatabase.open("jdbc:sqlite:notes.db");<br/>
+ * DaoSession session = new DaoMaster(db).newSession();
+ * </code>
+ */
+public class JdbcDatabase implements Database {
+    /** Opens a connection using {@link DriverManager}; the SQLite JDBC driver must be on the class path. */
+    public static JdbcDatabase open(String url) {
+        try {
+            return new JdbcDatabase(DriverManager.getConnection(url));
+        } catch (SQLException e) {
+            throw new JdbcException("Could not open " + url, e);
+        }
+    }
+
+    private final Connection connection;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Transaction state (guarded by lock)
+    private int transactionDepth;
+    private final BitSet successful = new BitSet();
+    private boolean failed;
+    private PreparedStatement lastInsertRowIdStatement;
+
+    public JdbcDatabase(Connection connection) {
+        this.connection = connection;
+    }
+
+    void lock() {
+        lock.lock();
+    }
+
+    void unlock() {
+        lock.unlock();
+    }
+
+    @Override
+    public Cursor rawQuery(String sql, String[] selectionArgs) {
+        lock.lock();
+        try {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            try {
+                if (selectionArgs != null) {
+                    for (int i = 0; i < selectionArgs.length; i++) {
+                        statement.setString(i + 1, selectionArgs[i]);
+                    }
+                }
+                ResultSet resultSet = statement.executeQuery();
+                try {
+                    return new JdbcCursor(resultSet);
+                } finally {
+                    resultSet.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } catch (SQLException e) {
+            throw new JdbcException("Could not execute query", sql, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void execSQL(String sql) {
+        lock.lock();
+        try {
+            Statement statement = connection.createStatement();
+            try {
+                statement.execute(sql);
+            } finally {
+                statement.close();
+            }
+        } catch (SQLException e) {
+            throw new JdbcException("Could not execute SQL", sql, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Binds the arguments like SQLiteDatabase: numbers, byte arrays and booleans by type, others as strings. */
+    @Override
+    public void execSQL(String sql, Object[] bindArgs) {
+        lock.lock();
+        try {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            try {
+                for (int i = 0; i < bindArgs.length; i++) {
+                    bindObject(statement, i + 1, bindArgs[i]);
+                }
+                statement.execute();
+            } finally {
+                statement.close();
+            }
+        } catch (SQLException e) {
+            throw new JdbcException("Could not execute SQL", sql, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void bindObject(PreparedStatement statement, int index, Object value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, java.sql.Types.NULL);
+        } else if (value instanceof Double || value instanceof Float) {
+            statement.setDouble(index, ((Number) value).doubleValue());
+        } else if (value instanceof Number) {
+            statement.setLong(index, ((Number) value).longValue());
+        } else if (value instanceof Boolean) {
+            statement.setLong(index, ((Boolean) value) ? 1 : 0);
+        } else if (value instanceof byte[]) {
+            statement.setBytes(index, (byte[]) value);
+        } else {
+            statement.setString(index, value.toString());
+        }
+    }
+
+    @Override
+    public DatabaseStatement compileStatement(String sql) {
+        try {
+            return new JdbcDatabaseStatement(this, connection.prepareStatement(sql), sql);
+        } catch (SQLException e) {
+            throw new JdbcException("Could not compile statement", sql, e);
+        }
+    }
+
+    /** Called by statements after executing an INSERT while holding the lock. */
+    long queryLastInsertRowId() throws SQLException {
+        if (lastInsertRowIdStatement == null) {
+            lastInsertRowIdStatement = connection.prepareStatement("SELECT last_insert_rowid()");
+        }
+        ResultSet resultSet = lastInsertRowIdStatement.executeQuery();
+        try {
+            resultSet.next();
+            return resultSet.getLong(1);
+        } finally {
+            resultSet.close();
+        }
+    }
+
+    /** Begins a (possibly nested) transaction; the current thread keeps the connection until the transaction ends. */
+    @Override
+    public void beginTransaction() {
+        lock.lock();
+        if (transactionDepth == 0) {
+            try {
+                connection.setAutoCommit(false);
+            } catch (SQLException e) {
+                lock.unlock();
+                throw new JdbcException("Could not begin transaction", e);
+            }
+            failed = false;
+        }
+        transactionDepth++;
+        successful.clear(transactionDepth);
+    }
+
+    @Override
+    public void setTransactionSuccessful() {
+        checkTransaction();
+        successful.set(transactionDepth);
+    }
+
+    /**
+     * Ends the current transaction. The outermost transaction is committed only if it and all nested transactions were
+     * marked successful; otherwise it is rolled back.
+     */
+    @Override
+    public void endTransaction() {
+        checkTransaction();
+        try {
+            if (!successful.get(transactionDepth)) {
+                failed = true;
+            }
+            transactionDepth--;
+            if (transactionDepth == 0) {
+                try {
+                    if (failed) {
+                        connection.rollback();
+                    } else {
+                        connection.commit();
+                    }
+                } finally {
+                    connection.setAutoCommit(true);
+                }
+            }
+        } catch (SQLException e) {
+            throw new JdbcException("Could not end transaction", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void checkTransaction() {
+        if (!inTransaction()) {
+            throw new JdbcException("No transaction in progress for the current thread");
+        }
+    }
+
+    @Override
+    public boolean inTransaction() {
+        return lock.isHeldByCurrentThread() && transactionDepth > 0;
+    }
+
+    @Override
+    public boolean isDbLockedByCurrentThread() {
+        return lock.isHeldByCurrentThread();
+    }
+
+    @Override
+    public boolean isOpen() {
+        try {
+            return !connection.isClosed();
+        } catch (SQLException e) {
+            throw new JdbcException("Could not check connection", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (lastInsertRowIdStatement != null) {
+                lastInsertRowIdStatement.close();
+            }
+            connection.close();
+        } catch (SQLException e) {
+            throw new JdbcException("Could not close database", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Connection getRawDatabase() {
+        return connection;
+    }
+
+}
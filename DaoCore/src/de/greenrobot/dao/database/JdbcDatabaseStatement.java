@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao.database;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/** {@link DatabaseStatement} of a {@link JdbcDatabase}; executing waits for transactions of other threads. */
+public class JdbcDatabaseStatement implements DatabaseStatement {
+    private final JdbcDatabase database;
+    private final PreparedStatement delegate;
+    private final String sql;
+    private final int parameterCount;
+
+    JdbcDatabaseStatement(JdbcDatabase database, PreparedStatement delegate, String sql) throws SQLException {
+        this.database = database;
+        this.delegate = delegate;
+        this.sql = sql;
+        parameterCount = delegate.getParameterMetaData().getParameterCount();
+    }
+
+    @Override
+    public void execute() {
+        database.lock();
+        try {
+            delegate.execute();
+        } catch (SQLException e) {
+            throw new JdbcException("Could not execute statement", sql, e);
+        } finally {
+            database.unlock();
+        }
+    }
+
+    @Override
+    public long executeInsert() {
+        database.lock();
+        try {
+            int count = delegate.executeUpdate();
+            return count > 0 ? database.queryLastInsertRowId() : -1;
+        } catch (SQLException e) {
+            throw new JdbcException("Could not execute insert", sql, e);
+        } finally {
+            database.unlock();
+        }
+    }
+
+    @Override
+    public long simpleQueryForLong() {
+        database.lock();
+        try {
+            ResultSet resultSet = delegate.executeQuery();
+            try {
+                if (!resultSet.next()) {
+                    throw new JdbcException("Query returned no rows", sql, null);
+                }
+                return resultSet.getLong(1);
+            } finally {
+                resultSet.close();
+            }
+        } catch (SQLException e) {
+            throw new JdbcException("Could not execute query", sql, e);
+        } finally {
+            database.unlock();
+        }
+    }
+
+    @Override
+    public void bindNull(int index) {
+        try {
+            delegate.setNull(index, Types.NULL);
+        } catch (SQLException e) {
+            throw new JdbcException("Could not bind value", sql, e);
+        }
+    }
+
+    @Override
+    public void bindLong(int index, long value) {
+        try {
+            delegate.setLong(index, value);
+        } catch (SQLException e) {
+            throw new JdbcException("Could not bind value", sql, e);
+        }
+    }
+
+    @Override
+    public void bindDouble(int index, double value) {
+        try {
+            delegate.setDouble(index, value);
+        } catch (SQLException e) {
+            throw new JdbcException("Could not bind value", sql, e);
+        }
+    }
+
+    @Override
+    public void bindString(int index, String value) {
+        try {
+            delegate.setString(index, value);
+        } catch (SQLException e) {
+            throw new JdbcException("Could not bind value", sql, e);
+        }
+    }
+
+    @Override
+    public void bindBlob(int index, byte[] value) {
+        try {
+            delegate.setBytes(index, value);
+        } catch (SQLException e) {
+            throw new JdbcException("Could not bind value", sql, e);
+        }
+    }
+
+    /**
+     * Binds NULL to all parameters like SQLiteStatement does. JDBC's clearParameters leaves the parameters unbound, which
+     * makes executing fail with some drivers (e.g. sqlite-jdbc: "Values not bound to statement").
+     */
+    @Override
+    public void clearBindings() {
+        try {
+            for (int i = 1; i <= parameterCount; i++) {
+                delegate.setNull(i, Types.NULL);
+            }
+        } catch (SQLException e) {
+            throw new JdbcException("Could not clear bindings", sql, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            delegate.close();
+        } catch (SQLException e) {
+            throw new JdbcException("Could not close statement", sql, e);
+        }
+    }
+
+    @Override
+    public PreparedStatement getRawStatement() {
+        return delegate;
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao.database;
+
+/**
+ * Exception thrown by the JDBC backend. Unlike DaoException, it does not depend on Android classes, so message and cause
+ * are available on a plain JVM. If the failure is caused by a statement, its SQL is available via {@link #getSql()}.
+ */
+public class JdbcException extends RuntimeException {
+
+    private static final long serialVersionUID = 3218458376240361427L;
+
+    private final String sql;
+
+    public JdbcException(String error) {
+        this(error, null, null);
+    }
+
+    public JdbcException(String error, Throwable cause) {
+        this(error, null, cause);
+    }
+
+    public JdbcException(String error, String sql, Throwable cause) {
+        super(sql != null ? error + ": " + sql : error, cause);
+        this.sql = sql;
+    }
+
+    /** The SQL of the failed statement, or null if the failure is not related to a statement. */
+    public String getSql() {
+        return sql;
+    }
+
+}
@@ -25,6 +25,9 @@ import android.database.sqlite.SQLiteDatabase;
 import de.greenrobot.dao.AbstractDao;
 import de.greenrobot.dao.DaoException;
 import de.greenrobot.dao.Property;
+import de.greenrobot.dao.ReadConnectionPool;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.StandardDatabase;
 import de.greenrobot.dao.identityscope.IdentityScope;
 import de.greenrobot.dao.identityscope.IdentityScopeLong;
 import de.greenrobot.dao.identityscope.IdentityScopeObject;
@@ -36,7 +39,7 @@ import de.greenrobot.dao.identityscope.IdentityScopeType;
  */
 public final class DaoConfig implements Cloneable {
 
-    public final SQLiteDatabase db;
+    public final Database db;
     public final String tablename;
     public final Property[] properties;
 
@@ -50,8 +53,13 @@ public final class DaoConfig implements Cloneable {
     public final TableStatements statements;
 
     private IdentityScope<?, ?> identityScope;
+    private ReadConnectionPool readConnectionPool;
 
     public DaoConfig(SQLiteDatabase db, Class<? extends AbstractDao<?, ?>> daoClass) {
+        this(new StandardDatabase(db), daoClass);
+    }
+
+    public DaoConfig(Database db, Class<? extends AbstractDao<?, ?>> daoClass) {
         this.db = db;
         try {
             this.tablename = (String) daoClass.getField("TABLENAME").get(null);
@@ -125,7 +133,7 @@ public final class DaoConfig implements Cloneable {
         return properties;
     }
 
-    /** Does not copy identity scope. */
+    /** Does not copy identity scope (but the read connection pool). */
     public DaoConfig(DaoConfig source) {
         db = source.db;
         tablename = source.tablename;
@@ -136,6 +144,7 @@ public final class DaoConfig implements Cloneable {
         pkProperty = source.pkProperty;
         statements = source.statements;
         keyIsNumeric = source.keyIsNumeric;
+        readConnectionPool = source.readConnectionPool;
     }
 
     /** Does not copy identity scope. */
@@ -152,6 +161,15 @@ public final class DaoConfig implements Cloneable {
         this.identityScope = identityScope;
     }
 
+    /** Pool to run reads on or null if reads use {@link #db}. */
+    public ReadConnectionPool getReadConnectionPool() {
+        return readConnectionPool;
+    }
+
+    public void setReadConnectionPool(ReadConnectionPool readConnectionPool) {
+        this.readConnectionPool = readConnectionPool;
+    }
+
     @SuppressWarnings("rawtypes")
     public void initIdentityScope(IdentityScopeType type) {
         if (type == IdentityScopeType.None) {
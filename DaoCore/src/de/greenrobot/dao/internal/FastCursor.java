@@ -18,27 +18,79 @@ package de.greenrobot.dao.internal;
 import android.content.ContentResolver;
 import android.database.CharArrayBuffer;
 import android.database.ContentObserver;
+import android.database.CrossProcessCursor;
 import android.database.Cursor;
 import android.database.CursorWindow;
 import android.database.DataSetObserver;
 import android.net.Uri;
+import android.os.Build;
 import android.os.Bundle;
+import de.greenrobot.dao.DaoException;
 
-/** Internal class used by greenDAO. */
+/**
+ * Internal class used by greenDAO. Reads directly from a CursorWindow. If created for a cursor whose result does not fit
+ * into a single window, the cursor's window is refilled once the position leaves the current window.
+ */
 final public class FastCursor implements Cursor {
 
-    private final CursorWindow window;
-    private int position;
+    private final CrossProcessCursor source;
     private final int count;
+    private CursorWindow window;
+    private int windowStart;
+    private int windowEnd;
+    private int position;
 
+    /** Reads the rows of the given window; positions are cursor positions (the window may start after 0). */
     public FastCursor(CursorWindow window) {
+        source = null;
+        count = window.getStartPosition() + window.getNumRows();
+        setWindow(window);
+    }
+
+    /**
+     * Reads all rows of the given cursor through its (refilled) window. The cursor must already have a window; the
+     * given cursor must be closed by the caller.
+     */
+    public FastCursor(CrossProcessCursor source) {
+        this.source = source;
+        count = source.getCount();
+        CursorWindow window = source.getWindow();
+        if (window == null) {
+            throw new DaoException("Cursor has no window");
+        }
+        setWindow(window);
+    }
+
+    private void setWindow(CursorWindow window) {
         this.window = window;
-        count = window.getNumRows();
+        windowStart = window.getStartPosition();
+        windowEnd = windowStart + window.getNumRows();
+    }
+
+    /** Moves the source cursor, which lets it refill its window starting at (or before) the given position. */
+    private void fillWindow(int position) {
+        if (source == null || !source.moveToPosition(position)) {
+            throw new DaoException("Could not move cursor to position " + position + " of " + count);
+        }
+        CursorWindow window = source.getWindow();
+        if (window == null || position < window.getStartPosition()
+                || position >= window.getStartPosition() + window.getNumRows()) {
+            throw new DaoException("Cursor window does not contain position " + position);
+        }
+        setWindow(window);
+    }
+
+    /**
+     * True if moving to the next row requires refilling the window, which executes the query step by step. Callers
+     * holding locks may release them for that.
+     */
+    public boolean isLastInWindow() {
+        return position == windowEnd - 1 && position < count - 1;
     }
 
     @Override
     public int getCount() {
-        return window.getNumRows();
+        return count;
     }
 
     @Override
@@ -54,6 +106,9 @@ final public class FastCursor implements Cursor {
     @Override
     public boolean moveToPosition(int position) {
         if (position >= 0 && position < count) {
+            if (position < windowStart || position >= windowEnd) {
+                fillWindow(position);
+            }
             this.position = position;
             return true;
         } else {
@@ -63,38 +118,22 @@ final public class FastCursor implements Cursor {
 
     @Override
     public boolean moveToFirst() {
-        position = 0;
-        return count > 0;
+        return moveToPosition(0);
     }
 
     @Override
     public boolean moveToLast() {
-        if (count > 0) {
-            position = count - 1;
-            return true;
-        } else {
-            return false;
-        }
+        return moveToPosition(count - 1);
     }
 
     @Override
     public boolean moveToNext() {
-        if (position < count - 1) {
-            position++;
-            return true;
-        } else {
-            return false;
-        }
+        return moveToPosition(position + 1);
     }
 
     @Override
     public boolean moveToPrevious() {
-        if (position > 0) {
-            position--;
-            return true;
-        } else {
-            return false;
-        }
+        return moveToPosition(position - 1);
     }
 
     @Override
@@ -249,7 +288,10 @@ final public class FastCursor implements Cursor {
 
     /** Since API level 11 */
     public int getType(int columnIndex) {
-        throw new UnsupportedOperationException();
+        if (Build.VERSION.SDK_INT < 11) {
+            throw new UnsupportedOperationException("Column types are available since API level 11");
+        }
+        return window.getType(position, columnIndex);
     }
 
     /** Since API level 19 */
@@ -110,6 +110,48 @@ public class SqlUtils {
         return builder.toString();
     }
 
+    /**
+     * Creates an INSERT that updates the non-PK columns of an existing row with the same PK instead of failing
+     * (requires SQLite 3.24). Unlike INSERT OR REPLACE, the existing row is not deleted.
+     */
+    public static String createSqlUpsert(String tablename, String[] columns, String[] pkColumns) {
+        if (pkColumns == null || pkColumns.length == 0) {
+            throw new DaoException("Upsert requires a primary key (table " + tablename + ")");
+        }
+        StringBuilder builder = new StringBuilder(createSqlInsert("INSERT INTO ", tablename, columns));
+        builder.append(" ON CONFLICT(");
+        for (int i = 0; i < pkColumns.length; i++) {
+            appendColumn(builder, pkColumns[i]);
+            if (i < pkColumns.length - 1) {
+                builder.append(',');
+            }
+        }
+        builder.append(") DO ");
+        boolean first = true;
+        for (String column : columns) {
+            if (!contains(pkColumns, column)) {
+                builder.append(first ? "UPDATE SET " : ",");
+                appendColumn(builder, column).append("=excluded.");
+                appendColumn(builder, column);
+                first = false;
+            }
+        }
+        if (first) {
+            // PK only: nothing to update
+            builder.append("NOTHING");
+        }
+        return builder.toString();
+    }
+
+    private static boolean contains(String[] columns, String column) {
+        for (String candidate : columns) {
+            if (candidate.equals(column)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /** Creates an select for given columns with a trailing space */
     public static String createSqlSelect(String tablename, String tableAlias, String[] columns, boolean distinct) {
         StringBuilder builder = new StringBuilder("SELECT ");
@@ -172,4 +214,16 @@ public class SqlUtils {
         return builder.toString();
     }
 
-}
+    /** Checks a SQLite version string like "3.24.0" (as returned by sqlite_version()) against a minimum version. */
+    public static boolean isVersionAtLeast(String version, int major, int minor) {
+        String[] parts = version.split("\\.");
+        try {
+            int versionMajor = Integer.parseInt(parts[0]);
+            int versionMinor = parts.length > 1 ? Integer.parseInt(parts[1]) : 0;
+            return versionMajor > major || (versionMajor == major && versionMinor >= minor);
+        } catch (NumberFormatException e) {
+            throw new DaoException("Unexpected version: " + version);
+        }
+    }
+
+}
\ No newline at end of file
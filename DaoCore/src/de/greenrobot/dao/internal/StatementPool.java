@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao.internal;
+
+import java.util.ArrayList;
+
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.DatabaseStatement;
+
+/**
+ * Pool of compiled statements for one SQL string (used by greenDAO internally). A statement holds its bound values,
+ * so only one thread may use it at a time: instead of synchronizing on a single shared statement, each writer takes a
+ * statement of its own from the pool and returns it afterwards. Acquiring never blocks; if all pooled statements are in
+ * use, another one is compiled. At most {@link #MAX_IDLE} statements are kept for reuse.
+ */
+public class StatementPool {
+    /** Writers are serialized by the DB connection anyway, so only a few statements are in use at the same time. */
+    public static final int MAX_IDLE = 4;
+
+    private final Database db;
+    private final String sql;
+    private final ArrayList<DatabaseStatement> idle = new ArrayList<DatabaseStatement>(MAX_IDLE);
+
+    private int compiledCount;
+
+    public StatementPool(Database db, String sql) {
+        this.db = db;
+        this.sql = sql;
+    }
+
+    /** Takes a statement from the pool or compiles a new one; pass it to {@link #release(DatabaseStatement)} after use. */
+    public DatabaseStatement acquire() {
+        synchronized (idle) {
+            int size = idle.size();
+            if (size > 0) {
+                return idle.remove(size - 1);
+            }
+            compiledCount++;
+        }
+        return db.compileStatement(sql);
+    }
+
+    /** Returns the statement to the pool; closes it if the pool is full. */
+    public void release(DatabaseStatement stmt) {
+        synchronized (idle) {
+            if (idle.size() < MAX_IDLE) {
+                idle.add(stmt);
+                return;
+            }
+        }
+        stmt.close();
+    }
+
+    /** Number of statements compiled so far; more than one indicates concurrent writers. */
+    public int getCompiledCount() {
+        synchronized (idle) {
+            return compiledCount;
+        }
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+}
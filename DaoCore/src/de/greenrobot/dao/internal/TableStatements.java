@@ -15,63 +15,91 @@
  */
 package de.greenrobot.dao.internal;
 
-import android.database.sqlite.SQLiteDatabase;
-import android.database.sqlite.SQLiteStatement;
+import android.database.Cursor;
+import de.greenrobot.dao.database.Database;
 
 /** Helper class to create SQL statements for specific tables (used by greenDAO internally). */
 public class TableStatements {
-    private final SQLiteDatabase db;
+    private final Database db;
     private final String tablename;
     private final String[] allColumns;
     private final String[] pkColumns;
 
-    private SQLiteStatement insertStatement;
-    private SQLiteStatement insertOrReplaceStatement;
-    private SQLiteStatement updateStatement;
-    private SQLiteStatement deleteStatement;
+    private volatile StatementPool insertPool;
+    private volatile StatementPool insertOrReplacePool;
+    private volatile StatementPool upsertPool;
+    private volatile StatementPool updatePool;
+    private volatile StatementPool deletePool;
+    private volatile StatementPool changesPool;
+    private volatile Boolean upsertSupported;
 
     private volatile String selectAll;
     private volatile String selectByKey;
     private volatile String selectByRowId;
     private volatile String selectKeys;
 
-    public TableStatements(SQLiteDatabase db, String tablename, String[] allColumns, String[] pkColumns) {
+    public TableStatements(Database db, String tablename, String[] allColumns, String[] pkColumns) {
         this.db = db;
         this.tablename = tablename;
         this.allColumns = allColumns;
         this.pkColumns = pkColumns;
     }
 
-    public SQLiteStatement getInsertStatement() {
-        if (insertStatement == null) {
-            String sql = SqlUtils.createSqlInsert("INSERT INTO ", tablename, allColumns);
-            insertStatement = db.compileStatement(sql);
+    public StatementPool getInsertPool() {
+        if (insertPool == null) {
+            insertPool = new StatementPool(db, SqlUtils.createSqlInsert("INSERT INTO ", tablename, allColumns));
         }
-        return insertStatement;
+        return insertPool;
     }
 
-    public SQLiteStatement getInsertOrReplaceStatement() {
-        if (insertOrReplaceStatement == null) {
+    public StatementPool getInsertOrReplacePool() {
+        if (insertOrReplacePool == null) {
             String sql = SqlUtils.createSqlInsert("INSERT OR REPLACE INTO ", tablename, allColumns);
-            insertOrReplaceStatement = db.compileStatement(sql);
+            insertOrReplacePool = new StatementPool(db, sql);
         }
-        return insertOrReplaceStatement;
+        return insertOrReplacePool;
     }
 
-    public SQLiteStatement getDeleteStatement() {
-        if (deleteStatement == null) {
-            String sql = SqlUtils.createSqlDelete(tablename, pkColumns);
-            deleteStatement = db.compileStatement(sql);
+    public StatementPool getUpsertPool() {
+        if (upsertPool == null) {
+            upsertPool = new StatementPool(db, SqlUtils.createSqlUpsert(tablename, allColumns, pkColumns));
         }
-        return deleteStatement;
+        return upsertPool;
     }
 
-    public SQLiteStatement getUpdateStatement() {
-        if (updateStatement == null) {
-            String sql = SqlUtils.createSqlUpdate(tablename, allColumns, pkColumns);
-            updateStatement = db.compileStatement(sql);
+    /** Used by upserts if {@link #isUpsertSupported()} is false: "INSERT ... ON CONFLICT" requires SQLite 3.24. */
+    public boolean isUpsertSupported() {
+        if (upsertSupported == null) {
+            Cursor cursor = db.rawQuery("SELECT sqlite_version()", null);
+            try {
+                upsertSupported = cursor.moveToFirst() && SqlUtils.isVersionAtLeast(cursor.getString(0), 3, 24);
+            } finally {
+                cursor.close();
+            }
         }
-        return updateStatement;
+        return upsertSupported;
+    }
+
+    /** "SELECT changes()": number of rows changed by the last statement executed on the connection. */
+    public StatementPool getChangesPool() {
+        if (changesPool == null) {
+            changesPool = new StatementPool(db, "SELECT changes()");
+        }
+        return changesPool;
+    }
+
+    public StatementPool getDeletePool() {
+        if (deletePool == null) {
+            deletePool = new StatementPool(db, SqlUtils.createSqlDelete(tablename, pkColumns));
+        }
+        return deletePool;
+    }
+
+    public StatementPool getUpdatePool() {
+        if (updatePool == null) {
+            updatePool = new StatementPool(db, SqlUtils.createSqlUpdate(tablename, allColumns, pkColumns));
+        }
+        return updatePool;
     }
 
     public String getSelectAll() {
@@ -1,22 +1,24 @@
 package de.greenrobot.dao.query;
 
 import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 
-import android.os.Process;
-import android.util.SparseArray;
 import de.greenrobot.dao.AbstractDao;
 
 abstract class AbstractQueryData<T, Q extends AbstractQuery<T>> {
     final String sql;
     final AbstractDao<T, ?> dao;
     final String[] initialValues;
-    final SparseArray<WeakReference<Q>> queriesForThreads;
+    /** Keyed by thread ID (instead of Android's thread ID, so queries also work on plain JVMs). */
+    final Map<Long, WeakReference<Q>> queriesForThreads;
 
     AbstractQueryData(AbstractDao<T, ?> dao, String sql, String[] initialValues) {
         this.dao = dao;
         this.sql = sql;
         this.initialValues = initialValues;
-        queriesForThreads = new SparseArray<WeakReference<Q>>();
+        queriesForThreads = new HashMap<Long, WeakReference<Q>>();
     }
 
     /** Just an optimized version, which performs faster if the current thread is already the query's owner thread. */
@@ -29,8 +31,22 @@ abstract class AbstractQueryData<T, Q extends AbstractQuery<T>> {
         }
     }
 
+    /**
+     * Like {@link #forCurrentThread(AbstractQuery)}, but the returned query gets the parameters currently set on the
+     * given query (which may belong to another thread) instead of the initial values.
+     */
+    Q forCurrentThreadWithParameters(Q query) {
+        if (Thread.currentThread() == query.ownerThread) {
+            return query;
+        }
+        Q threadQuery = forCurrentThread();
+        String[] parameters = query.parameters;
+        System.arraycopy(parameters, 0, threadQuery.parameters, 0, parameters.length);
+        return threadQuery;
+    }
+
     Q forCurrentThread() {
-        int threadId = Process.myTid();
+        long threadId = Thread.currentThread().getId();
         synchronized (queriesForThreads) {
             WeakReference<Q> queryRef = queriesForThreads.get(threadId);
             Q query = queryRef != null ? queryRef.get() : null;
@@ -49,9 +65,10 @@ abstract class AbstractQueryData<T, Q extends AbstractQuery<T>> {
 
     void gc() {
         synchronized (queriesForThreads) {
-            for (int i = queriesForThreads.size() - 1; i >= 0; i--) {
-                if (queriesForThreads.valueAt(i).get() == null) {
-                    queriesForThreads.remove(queriesForThreads.keyAt(i));
+            Iterator<WeakReference<Q>> iterator = queriesForThreads.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().get() == null) {
+                    iterator.remove();
                 }
             }
         }
@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2011-2013 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao.query;
+
+import de.greenrobot.dao.Property;
+import de.greenrobot.dao.Selectable;
+
+/**
+ * An aggregate function (SUM, AVG, MIN, MAX, COUNT) over a property, computed by SQLite. Use it as a select column of
+ * {@link QueryBuilder#select(Selectable...)}, usually with {@link QueryBuilder#groupBy(Selectable...)}, and read the
+ * results using {@link Query#listTuples()} or {@link Query#uniqueLong(int)}. Conditions created by an aggregate (e.g.
+ * {@link #gt(Object)}) are meant for {@link QueryBuilder#having(WhereCondition, WhereCondition...)}.<br/>
+ * <br/>
+ * Example:<br/>
+ * <code>
+ * noteDao.queryBuilder().select(Properties.CategoryId, Aggregate.count()).groupBy(Properties.CategoryId).listTuples();
+ * </code>
+ */
+public class Aggregate implements Selectable {
+
+    /** SUM of the given property; NULL if there are no rows. */
+    public static Aggregate sum(Property property) {
+        return new Aggregate("SUM", property, false);
+    }
+
+    /** AVG of the given property; NULL if there are no rows. */
+    public static Aggregate avg(Property property) {
+        return new Aggregate("AVG", property, false);
+    }
+
+    public static Aggregate min(Property property) {
+        return new Aggregate("MIN", property, false);
+    }
+
+    public static Aggregate max(Property property) {
+        return new Aggregate("MAX", property, false);
+    }
+
+    /** COUNT(*): number of rows. */
+    public static Aggregate count() {
+        return new Aggregate("COUNT", null, false);
+    }
+
+    /** Number of rows with a non-NULL value for the given property. */
+    public static Aggregate count(Property property) {
+        return new Aggregate("COUNT", property, false);
+    }
+
+    /** Number of distinct non-NULL values of the given property. */
+    public static Aggregate countDistinct(Property property) {
+        return new Aggregate("COUNT", property, true);
+    }
+
+    private final String function;
+    private final Property property;
+    private final boolean distinct;
+
+    private Aggregate(String function, Property property, boolean distinct) {
+        this.function = function;
+        this.property = property;
+        this.distinct = distinct;
+    }
+
+    /**
+     * Appends the aggregate; the property is qualified like in {@link WhereCondition.PropertyCondition} unless the
+     * master table prefix is null.
+     */
+    void appendTo(StringBuilder builder, String masterTableName, String masterTablePrefix) {
+        builder.append(function).append('(');
+        if (property == null) {
+            builder.append('*');
+        } else {
+            if (distinct) {
+                builder.append("DISTINCT ");
+            }
+            String prefix = property.getColumnPrefix();
+            if (masterTablePrefix != null && prefix != null && prefix.length() > 0) {
+                builder.append(prefix.equals(masterTableName) ? masterTablePrefix : prefix).append('.');
+                builder.append('\'').append(property.columnName).append('\'');
+            } else {
+                // Without table alias, SQLite would take a quoted name for a string literal
+                builder.append(property.columnName);
+            }
+        }
+        builder.append(')');
+    }
+
+    /** Creates an "equal ('=')" condition for this aggregate. */
+    public WhereCondition eq(Object value) {
+        return new AggregateCondition(this, "=", value);
+    }
+
+    /** Creates an "not equal ('<>')" condition for this aggregate. */
+    public WhereCondition notEq(Object value) {
+        return new AggregateCondition(this, "<>", value);
+    }
+
+    /** Creates an "greater than ('>')" condition for this aggregate. */
+    public WhereCondition gt(Object value) {
+        return new AggregateCondition(this, ">", value);
+    }
+
+    /** Creates an "less than ('<')" condition for this aggregate. */
+    public WhereCondition lt(Object value) {
+        return new AggregateCondition(this, "<", value);
+    }
+
+    /** Creates an "greater or equal ('>=')" condition for this aggregate. */
+    public WhereCondition ge(Object value) {
+        return new AggregateCondition(this, ">=", value);
+    }
+
+    /** Creates an "less or equal ('<=')" condition for this aggregate. */
+    public WhereCondition le(Object value) {
+        return new AggregateCondition(this, "<=", value);
+    }
+
+    /** The aggregate without table alias; {@link QueryBuilder} qualifies the property itself. */
+    @Override
+    public String getColumnName() {
+        StringBuilder builder = new StringBuilder();
+        appendTo(builder, null, null);
+        return builder.toString();
+    }
+
+    @Override
+    public String getColumnPrefix() {
+        return "";
+    }
+
+    @Override
+    public String toString() {
+        return getColumnName();
+    }
+
+    static class AggregateCondition extends WhereCondition.AbstractCondition {
+        private final Aggregate aggregate;
+        private final String op;
+
+        AggregateCondition(Aggregate aggregate, String op, Object value) {
+            super(checkValue(aggregate, value));
+            this.aggregate = aggregate;
+            this.op = op;
+        }
+
+        private static Object checkValue(Aggregate aggregate, Object value) {
+            // MIN and MAX return values of the property's type, e.g. dates stored as longs
+            boolean sameType = aggregate.property != null && !"COUNT".equals(aggregate.function);
+            return sameType ? WhereCondition.PropertyCondition.checkValueForType(aggregate.property, value) : value;
+        }
+
+        @Override
+        public void appendTo(StringBuilder builder, String masterTableName, String masterTablePrefix) {
+            aggregate.appendTo(builder, masterTableName, masterTablePrefix);
+            builder.append(op).append(placeholder(value));
+        }
+
+        /**
+         * Query parameters are bound as strings. Unlike columns, aggregates have no type affinity, so SQLite would compare
+         * a number with a string (e.g. COUNT(*)>'2', which is never true). Thus, numbers are cast back.
+         */
+        static String placeholder(Object value) {
+            if (value instanceof Float || value instanceof Double) {
+                return "CAST(? AS REAL)";
+            } else if (value instanceof Number) {
+                return "CAST(? AS INTEGER)";
+            } else {
+                return "?";
+            }
+        }
+    }
+
+}
@@ -3,6 +3,7 @@ package de.greenrobot.dao.query;
 import de.greenrobot.dao.Dao;
 import de.greenrobot.dao.Property;
 import de.greenrobot.dao.Selectable;
+import de.greenrobot.dao.selectable.PropertyWithAlias;
 
 public class BaseBuilder {
 
@@ -34,6 +35,18 @@ public class BaseBuilder {
         }
     }
     
+    protected void orderAscOrDesc(String ascOrDescWithLeadingSpace, Selectable... selectables) {
+        for (Selectable selectable : selectables) {
+            checkOrderBuilder();
+            orderBuilder.append(getTableAlias(selectable)).append('.').append(selectable.getColumnName());
+            if (selectable instanceof PropertyWithAlias
+                    && String.class.equals(((PropertyWithAlias) selectable).getProperty().type)) {
+                orderBuilder.append(" COLLATE LOCALIZED");
+            }
+            orderBuilder.append(ascOrDescWithLeadingSpace);
+        }
+    }
+    
     /** Adds the given properties to the ORDER BY section using the given custom order. */
     protected void orderCustomInternal(Property property, String customOrderForProperty) {
         checkOrderBuilder();
@@ -3,6 +3,7 @@ package de.greenrobot.dao.query;
 import android.database.Cursor;
 import de.greenrobot.dao.AbstractDao;
 import de.greenrobot.dao.DaoException;
+import de.greenrobot.dao.InternalQueryDaoAccess;
 
 public class CountQuery<T> extends AbstractQuery<T> {
 
@@ -37,7 +38,8 @@ public class CountQuery<T> extends AbstractQuery<T> {
     /** Returns the count (number of results matching the query). Uses SELECT COUNT (*) sematics. */
     public long count() {
         checkThread();
-        Cursor cursor = dao.getDatabase().rawQuery(sql, parameters);
+        long start = InternalQueryDaoAccess.metricsStart(dao);
+        Cursor cursor = InternalQueryDaoAccess.getReadDatabase(dao).rawQuery(sql, parameters);
         try {
             if (!cursor.moveToNext()) {
                 throw new DaoException("No result for count");
@@ -46,7 +48,9 @@ public class CountQuery<T> extends AbstractQuery<T> {
             } else if (cursor.getColumnCount() != 1) {
                 throw new DaoException("Unexpected column count: " + cursor.getColumnCount());
             }
-            return cursor.getLong(0);
+            long count = cursor.getLong(0);
+            InternalQueryDaoAccess.reportQuery(dao, sql, parameters, 1, start);
+            return count;
         } finally {
             cursor.close();
         }
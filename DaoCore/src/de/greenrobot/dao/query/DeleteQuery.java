@@ -15,8 +15,10 @@
  */
 package de.greenrobot.dao.query;
 
-import android.database.sqlite.SQLiteDatabase;
 import de.greenrobot.dao.AbstractDao;
+import de.greenrobot.dao.DaoMetrics;
+import de.greenrobot.dao.InternalQueryDaoAccess;
+import de.greenrobot.dao.database.Database;
 
 /**
  * A repeatable query for deleting entities.<br/>
@@ -30,26 +32,33 @@ import de.greenrobot.dao.AbstractDao;
 public class DeleteQuery<T> extends AbstractQuery<T> {
     private final static class QueryData<T2> extends AbstractQueryData<T2, DeleteQuery<T2>> {
 
-        private QueryData(AbstractDao<T2, ?> dao, String sql, String[] initialValues) {
+        private final String selectKeysSql;
+
+        private QueryData(AbstractDao<T2, ?> dao, String sql, String[] initialValues, String selectKeysSql) {
             super(dao, sql, initialValues);
+            this.selectKeysSql = selectKeysSql;
         }
 
         @Override
         protected DeleteQuery<T2> createQuery() {
-            return new DeleteQuery<T2>(this, dao, sql, initialValues.clone());
+            return new DeleteQuery<T2>(this, dao, sql, initialValues.clone(), selectKeysSql);
         }
     }
 
-    static <T2> DeleteQuery<T2> create(AbstractDao<T2, ?> dao, String sql, Object[] initialValues) {
-        QueryData<T2> queryData = new QueryData<T2>(dao, sql, toStringArray(initialValues));
+    static <T2> DeleteQuery<T2> create(AbstractDao<T2, ?> dao, String sql, Object[] initialValues,
+            String selectKeysSql) {
+        QueryData<T2> queryData = new QueryData<T2>(dao, sql, toStringArray(initialValues), selectKeysSql);
         return queryData.forCurrentThread();
     }
 
     private final QueryData<T> queryData;
+    private final String selectKeysSql;
 
-    private DeleteQuery(QueryData<T> queryData, AbstractDao<T, ?> dao, String sql, String[] initialValues) {
+    private DeleteQuery(QueryData<T> queryData, AbstractDao<T, ?> dao, String sql, String[] initialValues,
+            String selectKeysSql) {
         super(dao, sql, initialValues);
         this.queryData = queryData;
+        this.selectKeysSql = selectKeysSql;
     }
 
     public DeleteQuery<T> forCurrentThread() {
@@ -63,20 +72,33 @@ public class DeleteQuery<T> extends AbstractQuery<T> {
      */
     public void executeDeleteWithoutDetachingEntities() {
         checkThread();
-        SQLiteDatabase db = dao.getDatabase();
+        long start = InternalQueryDaoAccess.metricsStart(dao);
+        Database db = dao.getDaoDatabase();
         if (db.isDbLockedByCurrentThread()) {
-            dao.getDatabase().execSQL(sql, parameters);
+            dao.getDaoDatabase().execSQL(sql, parameters);
         } else {
             // Do TX to acquire a connection before locking this to avoid deadlocks
             // Locking order as described in AbstractDao
             db.beginTransaction();
             try {
-                dao.getDatabase().execSQL(sql, parameters);
+                dao.getDaoDatabase().execSQL(sql, parameters);
                 db.setTransactionSuccessful();
             } finally {
                 db.endTransaction();
             }
         }
+        InternalQueryDaoAccess.reportMetrics(dao, DaoMetrics.Operation.DELETE, sql, -1, start);
+    }
+
+    /**
+     * Deletes all matching entities and detaches them from the identity scope (aka session/cache). To do so, the keys
+     * of matching entities are queried before deleting (in the same transaction); thus, this is a bit slower than
+     * {@link #executeDeleteWithoutDetachingEntities()} if the DAO has an identity scope.
+     */
+    public void executeDelete() {
+        checkThread();
+        InternalQueryDaoAccess.executeAndDetachAffected(dao, DaoMetrics.Operation.DELETE, sql, parameters,
+                selectKeysSql, parameters);
     }
 
 }
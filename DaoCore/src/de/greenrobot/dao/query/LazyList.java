@@ -126,12 +126,23 @@ public class LazyList<E> implements List<E>, Closeable {
     private final Cursor cursor;
     private final List<E> entities;
     private final int size;
+    private final boolean deep;
     private final ReentrantLock lock;
     private volatile int loadedCount;
 
     LazyList(InternalQueryDaoAccess<E> daoAccess, Cursor cursor, boolean cacheEntities) {
+        this(daoAccess, cursor, cacheEntities, false);
+    }
+
+    /**
+     * @param deep
+     *            if true, the cursor was created by a deep query and entities are loaded including their to-one
+     *            relations
+     */
+    LazyList(InternalQueryDaoAccess<E> daoAccess, Cursor cursor, boolean cacheEntities, boolean deep) {
         this.cursor = cursor;
         this.daoAccess = daoAccess;
+        this.deep = deep;
         size = cursor.getCount();
         if (cacheEntities) {
             entities = new ArrayList<E>(size);
@@ -256,7 +267,7 @@ public class LazyList<E> implements List<E>, Closeable {
 
     protected E loadEntity(int location) {
         cursor.moveToPosition(location);
-        E entity = daoAccess.loadCurrent(cursor, 0, true);
+        E entity = deep ? daoAccess.loadCurrentDeep(cursor, true) : daoAccess.loadCurrent(cursor, 0, true);
         if (entity == null) {
             throw new DaoException("Loading of entity failed (null) at position " + location);
         }
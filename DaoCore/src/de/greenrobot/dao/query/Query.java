@@ -18,11 +18,14 @@ package de.greenrobot.dao.query;
 import java.util.ArrayList;
 import java.util.List;
 
+import android.database.CrossProcessCursor;
 import android.database.Cursor;
-import android.os.Process;
+import android.database.CursorWindow;
 import de.greenrobot.dao.AbstractDao;
 import de.greenrobot.dao.DaoException;
+import de.greenrobot.dao.InternalQueryDaoAccess;
 import de.greenrobot.dao.Property;
+import de.greenrobot.dao.internal.FastCursor;
 
 /**
  * A repeatable query returning entities.
@@ -40,48 +43,67 @@ public class Query<T> extends AbstractQuery<T> {
     private final static class QueryData<T2> extends AbstractQueryData<T2, Query<T2>> {
         private final int limitPosition;
         private final int offsetPosition;
+        private final boolean deep;
+        private final int[] partialOrdinals;
 
-        QueryData(AbstractDao<T2, ?> dao, String sql, String[] initialValues, int limitPosition, int offsetPosition) {
+        QueryData(AbstractDao<T2, ?> dao, String sql, String[] initialValues, int limitPosition, int offsetPosition,
+                boolean deep, int[] partialOrdinals) {
             super(dao,sql,initialValues);
             this.limitPosition = limitPosition;
             this.offsetPosition = offsetPosition;
+            this.deep = deep;
+            this.partialOrdinals = partialOrdinals;
         }
 
         @Override
         protected Query<T2> createQuery() {
-            return new Query<T2>(this, dao, sql, initialValues.clone(), limitPosition, offsetPosition);
+            return new Query<T2>(this, dao, sql, initialValues.clone(), limitPosition, offsetPosition, deep,
+                    partialOrdinals);
         }
 
     }
 
     /** For internal use by greenDAO only. */
     public static <T2> Query<T2> internalCreate(AbstractDao<T2, ?> dao, String sql, Object[] initialValues) {
-        return create(dao, sql, initialValues, -1, -1);
+        return create(dao, sql, initialValues, -1, -1, false, null);
     }
 
     static <T2> Query<T2> create(AbstractDao<T2, ?> dao, String sql, Object[] initialValues, int limitPosition,
-            int offsetPosition) {
+            int offsetPosition, boolean deep, int[] partialOrdinals) {
         QueryData<T2> queryData = new QueryData<T2>(dao, sql, toStringArray(initialValues), limitPosition,
-                offsetPosition);
+                offsetPosition, deep, partialOrdinals);
         return queryData.forCurrentThread();
     }
 
     private final int limitPosition;
     private final int offsetPosition;
+    private final boolean deep;
+    private final int[] partialOrdinals;
     private final QueryData<T> queryData;
 
     private Query(QueryData<T> queryData, AbstractDao<T, ?> dao, String sql, String[] initialValues, int limitPosition,
-            int offsetPosition) {
+            int offsetPosition, boolean deep, int[] partialOrdinals) {
         super(dao, sql, initialValues);
         this.queryData = queryData;
         this.limitPosition = limitPosition;
         this.offsetPosition = offsetPosition;
+        this.deep = deep;
+        this.partialOrdinals = partialOrdinals;
     }
 
     public Query<T> forCurrentThread() {
         return queryData.forCurrentThread(this);
     }
 
+    /**
+     * Like {@link #forCurrentThread()}, but the returned instance keeps the parameters currently set on this instance
+     * instead of resetting them to their initial values. Used to execute a query prepared in another thread (e.g. by
+     * {@link de.greenrobot.dao.async.AsyncSession}); parameters must not be changed until the query has been executed.
+     */
+    public Query<T> forCurrentThreadWithParameters() {
+        return queryData.forCurrentThreadWithParameters(this);
+    }
+
     /**
      * Sets the parameter (0 based) using the position in which it was added during building the query.
      */
@@ -116,11 +138,31 @@ public class Query<T> extends AbstractQuery<T> {
         parameters[offsetPosition] = Integer.toString(offset);
     }
 
+    /** True if this query was built using {@link QueryBuilder#buildDeep()} and thus loads to-one relations. */
+    public boolean isDeep() {
+        return deep;
+    }
+
+    /** True if this query was built using {@link QueryBuilder#buildPartial(Property...)}. */
+    public boolean isPartial() {
+        return partialOrdinals != null;
+    }
+
     /** Executes the query and returns the result as a list containing all entities loaded into memory. */
     public List<T> list() {
         checkThread();
-        Cursor cursor = dao.getDatabase().rawQuery(sql, parameters);
-        return daoAccess.loadAllAndCloseCursor(cursor);
+        long start = InternalQueryDaoAccess.metricsStart(dao);
+        Cursor cursor = InternalQueryDaoAccess.getReadDatabase(dao).rawQuery(sql, parameters);
+        List<T> list;
+        if (deep) {
+            list = daoAccess.loadDeepAllAndCloseCursor(cursor);
+        } else if (partialOrdinals != null) {
+            list = daoAccess.loadPartialAllAndCloseCursor(cursor, partialOrdinals);
+        } else {
+            list = daoAccess.loadAllAndCloseCursor(cursor);
+        }
+        InternalQueryDaoAccess.reportQuery(dao, sql, parameters, list.size(), start);
+        return list;
     }
     
     /**
@@ -353,7 +395,7 @@ public class Query<T> extends AbstractQuery<T> {
      */
     public Object uniqueField(Property property, FieldType fieldType) {
     	checkThread();
-        Cursor cursor = dao.getDatabase().rawQuery(sql, parameters);
+        Cursor cursor = InternalQueryDaoAccess.getReadDatabase(dao).rawQuery(sql, parameters);
         
         int columnIndex = cursor.getColumnIndex(property.columnName);
         
@@ -382,7 +424,7 @@ public class Query<T> extends AbstractQuery<T> {
      */
     public List<Object> listOfField(String columnName, FieldType fieldType) {
     	checkThread();
-        Cursor cursor = dao.getDatabase().rawQuery(sql, parameters);
+        Cursor cursor = InternalQueryDaoAccess.getReadDatabase(dao).rawQuery(sql, parameters);
         
         List<Object> toReturn = new ArrayList<Object>();
         
@@ -422,10 +464,149 @@ public class Query<T> extends AbstractQuery<T> {
     	return null;
     }
     
+    /**
+     * Executes the query and returns each row as a {@link Tuple}; meant for queries with custom select columns like
+     * aggregates or columns of joined tables. Values are indexed in the order of the select columns. On Android, this
+     * requires API level 11 ({@link Cursor#getType(int)}).
+     */
+    public List<Tuple> listTuples() {
+        checkThread();
+        Cursor cursor = InternalQueryDaoAccess.getReadDatabase(dao).rawQuery(sql, parameters);
+        try {
+            int columnCount = cursor.getColumnCount();
+            Cursor rows = windowCursorIfPossible(cursor);
+            List<Tuple> list = new ArrayList<Tuple>(cursor.getCount());
+            if (rows.moveToFirst()) {
+                do {
+                    list.add(Tuple.read(rows, columnCount));
+                } while (rows.moveToNext());
+            }
+            return list;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /** Executes the query and maps each row using the given mapper; see {@link RowMapper}. */
+    public <R> List<R> mapTo(RowMapper<R> mapper) {
+        checkThread();
+        Cursor cursor = InternalQueryDaoAccess.getReadDatabase(dao).rawQuery(sql, parameters);
+        try {
+            Cursor rows = windowCursorIfPossible(cursor);
+            List<R> list = new ArrayList<R>(cursor.getCount());
+            if (rows.moveToFirst()) {
+                do {
+                    list.add(mapper.map(rows));
+                } while (rows.moveToNext());
+            }
+            return list;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /** Executes the query and returns the values of the given column (0 for NULL) without boxing them. */
+    public long[] listLongColumn(int columnIndex) {
+        checkThread();
+        Cursor cursor = InternalQueryDaoAccess.getReadDatabase(dao).rawQuery(sql, parameters);
+        try {
+            Cursor rows = windowCursorIfPossible(cursor);
+            long[] values = new long[cursor.getCount()];
+            if (rows.moveToFirst()) {
+                int i = 0;
+                do {
+                    values[i++] = rows.getLong(columnIndex);
+                } while (rows.moveToNext());
+            }
+            return values;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /** Executes the query and returns the values of the given column (0 for NULL) without boxing them. */
+    public double[] listDoubleColumn(int columnIndex) {
+        checkThread();
+        Cursor cursor = InternalQueryDaoAccess.getReadDatabase(dao).rawQuery(sql, parameters);
+        try {
+            Cursor rows = windowCursorIfPossible(cursor);
+            double[] values = new double[cursor.getCount()];
+            if (rows.moveToFirst()) {
+                int i = 0;
+                do {
+                    values[i++] = rows.getDouble(columnIndex);
+                } while (rows.moveToNext());
+            }
+            return values;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Executes a query expected to return a single row (e.g. an {@link Aggregate} without GROUP BY) and returns the
+     * value of the given column; 0 for NULL.
+     * 
+     * @throws DaoException
+     *             if the result is not exactly one row
+     */
+    public long uniqueLong(int columnIndex) {
+        checkThread();
+        Cursor cursor = InternalQueryDaoAccess.getReadDatabase(dao).rawQuery(sql, parameters);
+        try {
+            checkSingleRow(cursor);
+            return cursor.getLong(columnIndex);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Executes a query expected to return a single row (e.g. an {@link Aggregate} without GROUP BY) and returns the
+     * value of the given column; 0 for NULL.
+     * 
+     * @throws DaoException
+     *             if the result is not exactly one row
+     */
+    public double uniqueDouble(int columnIndex) {
+        checkThread();
+        Cursor cursor = InternalQueryDaoAccess.getReadDatabase(dao).rawQuery(sql, parameters);
+        try {
+            checkSingleRow(cursor);
+            return cursor.getDouble(columnIndex);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    private static void checkSingleRow(Cursor cursor) {
+        if (!cursor.moveToFirst()) {
+            throw new DaoException("No result");
+        } else if (!cursor.isLast()) {
+            throw new DaoException("Unexpected row count: " + cursor.getCount());
+        }
+    }
+
+    /** Reads directly from the cursor window(s) like loading entities does. */
+    private static Cursor windowCursorIfPossible(Cursor cursor) {
+        int count = cursor.getCount();
+        if (cursor instanceof CrossProcessCursor) {
+            CursorWindow window = ((CrossProcessCursor) cursor).getWindow();
+            if (window != null) {
+                if (window.getNumRows() == count) {
+                    return new FastCursor(window);
+                } else {
+                    return new FastCursor((CrossProcessCursor) cursor);
+                }
+            }
+        }
+        return cursor;
+    }
+
     /** Executes the query and returns the results as a cursor. */
     public Cursor cursor() {
         checkThread();
-        return dao.getDatabase().rawQuery(sql, parameters);
+        return InternalQueryDaoAccess.getReadDatabase(dao).rawQuery(sql, parameters);
     }
 
     /**
@@ -435,8 +616,9 @@ public class Query<T> extends AbstractQuery<T> {
      */
     public LazyList<T> listLazy() {
         checkThread();
-        Cursor cursor = dao.getDatabase().rawQuery(sql, parameters);
-        return new LazyList<T>(daoAccess, cursor, true);
+        checkNotPartial();
+        Cursor cursor = InternalQueryDaoAccess.getReadDatabase(dao).rawQuery(sql, parameters);
+        return new LazyList<T>(daoAccess, cursor, true, deep);
     }
 
     /**
@@ -445,8 +627,9 @@ public class Query<T> extends AbstractQuery<T> {
      */
     public LazyList<T> listLazyUncached() {
         checkThread();
-        Cursor cursor = dao.getDatabase().rawQuery(sql, parameters);
-        return new LazyList<T>(daoAccess, cursor, false);
+        checkNotPartial();
+        Cursor cursor = InternalQueryDaoAccess.getReadDatabase(dao).rawQuery(sql, parameters);
+        return new LazyList<T>(daoAccess, cursor, false, deep);
     }
 
     /**
@@ -466,8 +649,24 @@ public class Query<T> extends AbstractQuery<T> {
      */
     public T unique() {
         checkThread();
-        Cursor cursor = dao.getDatabase().rawQuery(sql, parameters);
-        return daoAccess.loadUniqueAndCloseCursor(cursor);
+        long start = InternalQueryDaoAccess.metricsStart(dao);
+        Cursor cursor = InternalQueryDaoAccess.getReadDatabase(dao).rawQuery(sql, parameters);
+        T entity;
+        if (deep) {
+            entity = daoAccess.loadDeepUniqueAndCloseCursor(cursor);
+        } else if (partialOrdinals != null) {
+            entity = daoAccess.loadPartialUniqueAndCloseCursor(cursor, partialOrdinals);
+        } else {
+            entity = daoAccess.loadUniqueAndCloseCursor(cursor);
+        }
+        InternalQueryDaoAccess.reportQuery(dao, sql, parameters, entity != null ? 1 : 0, start);
+        return entity;
+    }
+
+    private void checkNotPartial() {
+        if (partialOrdinals != null) {
+            throw new DaoException("Lazy lists are not supported for partial queries, use list() instead");
+        }
     }
    
 
@@ -22,6 +22,7 @@ import java.util.ListIterator;
 import android.database.Cursor;
 import de.greenrobot.dao.AbstractDao;
 import de.greenrobot.dao.AbstractDaoSession;
+import de.greenrobot.dao.DaoException;
 import de.greenrobot.dao.DaoLog;
 import de.greenrobot.dao.InternalQueryDaoAccess;
 import de.greenrobot.dao.Property;
@@ -70,6 +71,9 @@ public class QueryBuilder<T> extends BaseBuilder {
     private String[] selectColumns;
     private String[] tableAliases;
 
+    private StringBuilder groupByBuilder;
+    private final List<WhereCondition> havingConditions;
+
     /** For internal use by greenDAO only. */
     public static <T2> QueryBuilder<T2> internalCreate(AbstractDao<T2, ?> dao) {
         return new QueryBuilder<T2>(dao);
@@ -85,6 +89,7 @@ public class QueryBuilder<T> extends BaseBuilder {
         this.dao = dao;
         values = new ArrayList<Object>();
         whereConditions = new ArrayList<WhereCondition>();
+        havingConditions = new ArrayList<WhereCondition>();
         joinBuilders = new ArrayList<JoinBuilder<T>>();
     }
     
@@ -315,6 +320,24 @@ public class QueryBuilder<T> extends BaseBuilder {
     }
 
     
+    /**
+     * Adds the given selectables to the ORDER BY section using ascending order. Use this with properties of joined
+     * tables, which are referenced by their alias (see {@link Property#withAlias(String)}).
+     */
+    public QueryBuilder<T> orderAsc(Selectable... selectables) {
+        orderAscOrDesc(" ASC", selectables);
+        return this;
+    }
+
+    /**
+     * Adds the given selectables to the ORDER BY section using descending order. Use this with properties of joined
+     * tables, which are referenced by their alias (see {@link Property#withAlias(String)}).
+     */
+    public QueryBuilder<T> orderDesc(Selectable... selectables) {
+        orderAscOrDesc(" DESC", selectables);
+        return this;
+    }
+
     /** Adds the given properties to the ORDER BY section using the given custom order. */
     public QueryBuilder<T> orderCustom(Property property, String customOrderForProperty) {
     	orderCustomInternal(property, customOrderForProperty);
@@ -342,8 +365,15 @@ public class QueryBuilder<T> extends BaseBuilder {
     	
     	for(int ii = 0; ii < properties.length; ii++) {
    		
-    		selectColumns[ii] = properties[ii].getColumnName();
-    		tableAliases[ii] = getTableAlias(properties[ii]);
+    		if (properties[ii] instanceof Aggregate) {
+    			StringBuilder aggregate = new StringBuilder();
+    			((Aggregate) properties[ii]).appendTo(aggregate, dao.getTablename(), mTablePrefix);
+    			selectColumns[ii] = aggregate.toString();
+    			tableAliases[ii] = "";
+    		} else {
+    			selectColumns[ii] = properties[ii].getColumnName();
+    			tableAliases[ii] = getTableAlias(properties[ii]);
+    		}
     	}
     	
     	return this;
@@ -376,6 +406,39 @@ public class QueryBuilder<T> extends BaseBuilder {
     	return this;
     }
     
+    /**
+     * Adds the given properties to the GROUP BY section. Use this with {@link Aggregate} select columns to compute
+     * aggregates per group inside SQLite; see {@link Aggregate} for an example.
+     */
+    public QueryBuilder<T> groupBy(Selectable... selectables) {
+        for (Selectable selectable : selectables) {
+            if (groupByBuilder == null) {
+                groupByBuilder = new StringBuilder();
+            } else {
+                groupByBuilder.append(',');
+            }
+            String alias = getTableAlias(selectable);
+            if (alias != null && alias.length() > 0) {
+                groupByBuilder.append(alias).append('.');
+            }
+            groupByBuilder.append(selectable.getColumnName());
+        }
+        return this;
+    }
+
+    /**
+     * Adds the given conditions to the HAVING clause using an logical AND; requires {@link #groupBy(Selectable...)}.
+     * Conditions on aggregates are created by {@link Aggregate}, e.g. {@link Aggregate#gt(Object)}. The parameters of
+     * having conditions follow the parameters of the where conditions.
+     */
+    public QueryBuilder<T> having(WhereCondition cond, WhereCondition... condMore) {
+        havingConditions.add(cond);
+        for (WhereCondition havingCondition : condMore) {
+            havingConditions.add(havingCondition);
+        }
+        return this;
+    }
+
     /** Limits the number of results returned by queries. */
     public QueryBuilder<T> limit(int limit) {
         this.limit = limit;
@@ -437,13 +500,81 @@ public class QueryBuilder<T> extends BaseBuilder {
     		select = InternalQueryDaoAccess.getStatements(dao).getSelectAll(distinct, mTablePrefix);	
     	}
         
-        StringBuilder builder = new StringBuilder(select);
-        
+        return buildQuery(new StringBuilder(select), false, null);
+    }
+
+    /**
+     * Builds a reusable query object that loads the entities including all their to-one relations using a single
+     * SELECT with LEFT JOINs (like the generated queryDeep method). All list modes of the returned {@link Query} (list,
+     * lazy lists and iterators) and unique decode the joined rows. Joined columns can be referenced using the table
+     * aliases T0, T1, ... (in the order the relations are defined), e.g. for ordering with
+     * {@link #orderAsc(Selectable...)} and properties created by {@link Property#withAlias(String)}.
+     * 
+     * @throws DaoException
+     *             if the entity has no to-one relations, or if custom select columns or a master table prefix other than
+     *             "T" were set
+     */
+    public Query<T> buildDeep() {
+        String selectDeep = InternalQueryDaoAccess.getSelectDeep(dao);
+        if (selectDeep == null) {
+            throw new DaoException("Deep queries are only supported for entities with to-one relations: "
+                    + dao.getTablename());
+        }
+        if (selectColumns != null) {
+            throw new DaoException("Deep queries always select all columns; select() cannot be used with buildDeep()");
+        }
+        if (!"T".equals(mTablePrefix)) {
+            throw new DaoException("Deep queries require the master table prefix T, but was " + mTablePrefix);
+        }
+        if (distinct) {
+            selectDeep = "SELECT DISTINCT " + selectDeep.substring("SELECT ".length());
+        }
+        return buildQuery(new StringBuilder(selectDeep), true, null);
+    }
+
+    /**
+     * Builds a reusable query object that selects only the given properties of the entity and returns partially
+     * populated entities: properties not selected keep their default values (e.g. null). The column indices are
+     * resolved here once, so reading rows does not look up columns by name. Partially populated entities are not put
+     * into the identity scope; do not update them, as this would overwrite the values not loaded.
+     * 
+     * @throws DaoException
+     *             if a property does not belong to the entity, or if custom select columns were set
+     */
+    public Query<T> buildPartial(Property... properties) {
+        if (selectColumns != null) {
+            throw new DaoException("buildPartial() selects the given properties; select() cannot be used with it");
+        }
+        if (properties.length == 0) {
+            throw new DaoException("At least one property is required");
+        }
+        Property[] entityProperties = dao.getProperties();
+        int[] ordinals = new int[properties.length];
+        String[] columns = new String[properties.length];
+        String[] aliases = new String[properties.length];
+        for (int i = 0; i < properties.length; i++) {
+            Property property = properties[i];
+            int ordinal = property.ordinal;
+            if (ordinal < 0 || ordinal >= entityProperties.length
+                    || !entityProperties[ordinal].name.equals(property.name)) {
+                throw new DaoException("Property '" + property.name + "' does not belong to " + dao.getTablename());
+            }
+            ordinals[i] = ordinal;
+            columns[i] = property.columnName;
+            aliases[i] = mTablePrefix;
+        }
+        String select = InternalQueryDaoAccess.getStatements(dao).getSelectColumns(columns, aliases, mTablePrefix,
+                distinct);
+        return buildQuery(new StringBuilder(select), false, ordinals);
+    }
+
+    private Query<T> buildQuery(StringBuilder builder, boolean deep, int[] partialOrdinals) {
         for(JoinBuilder<T> jBuilder : joinBuilders) {
         	builder.append(jBuilder.getJoinClause());
         }
 
         appendWhereClause(builder, mTablePrefix);
+        appendGroupByAndHaving(builder);
 
         if (orderBuilder != null && orderBuilder.length() > 0) {
             builder.append(" ORDER BY ").append(orderBuilder);
@@ -475,7 +606,7 @@ public class QueryBuilder<T> extends BaseBuilder {
             DaoLog.d("Values for query: " + values);
         }
 
-        return Query.create(dao, sql, values.toArray(), limitPosition, offsetPosition);
+        return Query.create(dao, sql, values.toArray(), limitPosition, offsetPosition, deep, partialOrdinals);
     }
 
     /**
@@ -483,28 +614,89 @@ public class QueryBuilder<T> extends BaseBuilder {
      * QueryBuilder for each execution.
      */
     public DeleteQuery<T> buildDelete() {
+        checkNoGroupBy("delete");
         String tablename = dao.getTablename();
         String baseSql = SqlUtils.createSqlDelete(tablename, null);
-        StringBuilder builder = new StringBuilder(baseSql);
+        String where = createWhereClauseWithoutAliases();
+        String sql = baseSql + where;
 
-        // tablePrefix gets replaced by table name below. Don't use tableName here because it causes trouble when
-        // table name ends with tablePrefix.
-        appendWhereClause(builder, mTablePrefix);
+        if (LOG_SQL) {
+            DaoLog.d("Built SQL for delete query: " + sql);
+        }
+        if (LOG_VALUES) {
+            DaoLog.d("Values for delete query: " + values);
+        }
 
-        String sql = builder.toString();
+        return DeleteQuery.create(dao, sql, values.toArray(), createSelectKeysSql(where));
+    }
 
-        // Remove table aliases, not supported for DELETE queries.
-        // TODO(?): don't create table aliases in the first place.
-        sql = sql.replace(mTablePrefix + ".'", tablename + ".'");
+    /**
+     * Builds a reusable query object updating the given columns of all matching rows with a single UPDATE statement.
+     * The parameters of the query start with the values of the set clauses followed by the values of the where
+     * conditions. Example:<br/>
+     * <code>
+     * noteDao.queryBuilder().where(Properties.Done.eq(false)).buildUpdate(Properties.Done.set(true)).execute();
+     * </code>
+     */
+    public UpdateQuery<T> buildUpdate(SetClause... setClauses) {
+        if (setClauses.length == 0) {
+            throw new DaoException("At least one set clause is required");
+        }
+        checkNoGroupBy("update");
+        String tablename = dao.getTablename();
+        String where = createWhereClauseWithoutAliases();
+        List<Object> whereValues = new ArrayList<Object>(values);
+
+        StringBuilder builder = new StringBuilder("UPDATE ").append(tablename).append(" SET ");
+        values.clear();
+        for (int i = 0; i < setClauses.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            setClauses[i].appendTo(builder);
+            setClauses[i].appendValueTo(values);
+        }
+        builder.append(where);
+        values.addAll(whereValues);
+        String sql = builder.toString();
 
         if (LOG_SQL) {
-            DaoLog.d("Built SQL for delete query: " + sql);
+            DaoLog.d("Built SQL for update query: " + sql);
         }
         if (LOG_VALUES) {
-            DaoLog.d("Values for delete query: " + values);
+            DaoLog.d("Values for update query: " + values);
         }
 
-        return DeleteQuery.create(dao, sql, values.toArray());
+        return UpdateQuery.create(dao, sql, values.toArray(), setClauses.length, createSelectKeysSql(where));
+    }
+
+    /** Creates a set clause for {@link #buildUpdate(SetClause...)}; same as {@link Property#set(Object)}. */
+    public static SetClause set(Property property, Object value) {
+        return new SetClause(property, value);
+    }
+
+    /** WHERE clause for DELETE and UPDATE statements, which do not support table aliases. */
+    private String createWhereClauseWithoutAliases() {
+        String tablename = dao.getTablename();
+        StringBuilder builder = new StringBuilder();
+
+        // tablePrefix gets replaced by table name below. Don't use tableName here because it causes trouble when
+        // table name ends with tablePrefix.
+        appendWhereClause(builder, mTablePrefix);
+
+        // Remove table aliases, not supported for DELETE/UPDATE queries.
+        // TODO(?): don't create table aliases in the first place.
+        return builder.toString().replace(mTablePrefix + ".'", tablename + ".'");
+    }
+
+    /** Selects the keys affected by an UPDATE or DELETE with the given WHERE clause; null without a single PK. */
+    private String createSelectKeysSql(String where) {
+        Property pkProperty = dao.getPkProperty();
+        if (pkProperty == null) {
+            return null;
+        }
+        String tablename = dao.getTablename();
+        return "SELECT " + tablename + ".'" + pkProperty.columnName + "' FROM " + tablename + where;
     }
 
     /**
@@ -512,6 +704,7 @@ public class QueryBuilder<T> extends BaseBuilder {
      * QueryBuilder for each execution.
      */
     public CountQuery<T> buildCount() {
+        checkNoGroupBy("count");
         String tablename = dao.getTablename();
         String baseSql = SqlUtils.createSqlSelectCountStar(tablename, mTablePrefix);
         StringBuilder builder = new StringBuilder(baseSql);
@@ -528,6 +721,33 @@ public class QueryBuilder<T> extends BaseBuilder {
         return CountQuery.create(dao, sql, values.toArray());
     }
 
+    /** Appends GROUP BY and HAVING; call after {@link #appendWhereClause(StringBuilder, String)}. */
+    private void appendGroupByAndHaving(StringBuilder builder) {
+        if (groupByBuilder != null) {
+            builder.append(" GROUP BY ").append(groupByBuilder);
+        }
+        if (!havingConditions.isEmpty()) {
+            if (groupByBuilder == null) {
+                throw new DaoException("HAVING requires GROUP BY");
+            }
+            builder.append(" HAVING ");
+            for (int i = 0; i < havingConditions.size(); i++) {
+                if (i > 0) {
+                    builder.append(" AND ");
+                }
+                WhereCondition condition = havingConditions.get(i);
+                condition.appendTo(builder, dao.getTablename(), mTablePrefix);
+                condition.appendValuesTo(values);
+            }
+        }
+    }
+
+    private void checkNoGroupBy(String queryType) {
+        if (groupByBuilder != null || !havingConditions.isEmpty()) {
+            throw new DaoException("GROUP BY and HAVING are not supported for " + queryType + " queries");
+        }
+    }
+
     private void appendWhereClause(StringBuilder builder, String tablePrefixOrNull) {
         values.clear();
         if (!whereConditions.isEmpty()) {
@@ -552,7 +772,39 @@ public class QueryBuilder<T> extends BaseBuilder {
     public List<T> list() {
         return build().list();
     }
+
+    /**
+     * Shorthand for {@link QueryBuilder#buildDeep() buildDeep()}.{@link Query#list() list()}; loads the entities
+     * including their to-one relations.
+     */
+    public List<T> listDeep() {
+        return buildDeep().list();
+    }
+
+    /**
+     * Shorthand for {@link QueryBuilder#buildPartial(Property...) buildPartial(properties)}.{@link Query#list()
+     * list()}; see {@link #buildPartial(Property...)} for details.
+     */
+    public List<T> listPartial(Property... properties) {
+        return buildPartial(properties).list();
+    }
     
+    /**
+     * Shorthand for {@link QueryBuilder#build() build()}.{@link Query#listTuples() listTuples()}; use with
+     * {@link #select(Selectable...)}.
+     */
+    public List<Tuple> listTuples() {
+        return build().listTuples();
+    }
+
+    /**
+     * Shorthand for {@link QueryBuilder#build() build()}.{@link Query#mapTo(RowMapper) mapTo(mapper)}; use with
+     * {@link #select(Selectable...)}.
+     */
+    public <R> List<R> mapTo(RowMapper<R> mapper) {
+        return build().mapTo(mapper);
+    }
+
     public List<String> listOfFieldAsString(Property property) {
         return select(property).build().listOfFieldAsString(property);
     }
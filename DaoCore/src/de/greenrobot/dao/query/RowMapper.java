@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2011-2013 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao.query;
+
+import android.database.Cursor;
+
+/**
+ * Maps rows of a query with custom select columns to objects; see {@link Query#mapTo(RowMapper)}. Column indexes
+ * follow the order of the columns given to {@link QueryBuilder#select(de.greenrobot.dao.Selectable...)}, so there is no
+ * need to look up columns by name.
+ * 
+ * @param <R>
+ *            Type of the mapped objects
+ */
+public interface RowMapper<R> {
+    /** Maps the current row of the given cursor; do not move the cursor. */
+    R map(Cursor cursor);
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2011-2013 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao.query;
+
+import java.util.List;
+
+import de.greenrobot.dao.Property;
+
+/**
+ * Assignment of a value to a column used by update queries; see {@link QueryBuilder#buildUpdate(SetClause...)}. Use
+ * {@link Property#set(Object)} or {@link QueryBuilder#set(Property, Object)} to create new clauses.
+ */
+public class SetClause {
+    public final Property property;
+    public final Object value;
+
+    public SetClause(Property property, Object value) {
+        this.property = property;
+        this.value = WhereCondition.PropertyCondition.checkValueForType(property, value);
+    }
+
+    void appendTo(StringBuilder builder) {
+        builder.append('\'').append(property.getColumnName()).append("'=?");
+    }
+
+    void appendValueTo(List<Object> values) {
+        values.add(value);
+    }
+
+}
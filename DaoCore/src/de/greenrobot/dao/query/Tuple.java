@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2011-2013 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao.query;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import android.database.Cursor;
+import de.greenrobot.dao.DaoException;
+
+/**
+ * A row of a query with custom select columns (e.g. aggregates or columns of joined tables); see
+ * {@link Query#listTuples()}. Values are indexed in the order of the select columns. Like {@link Cursor}, the primitive
+ * getters return 0 (or false) for NULL values; use {@link #isNull(int)} to tell them apart. Reading tuples requires
+ * {@link Cursor#getType(int)}, which is available on Android since API level 11.
+ */
+public final class Tuple {
+    /** Leading number of a TEXT value, as SQLite uses it to convert TEXT to INTEGER or REAL. */
+    private static final Pattern NUMERIC_PREFIX = Pattern.compile("^\\s*[+-]?(\\d+\\.?\\d*|\\.\\d+)([eE][+-]?\\d+)?");
+
+    private final Object[] values;
+
+    private Tuple(Object[] values) {
+        this.values = values;
+    }
+
+    /** Reads the current row; values are stored as Long, Double, String or byte[] according to their SQLite type. */
+    static Tuple read(Cursor cursor, int columnCount) {
+        Object[] values = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            switch (cursor.getType(i)) {
+            case Cursor.FIELD_TYPE_INTEGER:
+                values[i] = cursor.getLong(i);
+                break;
+            case Cursor.FIELD_TYPE_FLOAT:
+                values[i] = cursor.getDouble(i);
+                break;
+            case Cursor.FIELD_TYPE_STRING:
+                values[i] = cursor.getString(i);
+                break;
+            case Cursor.FIELD_TYPE_BLOB:
+                values[i] = cursor.getBlob(i);
+                break;
+            default:
+                // NULL
+                break;
+            }
+        }
+        return new Tuple(values);
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    /** The raw value: Long, Double, String, byte[] or null. */
+    public Object get(int index) {
+        return values[index];
+    }
+
+    public boolean isNull(int index) {
+        return values[index] == null;
+    }
+
+    /** Like {@link Cursor#getLong(int)}, TEXT values are converted using their leading number (0 if there is none). */
+    public long getLong(int index) {
+        Object value = values[index];
+        if (value instanceof String) {
+            String text = ((String) value).trim();
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                return (long) parseNumericPrefix(text);
+            }
+        }
+        return value != null ? toNumber(value, index).longValue() : 0;
+    }
+
+    public int getInt(int index) {
+        return (int) getLong(index);
+    }
+
+    /** Like {@link Cursor#getDouble(int)}, TEXT values are converted using their leading number (0 if there is none). */
+    public double getDouble(int index) {
+        Object value = values[index];
+        if (value instanceof String) {
+            return parseNumericPrefix((String) value);
+        }
+        return value != null ? toNumber(value, index).doubleValue() : 0;
+    }
+
+    public boolean getBoolean(int index) {
+        return getLong(index) != 0;
+    }
+
+    public String getString(int index) {
+        Object value = values[index];
+        return value != null ? value.toString() : null;
+    }
+
+    public byte[] getBlob(int index) {
+        return (byte[]) values[index];
+    }
+
+    private static Number toNumber(Object value, int index) {
+        if (value instanceof Number) {
+            return (Number) value;
+        }
+        throw new DaoException("Value at index " + index + " is a BLOB and cannot be converted to a number");
+    }
+
+    private static double parseNumericPrefix(String text) {
+        Matcher matcher = NUMERIC_PREFIX.matcher(text);
+        return matcher.find() ? Double.parseDouble(matcher.group().trim()) : 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Tuple[");
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(values[i] instanceof byte[] ? "<blob>" : values[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+}
@@ -6,6 +6,7 @@ import java.util.List;
 
 import de.greenrobot.dao.AbstractDao;
 import de.greenrobot.dao.DaoException;
+import de.greenrobot.dao.InternalQueryDaoAccess;
 import de.greenrobot.dao.Property;
 import de.greenrobot.dao.Selectable;
 import android.database.Cursor;
@@ -131,6 +132,6 @@ public class UnionQueryBuilder extends BaseBuilder {
 	public Cursor cursor() {
 		
 		build();
-		return mDao.getDatabase().rawQuery(mSql, mParameters.toArray(new String[mParameters.size()]));
+		return InternalQueryDaoAccess.getReadDatabase(mDao).rawQuery(mSql, mParameters.toArray(new String[mParameters.size()]));
 	}
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2011-2013 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.greenrobot.dao.query;
+
+import java.util.Arrays;
+
+import de.greenrobot.dao.AbstractDao;
+import de.greenrobot.dao.DaoMetrics;
+import de.greenrobot.dao.InternalQueryDaoAccess;
+
+/**
+ * A repeatable query for updating columns of all matching rows with a single UPDATE statement; see
+ * {@link QueryBuilder#buildUpdate(SetClause...)}.<br/>
+ * New API note: this is more likely to change.
+ * 
+ * @param <T>
+ *            The enitity class the query will update.
+ */
+public class UpdateQuery<T> extends AbstractQuery<T> {
+    private final static class QueryData<T2> extends AbstractQueryData<T2, UpdateQuery<T2>> {
+        private final int setValueCount;
+        private final String selectKeysSql;
+
+        private QueryData(AbstractDao<T2, ?> dao, String sql, String[] initialValues, int setValueCount,
+                String selectKeysSql) {
+            super(dao, sql, initialValues);
+            this.setValueCount = setValueCount;
+            this.selectKeysSql = selectKeysSql;
+        }
+
+        @Override
+        protected UpdateQuery<T2> createQuery() {
+            return new UpdateQuery<T2>(this, dao, sql, initialValues.clone(), setValueCount, selectKeysSql);
+        }
+    }
+
+    static <T2> UpdateQuery<T2> create(AbstractDao<T2, ?> dao, String sql, Object[] initialValues,
+            int setValueCount, String selectKeysSql) {
+        QueryData<T2> queryData = new QueryData<T2>(dao, sql, toStringArray(initialValues), setValueCount,
+                selectKeysSql);
+        return queryData.forCurrentThread();
+    }
+
+    private final QueryData<T> queryData;
+    private final int setValueCount;
+    private final String selectKeysSql;
+
+    private UpdateQuery(QueryData<T> queryData, AbstractDao<T, ?> dao, String sql, String[] initialValues,
+            int setValueCount, String selectKeysSql) {
+        super(dao, sql, initialValues);
+        this.queryData = queryData;
+        this.setValueCount = setValueCount;
+        this.selectKeysSql = selectKeysSql;
+    }
+
+    public UpdateQuery<T> forCurrentThread() {
+        return queryData.forCurrentThread(this);
+    }
+
+    /**
+     * Updates all matching rows. Entities of those rows are detached from the identity scope (aka session/cache), so
+     * loading them again returns the updated values. Entity objects already held by the application are not modified.
+     */
+    public void execute() {
+        checkThread();
+        String[] whereValues = Arrays.copyOfRange(parameters, setValueCount, parameters.length);
+        InternalQueryDaoAccess.executeAndDetachAffected(dao, DaoMetrics.Operation.UPDATE, sql, parameters,
+                selectKeysSql, whereValues);
+    }
+
+}
@@ -70,7 +70,7 @@ public interface WhereCondition {
 
     public static class PropertyCondition extends AbstractCondition {
 
-        private static Object checkValueForType(Property property, Object value) {
+        static Object checkValueForType(Property property, Object value) {
             if (value != null && value.getClass().isArray()) {
                 throw new DaoException("Illegal value: found array, but simple object required");
             }
@@ -18,6 +18,10 @@ public class PropertyWithAlias implements Selectable {
 		this.alias = alias;
 	}
 	
+	public Property getProperty() {
+		return property;
+	}
+	
 	@Override
 	public String getColumnName() {
 		return property.columnName;
@@ -16,6 +16,9 @@
 
 package de.greenrobot.dao.test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import de.greenrobot.dao.AbstractDao;
 import de.greenrobot.dao.DaoLog;
 
@@ -66,5 +69,21 @@ public abstract class AbstractDaoTestLongPk<D extends AbstractDao<T, Long>, T> e
         }
     }
 
+    public void testDeleteByLongKeysInTx() {
+        List<T> entityList = new ArrayList<T>();
+        for (int i = 0; i < 10; i++) {
+            T entity = createEntityWithRandomPk();
+            entityList.add(entity);
+        }
+        dao.insertInTx(entityList);
+        long[] keysToDelete = { daoAccess.getKey(entityList.get(0)), daoAccess.getKey(entityList.get(3)),
+                daoAccess.getKey(entityList.get(4)), daoAccess.getKey(entityList.get(8)) };
+        dao.deleteByLongKeysInTx(keysToDelete);
+        assertEquals(entityList.size() - keysToDelete.length, dao.count());
+        for (long key : keysToDelete) {
+            assertNull(dao.load(key));
+        }
+        assertNotNull(dao.load(daoAccess.getKey(entityList.get(1))));
+    }
 
 }
\ No newline at end of file
@@ -129,6 +129,46 @@ public abstract class AbstractDaoTestSinglePk<D extends AbstractDao<T, K>, T, K>
         assertEquals(listAll.size(), dao.count());
     }
 
+    public void testUpsertTwice() {
+        T entity = createEntityWithRandomPk();
+        dao.insert(entity);
+        K pk = daoAccess.getKey(entity);
+        long rowId = queryRowId(pk);
+        markNonPkColumns(pk);
+        dao.upsert(entity);
+        assertEquals(1, dao.count());
+        assertFalse(hasMarkedNonPkColumns(pk));
+        assertEquals(rowId, queryRowId(pk));
+        assertNotNull(dao.load(pk));
+    }
+
+    public void testUpsertInTx() {
+        dao.deleteAll();
+        List<T> listPartial = new ArrayList<T>();
+        List<T> listAll = new ArrayList<T>();
+        for (int i = 0; i < 20; i++) {
+            T entity = createEntityWithRandomPk();
+            if (i % 2 == 0) {
+                listPartial.add(entity);
+            }
+            listAll.add(entity);
+        }
+        dao.upsertInTx(listPartial);
+        List<Long> rowIds = new ArrayList<Long>();
+        for (T entity : listPartial) {
+            K pk = daoAccess.getKey(entity);
+            rowIds.add(queryRowId(pk));
+            markNonPkColumns(pk);
+        }
+        dao.upsertInTx(listAll);
+        assertEquals(listAll.size(), dao.count());
+        for (int i = 0; i < listPartial.size(); i++) {
+            K pk = daoAccess.getKey(listPartial.get(i));
+            assertFalse(hasMarkedNonPkColumns(pk));
+            assertEquals(rowIds.get(i).longValue(), queryRowId(pk));
+        }
+    }
+
     public void testDelete() {
         K pk = nextPk();
         dao.deleteByKey(pk);
@@ -272,6 +312,62 @@ public abstract class AbstractDaoTestSinglePk<D extends AbstractDao<T, K>, T, K>
         }
     }
 
+    protected long queryRowId(K pk) {
+        StringBuilder builder = new StringBuilder("SELECT ROWID FROM \"").append(dao.getTablename()).append('"');
+        appendWherePk(builder, pk);
+        Cursor cursor = db.rawQuery(builder.toString(), null);
+        try {
+            assertTrue(cursor.moveToFirst());
+            return cursor.getLong(0);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /** Overwrites the non-PK columns of the row with a marker (unique per row), which the entity does not contain. */
+    protected void markNonPkColumns(K pk) {
+        String[] columns = dao.getNonPkColumns();
+        if (columns.length == 0) {
+            return;
+        }
+        StringBuilder builder = new StringBuilder("UPDATE \"").append(dao.getTablename()).append("\" SET ");
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append('"').append(columns[i]).append("\"=");
+            DatabaseUtils.appendValueToSql(builder, "marker-" + pk);
+        }
+        appendWherePk(builder, pk);
+        db.execSQL(builder.toString());
+    }
+
+    /** True if a non-PK column of the row still has the value set by {@link #markNonPkColumns(Object)}. */
+    protected boolean hasMarkedNonPkColumns(K pk) {
+        String[] columns = dao.getNonPkColumns();
+        if (columns.length == 0) {
+            return false;
+        }
+        StringBuilder builder = new StringBuilder("SELECT COUNT(*) FROM \"").append(dao.getTablename()).append('"');
+        appendWherePk(builder, pk);
+        builder.append(" AND (");
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                builder.append(" OR ");
+            }
+            builder.append('"').append(columns[i]).append("\"=");
+            DatabaseUtils.appendValueToSql(builder, "marker-" + pk);
+        }
+        builder.append(')');
+        return DatabaseUtils.longForQuery(db, builder.toString(), null) > 0;
+    }
+
+    private void appendWherePk(StringBuilder builder, K pk) {
+        assertEquals(1, dao.getPkColumns().length);
+        builder.append(" WHERE \"").append(dao.getPkColumns()[0]).append("\"=");
+        DatabaseUtils.appendValueToSql(builder, pk);
+    }
+
     protected Cursor queryWithDummyColumnsInFront(int dummyCount, String valueForColumn, K pk) {
         StringBuilder builder = new StringBuilder("SELECT ");
         for (int i = 0; i < dummyCount; i++) {
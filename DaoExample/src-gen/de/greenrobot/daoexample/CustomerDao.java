@@ -6,6 +6,9 @@ import android.database.sqlite.SQLiteStatement;
 
 import de.greenrobot.dao.AbstractDao;
 import de.greenrobot.dao.Property;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.DatabaseStatement;
+import de.greenrobot.dao.database.StandardDatabase;
 import de.greenrobot.dao.internal.DaoConfig;
 
 import de.greenrobot.daoexample.Customer;
@@ -41,6 +44,11 @@ public class CustomerDao extends AbstractDao<Customer, Long> {
 
     /** Creates the underlying database table. */
     public static void createTable(SQLiteDatabase db, boolean ifNotExists) {
+        createTable(new StandardDatabase(db), ifNotExists);
+    }
+
+    /** Creates the underlying database table. */
+    public static void createTable(Database db, boolean ifNotExists) {
         String constraint = ifNotExists? "IF NOT EXISTS ": "";
         db.execSQL("CREATE TABLE " + constraint + "'CUSTOMER' (" + //
                 "'_id' INTEGER PRIMARY KEY ," + // 0: id
@@ -49,6 +57,11 @@ public class CustomerDao extends AbstractDao<Customer, Long> {
 
     /** Drops the underlying database table. */
     public static void dropTable(SQLiteDatabase db, boolean ifExists) {
+        dropTable(new StandardDatabase(db), ifExists);
+    }
+
+    /** Drops the underlying database table. */
+    public static void dropTable(Database db, boolean ifExists) {
         String sql = "DROP TABLE " + (ifExists ? "IF EXISTS " : "") + "'CUSTOMER'";
         db.execSQL(sql);
     }
@@ -65,6 +78,18 @@ public class CustomerDao extends AbstractDao<Customer, Long> {
         stmt.bindString(2, entity.getName());
     }
 
+    /** @inheritdoc */
+    @Override
+    protected void bindValues(DatabaseStatement stmt, Customer entity) {
+        stmt.clearBindings();
+ 
+        Long id = entity.getId();
+        if (id != null) {
+            stmt.bindLong(1, id);
+        }
+        stmt.bindString(2, entity.getName());
+    }
+
     @Override
     protected void attachEntity(Customer entity) {
         super.attachEntity(entity);
@@ -6,6 +6,9 @@ import android.database.sqlite.SQLiteStatement;
 
 import de.greenrobot.dao.AbstractDao;
 import de.greenrobot.dao.Property;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.DatabaseStatement;
+import de.greenrobot.dao.database.StandardDatabase;
 import de.greenrobot.dao.internal.DaoConfig;
 
 import de.greenrobot.daoexample.Note;
@@ -40,6 +43,11 @@ public class NoteDao extends AbstractDao<Note, Long> {
 
     /** Creates the underlying database table. */
     public static void createTable(SQLiteDatabase db, boolean ifNotExists) {
+        createTable(new StandardDatabase(db), ifNotExists);
+    }
+
+    /** Creates the underlying database table. */
+    public static void createTable(Database db, boolean ifNotExists) {
         String constraint = ifNotExists? "IF NOT EXISTS ": "";
         db.execSQL("CREATE TABLE " + constraint + "'NOTE' (" + //
                 "'_id' INTEGER PRIMARY KEY ," + // 0: id
@@ -50,6 +58,11 @@ public class NoteDao extends AbstractDao<Note, Long> {
 
     /** Drops the underlying database table. */
     public static void dropTable(SQLiteDatabase db, boolean ifExists) {
+        dropTable(new StandardDatabase(db), ifExists);
+    }
+
+    /** Drops the underlying database table. */
+    public static void dropTable(Database db, boolean ifExists) {
         String sql = "DROP TABLE " + (ifExists ? "IF EXISTS " : "") + "'NOTE'";
         db.execSQL(sql);
     }
@@ -76,6 +89,28 @@ public class NoteDao extends AbstractDao<Note, Long> {
         }
     }
 
+    /** @inheritdoc */
+    @Override
+    protected void bindValues(DatabaseStatement stmt, Note entity) {
+        stmt.clearBindings();
+ 
+        Long id = entity.getId();
+        if (id != null) {
+            stmt.bindLong(1, id);
+        }
+        stmt.bindString(2, entity.getText());
+ 
+        String comment = entity.getComment();
+        if (comment != null) {
+            stmt.bindString(3, comment);
+        }
+ 
+        java.util.Date date = entity.getDate();
+        if (date != null) {
+            stmt.bindLong(4, date.getTime());
+        }
+    }
+
     /** @inheritdoc */
     @Override
     public Long readKey(Cursor cursor, int offset) {
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * This file is part of greenDAO Generator.
+ * 
+ * greenDAO Generator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * greenDAO Generator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with greenDAO Generator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.greenrobot.daogenerator.gentest;
+
+import de.greenrobot.daogenerator.DaoGenerator;
+import de.greenrobot.daogenerator.Entity;
+import de.greenrobot.daogenerator.Schema;
+
+/**
+ * Generates the entities of the JMH benchmark project DaoBenchmark. Generated entities extend BenchmarkEntityBase (in
+ * DaoBenchmark), which declares the members the entity template overrides.
+ */
+public class BenchmarkDaoGenerator {
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkDaoGenerator benchmarkDaoGenerator = new BenchmarkDaoGenerator();
+        benchmarkDaoGenerator.generate();
+    }
+
+    private Schema schema;
+
+    public BenchmarkDaoGenerator() {
+        schema = new Schema(1, "de.greenrobot.daobenchmark.entity");
+
+        createSimpleNotNull();
+    }
+
+    public void generate() throws Exception {
+        new DaoGenerator().generateAll(schema, "../DaoBenchmark/src-gen");
+    }
+
+    /** Same properties as SimpleEntityNotNull of DaoTest. */
+    protected void createSimpleNotNull() {
+        Entity notNull = schema.addEntity("SimpleEntityNotNull");
+        notNull.setSuperclass("BenchmarkEntityBase");
+        notNull.addIdProperty().notNull();
+        notNull.addBooleanProperty("simpleBoolean").notNull();
+        notNull.addByteProperty("simpleByte").notNull();
+        notNull.addShortProperty("simpleShort").notNull();
+        notNull.addIntProperty("simpleInt").notNull();
+        notNull.addLongProperty("simpleLong").notNull();
+        notNull.addFloatProperty("simpleFloat").notNull();
+        notNull.addDoubleProperty("simpleDouble").notNull();
+        notNull.addStringProperty("simpleString").notNull();
+        notNull.addByteArrayProperty("simpleByteArray").notNull();
+    }
+
+}
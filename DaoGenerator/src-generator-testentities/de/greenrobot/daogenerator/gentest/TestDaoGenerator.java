@@ -57,6 +57,7 @@ public class TestDaoGenerator {
         createStringKeyValue();
         createAutoincrement();
         createSqliteMaster();
+        createPrimitiveNull();
 
         createSchema2();
     }
@@ -254,6 +255,21 @@ public class TestDaoGenerator {
         entity.addStringProperty("value");
     }
 
+    protected void createPrimitiveNull() {
+        Entity entity = schema.addEntity("PrimitiveNullEntity");
+        entity.setSuperclass("TestEntityBase");
+        entity.setPrimitiveFields(true);
+        entity.addIdProperty();
+        entity.addBooleanProperty("simpleBoolean");
+        entity.addByteProperty("simpleByte");
+        entity.addShortProperty("simpleShort");
+        entity.addIntProperty("simpleInt");
+        entity.addLongProperty("simpleLong");
+        entity.addFloatProperty("simpleFloat");
+        entity.addDoubleProperty("simpleDouble");
+        entity.addStringProperty("simpleString");
+    }
+
     protected void createAutoincrement() {
         Entity entity = schema.addEntity("AutoincrementEntity");
         entity.addIdProperty().autoincrement();
@@ -18,8 +18,32 @@ along with greenDAO Generator.  If not, see <http://www.gnu.org/licenses/>.
 
 -->
 <#if entity.toOneRelations?has_content>
+    /**
+     * To-one relations of entity ${entity.className}.<br/>
+     * Can be used to resolve relations for many entities at once using {@link #resolveToOne(List, ToOneRelation)}.
+     */
+    public static class Relations {
+<#list entity.toOneRelations as toOne>
+<#if toOne.useFkProperty>
+        public final static ToOneRelation<${entity.className}, ${toOne.targetEntity.className}> ${toOne.name?cap_first} = //
+                new ToOneRelation<${entity.className}, ${toOne.targetEntity.className}>("${toOne.name}", ${toOne.targetEntity.className}.class, "T${toOne_index}") {
+            @Override
+            public Object getForeignKey(${entity.className} source) {
+                return source.${toOne.fkProperties[0].propertyName};
+            }
+
+            @Override
+            public void setTarget(${entity.className} source, ${toOne.targetEntity.className} target) {
+                source.set${toOne.name?cap_first}(target);
+            }
+        };
+</#if>
+</#list>
+    }
+
     private String selectDeep;
 
+    @Override
     protected String getSelectDeep() {
         if (selectDeep == null) {
             StringBuilder builder = new StringBuilder("SELECT ");
@@ -42,6 +66,7 @@ along with greenDAO Generator.  If not, see <http://www.gnu.org/licenses/>.
         return selectDeep;
     }
     
+    @Override
     protected ${entity.className} loadCurrentDeep(Cursor cursor, boolean lock) {
         ${entity.className} entity = loadCurrent(cursor, 0, lock);
         int offset = getAllColumns().length;
@@ -67,63 +92,38 @@ along with greenDAO Generator.  If not, see <http://www.gnu.org/licenses/>.
             return null;
         }
 
+        long start = metricsStart();
         StringBuilder builder = new StringBuilder(getSelectDeep());
         builder.append("WHERE ");
         SqlUtils.appendColumnsEqValue(builder, "T", getPkColumns());
         String sql = builder.toString();
-        
+
         String[] keyArray = new String[] { key.toString() };
         Cursor cursor = db.rawQuery(sql, keyArray);
-        
+        ${entity.className} entity = null;
         try {
             boolean available = cursor.moveToFirst();
-            if (!available) {
-                return null;
-            } else if (!cursor.isLast()) {
-                throw new IllegalStateException("Expected unique result, but count was " + cursor.getCount());
-            }
-            return loadCurrentDeep(cursor, true);
-        } finally {
-            cursor.close();
-        }
-    }
-    
-    /** Reads all available rows from the given cursor and returns a list of new ImageTO objects. */
-    public List<${entity.className}> loadAllDeepFromCursor(Cursor cursor) {
-        int count = cursor.getCount();
-        List<${entity.className}> list = new ArrayList<${entity.className}>(count);
-        
-        if (cursor.moveToFirst()) {
-            if (identityScope != null) {
-                identityScope.lock();
-                identityScope.reserveRoom(count);
-            }
-            try {
-                do {
-                    list.add(loadCurrentDeep(cursor, false));
-                } while (cursor.moveToNext());
-            } finally {
-                if (identityScope != null) {
-                    identityScope.unlock();
+            if (available) {
+                if (!cursor.isLast()) {
+                    throw new IllegalStateException("Expected unique result, but count was " + cursor.getCount());
                 }
+                entity = loadCurrentDeep(cursor, true);
             }
-        }
-        return list;
-    }
-    
-    protected List<${entity.className}> loadDeepAllAndCloseCursor(Cursor cursor) {
-        try {
-            return loadAllDeepFromCursor(cursor);
         } finally {
             cursor.close();
         }
+        reportMetrics(DaoMetrics.Operation.LOAD, sql, entity != null ? 1 : 0, DaoMetrics.Cache.NOT_USED, start);
+        return entity;
     }
     
-
     /** A raw-style query where you can pass any WHERE clause and arguments. */
     public List<${entity.className}> queryDeep(String where, String... selectionArg) {
-        Cursor cursor = db.rawQuery(getSelectDeep() + where, selectionArg);
-        return loadDeepAllAndCloseCursor(cursor);
+        long start = metricsStart();
+        String sql = getSelectDeep() + where;
+        Cursor cursor = db.rawQuery(sql, selectionArg);
+        List<${entity.className}> list = loadDeepAllAndCloseCursor(cursor);
+        reportQuery(sql, selectionArg, list.size(), start);
+        return list;
     }
  
 </#if>
\ No newline at end of file
@@ -24,19 +24,34 @@ package ${entity.javaPackageDao};
 <#if entity.toOneRelations?has_content || entity.incomingToManyRelations?has_content>
 import java.util.List;
 </#if>
-<#if entity.toOneRelations?has_content>
-import java.util.ArrayList;
-</#if>
 import android.database.Cursor;
+<#if !entity.skipTableCreation>
 import android.database.sqlite.SQLiteDatabase;
+</#if>
 import android.database.sqlite.SQLiteStatement;
 
 import de.greenrobot.dao.AbstractDao;
+<#if !entity.protobuf>
+import de.greenrobot.dao.DaoException;
+</#if>
+<#if entity.toOneRelations?has_content>
+import de.greenrobot.dao.DaoMetrics;
+</#if>
 import de.greenrobot.dao.Property;
 <#if entity.toOneRelations?has_content>
-import de.greenrobot.dao.internal.SqlUtils;
+import de.greenrobot.dao.ToOneRelation;
+</#if>
+<#if !entity.skipTableCreation>
+import de.greenrobot.dao.database.Database;
+</#if>
+import de.greenrobot.dao.database.DatabaseStatement;
+<#if !entity.skipTableCreation>
+import de.greenrobot.dao.database.StandardDatabase;
 </#if>
 import de.greenrobot.dao.internal.DaoConfig;
+<#if entity.toOneRelations?has_content>
+import de.greenrobot.dao.internal.SqlUtils;
+</#if>
 <#if entity.incomingToManyRelations?has_content>
 import de.greenrobot.dao.query.Query;
 import de.greenrobot.dao.query.QueryBuilder;
@@ -88,6 +103,11 @@ public class ${entity.classNameDao} extends AbstractDao<${entity.className}, ${e
 <#if !entity.skipTableCreation>
     /** Creates the underlying database table. */
     public static void createTable(SQLiteDatabase db, boolean ifNotExists) {
+        createTable(new StandardDatabase(db), ifNotExists);
+    }
+
+    /** Creates the underlying database table. */
+    public static void createTable(Database db, boolean ifNotExists) {
         String constraint = ifNotExists? "IF NOT EXISTS ": "";
         db.execSQL("CREATE TABLE " + constraint + "'${entity.tableName}' (" + //
 <#list entity.propertiesColumns as property>
@@ -105,24 +125,36 @@ as property>${property.columnName}<#if property_has_next>,</#if></#list>);");
 
     /** Drops the underlying database table. */
     public static void dropTable(SQLiteDatabase db, boolean ifExists) {
+        dropTable(new StandardDatabase(db), ifExists);
+    }
+
+    /** Drops the underlying database table. */
+    public static void dropTable(Database db, boolean ifExists) {
         String sql = "DROP TABLE " + (ifExists ? "IF EXISTS " : "") + "'${entity.tableName}'";
         db.execSQL(sql);
     }
 
 </#if>
+<#-- Same code for both statement types; SQLiteStatement avoids the abstraction overhead on Android -->
+<#list ["SQLiteStatement", "DatabaseStatement"] as statementType>
     /** @inheritdoc */
     @Override
-    protected void bindValues(SQLiteStatement stmt, ${entity.className} entity) {
+    protected void bindValues(${statementType} stmt, ${entity.className} entity) {
         stmt.clearBindings();
 <#list entity.properties as property>
 <#if property.notNull || entity.protobuf>
 <#if entity.protobuf>
         if(entity.has${property.propertyName?cap_first}()) {
-    </#if>        stmt.bind${toBindType[property.propertyType]}(${property_index + 1}, entity.get${property.propertyName?cap_first}()<#if
+    </#if>        stmt.bind${toBindType[property.propertyType]}(${property_index + 1}, <#if entity.protobuf>entity.get${property.propertyName?cap_first}()<#else>entity.${property.propertyName}</#if><#if
      property.propertyType == "Boolean"> ? 1l: 0l</#if><#if property.propertyType == "Date">.getTime()</#if>);
 <#if entity.protobuf>
         }
 </#if>
+<#elseif property.nullFlag>
+        if (!entity.is${property.propertyName?cap_first}Null()) {
+            stmt.bind${toBindType[property.propertyType]}(${property_index + 1}, entity.get${property.propertyName?cap_first}()<#if
+ property.propertyType == "Boolean"> ? 1l: 0l</#if>);
+        }
 <#else> <#-- nullable, non-protobuff -->
         ${property.javaType} ${property.propertyName} = entity.${property.propertyName};
         if (${property.propertyName} != null) {
@@ -149,6 +181,7 @@ as property>${property.columnName}<#if property_has_next>,</#if></#list>);");
 </#list>
     }
 
+</#list>
 <#if entity.active>
     @Override
     protected void attachEntity(${entity.className} entity) {
@@ -185,7 +218,7 @@ as property>${property.columnName}<#if property_has_next>,</#if></#list>);");
 </#if>        
 </#list>        
         return builder.build();
-<#elseif entity.constructors>
+<#elseif entity.constructors && !entity.nullFlagFields?has_content>
 <#--
 ############################## readEntity non-protobuff, constructor ############################## 
 -->
@@ -216,14 +249,58 @@ as property>${property.columnName}<#if property_has_next>,</#if></#list>);");
         throw new UnsupportedOperationException("Protobuf objects cannot be modified");
 <#else> 
 <#list entity.properties as property>
+<#if property.nullFlag>
+        if (cursor.isNull(offset + ${property_index})) {
+            entity.set${property.propertyName?cap_first}Null();
+        } else {
+            entity.set${property.propertyName?cap_first}(<#if
+            property.propertyType == "Byte">(byte) </#if>cursor.get${toCursorType[property.propertyType]}(offset + ${property_index})<#if
+            property.propertyType == "Boolean"> != 0</#if>);
+        }
+<#else>
         entity.${property.propertyName} = <#if !property.notNull>cursor.isNull(offset + ${property_index}) ? null : </#if><#if
             property.propertyType == "Byte">(byte) </#if><#if 
             property.propertyType == "Date"> getDate(</#if>cursor.get${toCursorType[property.propertyType]}(offset + ${property_index})<#if
             property.propertyType == "Boolean"> != 0</#if><#if
             property.propertyType == "Date">)</#if>;
+</#if>
 </#list>
 </#if>
      }
+<#if !entity.protobuf>
+
+    /** @inheritdoc */
+    @Override
+    protected ${entity.className} readEntityPartial(Cursor cursor, int[] propertyOrdinals) {
+        ${entity.className} entity = new ${entity.className}();
+        for (int i = 0; i < propertyOrdinals.length; i++) {
+            switch (propertyOrdinals[i]) {
+<#list entity.properties as property>
+            case ${property_index}:
+<#if property.nullFlag>
+                if (cursor.isNull(i)) {
+                    entity.set${property.propertyName?cap_first}Null();
+                } else {
+                    entity.set${property.propertyName?cap_first}(<#if
+                    property.propertyType == "Byte">(byte) </#if>cursor.get${toCursorType[property.propertyType]}(i)<#if
+                    property.propertyType == "Boolean"> != 0</#if>);
+                }
+<#else>
+                entity.${property.propertyName} = <#if !property.notNull>cursor.isNull(i) ? null : </#if><#if
+                property.propertyType == "Byte">(byte) </#if><#if
+                property.propertyType == "Date"> getDate(</#if>cursor.get${toCursorType[property.propertyType]}(i)<#if
+                property.propertyType == "Boolean"> != 0</#if><#if
+                property.propertyType == "Date">)</#if>;
+</#if>
+                break;
+</#list>
+            default:
+                throw new DaoException("Unknown property ordinal: " + propertyOrdinals[i]);
+            }
+        }
+        return entity;
+    }
+</#if>
     
     /** @inheritdoc */
     @Override
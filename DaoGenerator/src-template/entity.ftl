@@ -61,7 +61,16 @@ as ifc>${ifc}<#if ifc_has_next>, </#if></#list></#if> {
 <#if property.notNull && complexTypes?seq_contains(property.propertyType)>
     /** Not-null value. */
 </#if>
+<#if property.nullFlag>
+    /** Use the accessors; the value is only valid if the null flag is cleared. */
+    private ${property.javaType} ${property.propertyName};
+<#else>
     public ${property.javaType} ${property.propertyName};
+</#if>
+</#list>
+<#list entity.nullFlagFields?keys as nullFlagField>
+    /** Null flags of primitive properties (a set bit means NULL); kept in sync by the setters. */
+    private long ${nullFlagField} = ${entity.nullFlagFields[nullFlagField]};
 </#list>
 
 
@@ -145,6 +154,9 @@ property>${property.javaType} ${property.propertyName}<#if property_has_next>, <
 property>${property.javaType} ${property.propertyName}<#if property_has_next>, </#if></#list>) {
 <#list entity.properties as property>
         this.${property.propertyName} = ${property.propertyName};
+</#list>
+<#list entity.nullFlagFields?keys as nullFlagField>
+        this.${nullFlagField} = 0;
 </#list>
     }
 </#if>
@@ -159,8 +171,8 @@ property>${property.javaType} ${property.propertyName}<#if property_has_next>, <
 </#if>
 
 <#list entity.properties as property>
-<#if property.propertyName?starts_with("contact_") || property.propertyName?starts_with("address_") ||
-	property.propertyName == "isFavourite" || property.propertyName == "hasNote">
+<#if !property.nullFlag && (property.propertyName?starts_with("contact_") || property.propertyName?starts_with("address_") ||
+	property.propertyName == "isFavourite" || property.propertyName == "hasNote")>
     public ${property.javaType} get${property.propertyName?cap_first}() {
         return ${property.propertyName};
     }
@@ -169,6 +181,29 @@ property>${property.javaType} ${property.propertyName}<#if property_has_next>, <
     	${property.propertyName} = value;
     }
     
+</#if>
+</#list>
+<#list entity.properties as property>
+<#if property.nullFlag>
+    /** Returns <#if property.propertyType == "Boolean">false<#else>0</#if> if the value is NULL; see {@link #is${property.propertyName?cap_first}Null()}. */
+    public ${property.javaType} get${property.propertyName?cap_first}() {
+        return ${property.propertyName};
+    }
+
+    public boolean is${property.propertyName?cap_first}Null() {
+        return (${property.nullFlagField} & ${property.nullFlagMask}) != 0;
+    }
+
+    public void set${property.propertyName?cap_first}(${property.javaType} value) {
+        ${property.propertyName} = value;
+        ${property.nullFlagField} &= ~${property.nullFlagMask};
+    }
+
+    public void set${property.propertyName?cap_first}Null() {
+        ${property.propertyName} = <#if property.propertyType == "Boolean">false<#else>0</#if>;
+        ${property.nullFlagField} |= ${property.nullFlagMask};
+    }
+
 </#if>
 </#list>
 
@@ -53,6 +53,31 @@ public class SimpleDaoGeneratorTest {
         assertTrue(daoFile.toString(), daoFile.exists());
     }
 
+    @Test
+    public void testPrimitiveFields() throws Exception {
+        Schema schema = new Schema(1, "de.greenrobot.testdao");
+        Entity entity = schema.addEntity("Primitive");
+        entity.setPrimitiveFields(true);
+        Property idProperty = entity.addIdProperty().getProperty();
+        Property countProperty = entity.addIntProperty("count").getProperty();
+        Property flagProperty = entity.addBooleanProperty("flag").getProperty();
+        Property notNullProperty = entity.addLongProperty("notNullValue").notNull().getProperty();
+        Property textProperty = entity.addStringProperty("text").getProperty();
+
+        new DaoGenerator().generateAll(schema, "test-out");
+
+        assertFalse(idProperty.isNullFlag());
+        assertEquals("Long", idProperty.getJavaType());
+        assertTrue(countProperty.isNullFlag());
+        assertEquals("int", countProperty.getJavaType());
+        assertEquals("0x1L", countProperty.getNullFlagMask());
+        assertTrue(flagProperty.isNullFlag());
+        assertEquals("0x2L", flagProperty.getNullFlagMask());
+        assertFalse(notNullProperty.isNullFlag());
+        assertFalse(textProperty.isNullFlag());
+        assertEquals("0x3L", entity.getNullFlagFields().get("__nulls0"));
+    }
+
     @Test
     public void testDbName() {
         assertEquals("NORMAL", DaoUtil.dbName("normal"));
@@ -67,6 +67,8 @@ public class Entity {
     private boolean skipTableCreation;
     private Boolean active;
     private Boolean hasKeepSections;
+    private Boolean primitiveFields;
+    private final Map<String, String> nullFlagFields;
 
     Entity(Schema schema, String className) {
         this.schema = schema;
@@ -83,6 +85,7 @@ public class Entity {
         additionalImportsDao = new TreeSet<String>();
         interfacesToImplement = new ArrayList<String>();
         contentProviders = new ArrayList<ContentProvider>();
+        nullFlagFields = new LinkedHashMap<String, String>();
         constructors = true;
     }
 
@@ -395,6 +398,24 @@ public class Entity {
         return active;
     }
 
+    /**
+     * Nullable numeric and boolean properties are generated as primitive fields; NULL values are tracked using bits of
+     * long fields ("null flags"). This avoids boxing when reading and binding values. The primitive fields and the null
+     * flags are private; the generated getX, setX, setXNull and isXNull methods keep them in sync. Primary keys and properties used by relations keep their wrapper types.
+     */
+    public void setPrimitiveFields(Boolean primitiveFields) {
+        this.primitiveFields = primitiveFields;
+    }
+
+    public boolean isPrimitiveFields() {
+        return primitiveFields != null && primitiveFields;
+    }
+
+    /** Null flag field names mapped to their initial value (all bits set: all values are NULL initially). */
+    public Map<String, String> getNullFlagFields() {
+        return nullFlagFields;
+    }
+
     public Boolean getHasKeepSections() {
         return hasKeepSections;
     }
@@ -488,6 +509,13 @@ public class Entity {
             hasKeepSections = schema.isHasKeepSectionsByDefault();
         }
 
+        if (primitiveFields == null) {
+            primitiveFields = schema.isUsePrimitiveFieldsByDefault();
+        }
+        if (primitiveFields && !protobuf) {
+            init2ndPassNullFlags();
+        }
+
         init2ndPassIndexNamesWithDefaults();
 
         for (ContentProvider contentProvider : contentProviders) {
@@ -495,6 +523,40 @@ public class Entity {
         }
     }
 
+    private void init2ndPassNullFlags() {
+        Set<Property> relationProperties = new HashSet<Property>();
+        for (ToOne toOne : toOneRelations) {
+            relationProperties.addAll(Arrays.asList(toOne.getFkProperties()));
+        }
+        for (ToMany toMany : toManyRelations) {
+            if (toMany.getSourceProperties() != null) {
+                relationProperties.addAll(Arrays.asList(toMany.getSourceProperties()));
+            }
+        }
+        for (ToMany toMany : incomingToManyRelations) {
+            relationProperties.addAll(Arrays.asList(toMany.getTargetProperties()));
+        }
+
+        int bit = 0;
+        long mask = 0;
+        for (Property property : properties) {
+            PropertyType type = property.getPropertyType();
+            if (property.isNotNull() || property.isPrimaryKey() || relationProperties.contains(property)
+                    || type == PropertyType.String || type == PropertyType.ByteArray || type == PropertyType.Date) {
+                continue;
+            }
+            String field = "__nulls" + (bit / 64);
+            long bitMask = 1L << (bit % 64);
+            property.initNullFlag(field, "0x" + Long.toHexString(bitMask) + "L");
+            mask |= bitMask;
+            nullFlagFields.put(field, "0x" + Long.toHexString(mask) + "L");
+            bit++;
+            if (bit % 64 == 0) {
+                mask = 0;
+            }
+        }
+    }
+
     protected void init2nPassNamesWithDefaults() {
         if (tableName == null) {
             tableName = DaoUtil.dbName(className);
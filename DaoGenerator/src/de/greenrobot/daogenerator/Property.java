@@ -130,6 +130,10 @@ public class Property {
 
     private String javaType;
 
+    /** Null flag field and bit mask if this nullable property uses a primitive field; see Entity#setPrimitiveFields */
+    private String nullFlagField;
+    private String nullFlagMask;
+
     public Property(Schema schema, Entity entity, PropertyType propertyType, String propertyName) {
         this.schema = schema;
         this.entity = entity;
@@ -181,6 +185,18 @@ public class Property {
         return javaType;
     }
 
+    public boolean isNullFlag() {
+        return nullFlagField != null;
+    }
+
+    public String getNullFlagField() {
+        return nullFlagField;
+    }
+
+    public String getNullFlagMask() {
+        return nullFlagMask;
+    }
+
     public int getOrdinal() {
         return ordinal;
     }
@@ -208,6 +224,13 @@ public class Property {
         }
     }
 
+    /** Called by the entity after init2ndPass to switch to a primitive field; NULL is tracked by the given bit. */
+    void initNullFlag(String nullFlagField, String nullFlagMask) {
+        this.nullFlagField = nullFlagField;
+        this.nullFlagMask = nullFlagMask;
+        javaType = schema.mapToJavaTypeNotNull(propertyType);
+    }
+
     private void initConstraint() {
         StringBuilder constraintBuilder = new StringBuilder();
         if (primaryKey) {
@@ -38,6 +38,7 @@ public class Schema {
     private Map<PropertyType, String> propertyToJavaTypeNullable;
     private boolean hasKeepSectionsByDefault;
     private boolean useActiveEntitiesByDefault;
+    private boolean usePrimitiveFieldsByDefault;
 
     public Schema(int version, String defaultJavaPackage) {
         this.version = version;
@@ -54,6 +55,11 @@ public class Schema {
         useActiveEntitiesByDefault = true;
     }
 
+    /** See {@link Entity#setPrimitiveFields(Boolean)}. */
+    public void enablePrimitiveFieldsByDefault() {
+        usePrimitiveFieldsByDefault = true;
+    }
+
     private void initTypeMappings() {
         propertyToDbType = new HashMap<PropertyType, String>();
         propertyToDbType.put(PropertyType.Boolean, "INTEGER");
@@ -168,6 +174,10 @@ public class Schema {
         return useActiveEntitiesByDefault;
     }
 
+    public boolean isUsePrimitiveFieldsByDefault() {
+        return usePrimitiveFieldsByDefault;
+    }
+
     void init2ndPass() {
         if (defaultJavaPackageDao == null) {
             defaultJavaPackageDao = defaultJavaPackage;
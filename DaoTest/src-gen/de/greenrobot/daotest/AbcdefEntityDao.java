@@ -6,6 +6,9 @@ import android.database.sqlite.SQLiteStatement;
 
 import de.greenrobot.dao.AbstractDao;
 import de.greenrobot.dao.Property;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.DatabaseStatement;
+import de.greenrobot.dao.database.StandardDatabase;
 import de.greenrobot.dao.internal.DaoConfig;
 
 import de.greenrobot.daotest.AbcdefEntity;
@@ -48,6 +51,11 @@ public class AbcdefEntityDao extends AbstractDao<AbcdefEntity, Long> {
 
     /** Creates the underlying database table. */
     public static void createTable(SQLiteDatabase db, boolean ifNotExists) {
+        createTable(new StandardDatabase(db), ifNotExists);
+    }
+
+    /** Creates the underlying database table. */
+    public static void createTable(Database db, boolean ifNotExists) {
         String constraint = ifNotExists? "IF NOT EXISTS ": "";
         db.execSQL("CREATE TABLE " + constraint + "'ABCDEF_ENTITY' (" + //
                 "'_id' INTEGER PRIMARY KEY ," + // 0: id
@@ -66,6 +74,11 @@ public class AbcdefEntityDao extends AbstractDao<AbcdefEntity, Long> {
 
     /** Drops the underlying database table. */
     public static void dropTable(SQLiteDatabase db, boolean ifExists) {
+        dropTable(new StandardDatabase(db), ifExists);
+    }
+
+    /** Drops the underlying database table. */
+    public static void dropTable(Database db, boolean ifExists) {
         String sql = "DROP TABLE " + (ifExists ? "IF EXISTS " : "") + "'ABCDEF_ENTITY'";
         db.execSQL(sql);
     }
@@ -136,6 +149,72 @@ public class AbcdefEntityDao extends AbstractDao<AbcdefEntity, Long> {
         }
     }
 
+    /** @inheritdoc */
+    @Override
+    protected void bindValues(DatabaseStatement stmt, AbcdefEntity entity) {
+        stmt.clearBindings();
+ 
+        Long id = entity.getId();
+        if (id != null) {
+            stmt.bindLong(1, id);
+        }
+ 
+        Integer a = entity.getA();
+        if (a != null) {
+            stmt.bindLong(2, a);
+        }
+ 
+        Integer b = entity.getB();
+        if (b != null) {
+            stmt.bindLong(3, b);
+        }
+ 
+        Integer c = entity.getC();
+        if (c != null) {
+            stmt.bindLong(4, c);
+        }
+ 
+        Integer d = entity.getD();
+        if (d != null) {
+            stmt.bindLong(5, d);
+        }
+ 
+        Integer e = entity.getE();
+        if (e != null) {
+            stmt.bindLong(6, e);
+        }
+ 
+        Integer f = entity.getF();
+        if (f != null) {
+            stmt.bindLong(7, f);
+        }
+ 
+        Integer g = entity.getG();
+        if (g != null) {
+            stmt.bindLong(8, g);
+        }
+ 
+        Integer h = entity.getH();
+        if (h != null) {
+            stmt.bindLong(9, h);
+        }
+ 
+        Integer j = entity.getJ();
+        if (j != null) {
+            stmt.bindLong(10, j);
+        }
+ 
+        Integer i = entity.getI();
+        if (i != null) {
+            stmt.bindLong(11, i);
+        }
+ 
+        Integer k = entity.getK();
+        if (k != null) {
+            stmt.bindLong(12, k);
+        }
+    }
+
     /** @inheritdoc */
     @Override
     public Long readKey(Cursor cursor, int offset) {
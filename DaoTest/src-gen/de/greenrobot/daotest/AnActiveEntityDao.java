@@ -6,6 +6,9 @@ import android.database.sqlite.SQLiteStatement;
 
 import de.greenrobot.dao.AbstractDao;
 import de.greenrobot.dao.Property;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.DatabaseStatement;
+import de.greenrobot.dao.database.StandardDatabase;
 import de.greenrobot.dao.internal.DaoConfig;
 
 import de.greenrobot.daotest.AnActiveEntity;
@@ -41,6 +44,11 @@ public class AnActiveEntityDao extends AbstractDao<AnActiveEntity, Long> {
 
     /** Creates the underlying database table. */
     public static void createTable(SQLiteDatabase db, boolean ifNotExists) {
+        createTable(new StandardDatabase(db), ifNotExists);
+    }
+
+    /** Creates the underlying database table. */
+    public static void createTable(Database db, boolean ifNotExists) {
         String constraint = ifNotExists? "IF NOT EXISTS ": "";
         db.execSQL("CREATE TABLE " + constraint + "'AN_ACTIVE_ENTITY' (" + //
                 "'_id' INTEGER PRIMARY KEY ," + // 0: id
@@ -49,6 +57,11 @@ public class AnActiveEntityDao extends AbstractDao<AnActiveEntity, Long> {
 
     /** Drops the underlying database table. */
     public static void dropTable(SQLiteDatabase db, boolean ifExists) {
+        dropTable(new StandardDatabase(db), ifExists);
+    }
+
+    /** Drops the underlying database table. */
+    public static void dropTable(Database db, boolean ifExists) {
         String sql = "DROP TABLE " + (ifExists ? "IF EXISTS " : "") + "'AN_ACTIVE_ENTITY'";
         db.execSQL(sql);
     }
@@ -69,6 +82,22 @@ public class AnActiveEntityDao extends AbstractDao<AnActiveEntity, Long> {
         }
     }
 
+    /** @inheritdoc */
+    @Override
+    protected void bindValues(DatabaseStatement stmt, AnActiveEntity entity) {
+        stmt.clearBindings();
+ 
+        Long id = entity.getId();
+        if (id != null) {
+            stmt.bindLong(1, id);
+        }
+ 
+        String text = entity.getText();
+        if (text != null) {
+            stmt.bindString(2, text);
+        }
+    }
+
     @Override
     protected void attachEntity(AnActiveEntity entity) {
         super.attachEntity(entity);
@@ -6,6 +6,8 @@ import java.util.Map;
 
 import de.greenrobot.dao.AbstractDao;
 import de.greenrobot.dao.AbstractDaoSession;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.StandardDatabase;
 import de.greenrobot.dao.identityscope.IdentityScopeType;
 import de.greenrobot.dao.internal.DaoConfig;
 
@@ -24,6 +26,7 @@ import de.greenrobot.daotest.ExtendsImplementsEntity;
 import de.greenrobot.daotest.StringKeyValueEntity;
 import de.greenrobot.daotest.AutoincrementEntity;
 import de.greenrobot.daotest.SqliteMaster;
+import de.greenrobot.daotest.PrimitiveNullEntity;
 
 import de.greenrobot.daotest.SimpleEntityDao;
 import de.greenrobot.daotest.SimpleEntityNotNullDao;
@@ -40,6 +43,7 @@ import de.greenrobot.daotest.ExtendsImplementsEntityDao;
 import de.greenrobot.daotest.StringKeyValueEntityDao;
 import de.greenrobot.daotest.AutoincrementEntityDao;
 import de.greenrobot.daotest.SqliteMasterDao;
+import de.greenrobot.daotest.PrimitiveNullEntityDao;
 
 // THIS CODE IS GENERATED BY greenDAO, DO NOT EDIT.
 
@@ -65,6 +69,7 @@ public class DaoSession extends AbstractDaoSession {
     private final DaoConfig stringKeyValueEntityDaoConfig;
     private final DaoConfig autoincrementEntityDaoConfig;
     private final DaoConfig sqliteMasterDaoConfig;
+    private final DaoConfig primitiveNullEntityDaoConfig;
 
     private final SimpleEntityDao simpleEntityDao;
     private final SimpleEntityNotNullDao simpleEntityNotNullDao;
@@ -81,9 +86,15 @@ public class DaoSession extends AbstractDaoSession {
     private final StringKeyValueEntityDao stringKeyValueEntityDao;
     private final AutoincrementEntityDao autoincrementEntityDao;
     private final SqliteMasterDao sqliteMasterDao;
+    private final PrimitiveNullEntityDao primitiveNullEntityDao;
 
     public DaoSession(SQLiteDatabase db, IdentityScopeType type, Map<Class<? extends AbstractDao<?, ?>>, DaoConfig>
             daoConfigMap) {
+        this(new StandardDatabase(db), type, daoConfigMap);
+    }
+
+    public DaoSession(Database db, IdentityScopeType type, Map<Class<? extends AbstractDao<?, ?>>, DaoConfig>
+            daoConfigMap) {
         super(db);
 
         simpleEntityDaoConfig = daoConfigMap.get(SimpleEntityDao.class).clone();
@@ -131,6 +142,9 @@ public class DaoSession extends AbstractDaoSession {
         sqliteMasterDaoConfig = daoConfigMap.get(SqliteMasterDao.class).clone();
         sqliteMasterDaoConfig.initIdentityScope(type);
 
+        primitiveNullEntityDaoConfig = daoConfigMap.get(PrimitiveNullEntityDao.class).clone();
+        primitiveNullEntityDaoConfig.initIdentityScope(type);
+
         simpleEntityDao = new SimpleEntityDao(simpleEntityDaoConfig, this);
         simpleEntityNotNullDao = new SimpleEntityNotNullDao(simpleEntityNotNullDaoConfig, this);
         testEntityDao = new TestEntityDao(testEntityDaoConfig, this);
@@ -146,6 +160,7 @@ public class DaoSession extends AbstractDaoSession {
         stringKeyValueEntityDao = new StringKeyValueEntityDao(stringKeyValueEntityDaoConfig, this);
         autoincrementEntityDao = new AutoincrementEntityDao(autoincrementEntityDaoConfig, this);
         sqliteMasterDao = new SqliteMasterDao(sqliteMasterDaoConfig, this);
+        primitiveNullEntityDao = new PrimitiveNullEntityDao(primitiveNullEntityDaoConfig, this);
 
         registerDao(SimpleEntity.class, simpleEntityDao);
         registerDao(SimpleEntityNotNull.class, simpleEntityNotNullDao);
@@ -162,6 +177,7 @@ public class DaoSession extends AbstractDaoSession {
         registerDao(StringKeyValueEntity.class, stringKeyValueEntityDao);
         registerDao(AutoincrementEntity.class, autoincrementEntityDao);
         registerDao(SqliteMaster.class, sqliteMasterDao);
+        registerDao(PrimitiveNullEntity.class, primitiveNullEntityDao);
     }
     
     public void clear() {
@@ -180,6 +196,7 @@ public class DaoSession extends AbstractDaoSession {
         stringKeyValueEntityDaoConfig.getIdentityScope().clear();
         autoincrementEntityDaoConfig.getIdentityScope().clear();
         sqliteMasterDaoConfig.getIdentityScope().clear();
+        primitiveNullEntityDaoConfig.getIdentityScope().clear();
     }
 
     public SimpleEntityDao getSimpleEntityDao() {
@@ -242,4 +259,8 @@ public class DaoSession extends AbstractDaoSession {
         return sqliteMasterDao;
     }
 
+    public PrimitiveNullEntityDao getPrimitiveNullEntityDao() {
+        return primitiveNullEntityDao;
+    }
+
 }
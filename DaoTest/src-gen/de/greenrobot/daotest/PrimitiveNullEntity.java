@@ -0,0 +1,228 @@
+package de.greenrobot.daotest;
+
+import de.greenrobot.dao.Property;
+
+
+// THIS CODE IS GENERATED BY greenDAO, DO NOT EDIT. Enable "keep" sections if you want to edit. 
+/**
+ * Entity mapped to table PRIMITIVE_NULL_ENTITY.
+ */
+public class PrimitiveNullEntity extends TestEntityBase  {
+
+    public Long id;
+    /** Use the accessors; the value is only valid if the null flag is cleared. */
+    private boolean simpleBoolean;
+    /** Use the accessors; the value is only valid if the null flag is cleared. */
+    private byte simpleByte;
+    /** Use the accessors; the value is only valid if the null flag is cleared. */
+    private short simpleShort;
+    /** Use the accessors; the value is only valid if the null flag is cleared. */
+    private int simpleInt;
+    /** Use the accessors; the value is only valid if the null flag is cleared. */
+    private long simpleLong;
+    /** Use the accessors; the value is only valid if the null flag is cleared. */
+    private float simpleFloat;
+    /** Use the accessors; the value is only valid if the null flag is cleared. */
+    private double simpleDouble;
+    public String simpleString;
+    /** Null flags of primitive properties (a set bit means NULL); kept in sync by the setters. */
+    private long __nulls0 = 0x7fL;
+
+
+
+    /**
+     * Properties of entity PrimitiveNullEntity.<br/>
+     * Can be used for QueryBuilder and for referencing column names.
+    */
+    public static class Properties {
+        public final static Property Id = new Property(0, Long.class, "id", true, "_id", "PRIMITIVE_NULL_ENTITY");
+        public final static Property SimpleBoolean = new Property(1, boolean.class, "simpleBoolean", false, "SIMPLE_BOOLEAN", "PRIMITIVE_NULL_ENTITY");
+        public final static Property SimpleByte = new Property(2, byte.class, "simpleByte", false, "SIMPLE_BYTE", "PRIMITIVE_NULL_ENTITY");
+        public final static Property SimpleShort = new Property(3, short.class, "simpleShort", false, "SIMPLE_SHORT", "PRIMITIVE_NULL_ENTITY");
+        public final static Property SimpleInt = new Property(4, int.class, "simpleInt", false, "SIMPLE_INT", "PRIMITIVE_NULL_ENTITY");
+        public final static Property SimpleLong = new Property(5, long.class, "simpleLong", false, "SIMPLE_LONG", "PRIMITIVE_NULL_ENTITY");
+        public final static Property SimpleFloat = new Property(6, float.class, "simpleFloat", false, "SIMPLE_FLOAT", "PRIMITIVE_NULL_ENTITY");
+        public final static Property SimpleDouble = new Property(7, double.class, "simpleDouble", false, "SIMPLE_DOUBLE", "PRIMITIVE_NULL_ENTITY");
+        public final static Property SimpleString = new Property(8, String.class, "simpleString", false, "SIMPLE_STRING", "PRIMITIVE_NULL_ENTITY");
+    };
+    
+    public static final String TABLE_NAME = "PRIMITIVE_NULL_ENTITY";
+    
+	@Override
+	public String getTableName() {
+		return TABLE_NAME; 
+	}
+	
+	@Override
+	public String getEntityName() {
+		return ENTITY_NAME; 
+	}
+	
+	@Override
+	public Long getId() {
+		return id; 
+	}
+	
+	@Override
+	protected void setId(Long id) {
+		this.id = id;
+	}
+
+
+
+    public PrimitiveNullEntity() {
+    }
+
+    public PrimitiveNullEntity(Long id) {
+        this.id = id;
+    }
+
+    public PrimitiveNullEntity(Long id, boolean simpleBoolean, byte simpleByte, short simpleShort, int simpleInt, long simpleLong, float simpleFloat, double simpleDouble, String simpleString) {
+        this.id = id;
+        this.simpleBoolean = simpleBoolean;
+        this.simpleByte = simpleByte;
+        this.simpleShort = simpleShort;
+        this.simpleInt = simpleInt;
+        this.simpleLong = simpleLong;
+        this.simpleFloat = simpleFloat;
+        this.simpleDouble = simpleDouble;
+        this.simpleString = simpleString;
+        this.__nulls0 = 0;
+    }
+
+
+    /** Returns false if the value is NULL; see {@link #isSimpleBooleanNull()}. */
+    public boolean getSimpleBoolean() {
+        return simpleBoolean;
+    }
+
+    public boolean isSimpleBooleanNull() {
+        return (__nulls0 & 0x1L) != 0;
+    }
+
+    public void setSimpleBoolean(boolean value) {
+        simpleBoolean = value;
+        __nulls0 &= ~0x1L;
+    }
+
+    public void setSimpleBooleanNull() {
+        simpleBoolean = false;
+        __nulls0 |= 0x1L;
+    }
+
+    /** Returns 0 if the value is NULL; see {@link #isSimpleByteNull()}. */
+    public byte getSimpleByte() {
+        return simpleByte;
+    }
+
+    public boolean isSimpleByteNull() {
+        return (__nulls0 & 0x2L) != 0;
+    }
+
+    public void setSimpleByte(byte value) {
+        simpleByte = value;
+        __nulls0 &= ~0x2L;
+    }
+
+    public void setSimpleByteNull() {
+        simpleByte = 0;
+        __nulls0 |= 0x2L;
+    }
+
+    /** Returns 0 if the value is NULL; see {@link #isSimpleShortNull()}. */
+    public short getSimpleShort() {
+        return simpleShort;
+    }
+
+    public boolean isSimpleShortNull() {
+        return (__nulls0 & 0x4L) != 0;
+    }
+
+    public void setSimpleShort(short value) {
+        simpleShort = value;
+        __nulls0 &= ~0x4L;
+    }
+
+    public void setSimpleShortNull() {
+        simpleShort = 0;
+        __nulls0 |= 0x4L;
+    }
+
+    /** Returns 0 if the value is NULL; see {@link #isSimpleIntNull()}. */
+    public int getSimpleInt() {
+        return simpleInt;
+    }
+
+    public boolean isSimpleIntNull() {
+        return (__nulls0 & 0x8L) != 0;
+    }
+
+    public void setSimpleInt(int value) {
+        simpleInt = value;
+        __nulls0 &= ~0x8L;
+    }
+
+    public void setSimpleIntNull() {
+        simpleInt = 0;
+        __nulls0 |= 0x8L;
+    }
+
+    /** Returns 0 if the value is NULL; see {@link #isSimpleLongNull()}. */
+    public long getSimpleLong() {
+        return simpleLong;
+    }
+
+    public boolean isSimpleLongNull() {
+        return (__nulls0 & 0x10L) != 0;
+    }
+
+    public void setSimpleLong(long value) {
+        simpleLong = value;
+        __nulls0 &= ~0x10L;
+    }
+
+    public void setSimpleLongNull() {
+        simpleLong = 0;
+        __nulls0 |= 0x10L;
+    }
+
+    /** Returns 0 if the value is NULL; see {@link #isSimpleFloatNull()}. */
+    public float getSimpleFloat() {
+        return simpleFloat;
+    }
+
+    public boolean isSimpleFloatNull() {
+        return (__nulls0 & 0x20L) != 0;
+    }
+
+    public void setSimpleFloat(float value) {
+        simpleFloat = value;
+        __nulls0 &= ~0x20L;
+    }
+
+    public void setSimpleFloatNull() {
+        simpleFloat = 0;
+        __nulls0 |= 0x20L;
+    }
+
+    /** Returns 0 if the value is NULL; see {@link #isSimpleDoubleNull()}. */
+    public double getSimpleDouble() {
+        return simpleDouble;
+    }
+
+    public boolean isSimpleDoubleNull() {
+        return (__nulls0 & 0x40L) != 0;
+    }
+
+    public void setSimpleDouble(double value) {
+        simpleDouble = value;
+        __nulls0 &= ~0x40L;
+    }
+
+    public void setSimpleDoubleNull() {
+        simpleDouble = 0;
+        __nulls0 |= 0x40L;
+    }
+
+
+}
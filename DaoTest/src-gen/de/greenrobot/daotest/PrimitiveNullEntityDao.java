@@ -0,0 +1,287 @@
+package de.greenrobot.daotest;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import de.greenrobot.dao.AbstractDao;
+import de.greenrobot.dao.DaoException;
+import de.greenrobot.dao.Property;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.DatabaseStatement;
+import de.greenrobot.dao.database.StandardDatabase;
+import de.greenrobot.dao.internal.DaoConfig;
+
+import de.greenrobot.daotest.PrimitiveNullEntity;
+
+
+// THIS CODE IS GENERATED BY greenDAO, DO NOT EDIT.
+/** 
+ * DAO for table PRIMITIVE_NULL_ENTITY.
+*/
+public class PrimitiveNullEntityDao extends AbstractDao<PrimitiveNullEntity, Long> {
+
+    public static final String TABLENAME = "PRIMITIVE_NULL_ENTITY";
+   
+
+    public PrimitiveNullEntityDao(DaoConfig config) {
+        super(config);
+    }
+    
+    public PrimitiveNullEntityDao(DaoConfig config, DaoSession daoSession) {
+        super(config, daoSession);
+    }
+
+    /** Creates the underlying database table. */
+    public static void createTable(SQLiteDatabase db, boolean ifNotExists) {
+        createTable(new StandardDatabase(db), ifNotExists);
+    }
+
+    /** Creates the underlying database table. */
+    public static void createTable(Database db, boolean ifNotExists) {
+        String constraint = ifNotExists? "IF NOT EXISTS ": "";
+        db.execSQL("CREATE TABLE " + constraint + "'PRIMITIVE_NULL_ENTITY' (" + //
+                "'_id' INTEGER PRIMARY KEY ," + // 0: id
+                "'SIMPLE_BOOLEAN' INTEGER," + // 1: simpleBoolean
+                "'SIMPLE_BYTE' INTEGER," + // 2: simpleByte
+                "'SIMPLE_SHORT' INTEGER," + // 3: simpleShort
+                "'SIMPLE_INT' INTEGER," + // 4: simpleInt
+                "'SIMPLE_LONG' INTEGER," + // 5: simpleLong
+                "'SIMPLE_FLOAT' REAL," + // 6: simpleFloat
+                "'SIMPLE_DOUBLE' REAL," + // 7: simpleDouble
+                "'SIMPLE_STRING' TEXT);"); // 8: simpleString
+    }
+
+    /** Drops the underlying database table. */
+    public static void dropTable(SQLiteDatabase db, boolean ifExists) {
+        dropTable(new StandardDatabase(db), ifExists);
+    }
+
+    /** Drops the underlying database table. */
+    public static void dropTable(Database db, boolean ifExists) {
+        String sql = "DROP TABLE " + (ifExists ? "IF EXISTS " : "") + "'PRIMITIVE_NULL_ENTITY'";
+        db.execSQL(sql);
+    }
+
+    /** @inheritdoc */
+    @Override
+    protected void bindValues(SQLiteStatement stmt, PrimitiveNullEntity entity) {
+        stmt.clearBindings();
+ 
+        Long id = entity.id;
+        if (id != null) {
+            stmt.bindLong(1, id);
+        }
+        if (!entity.isSimpleBooleanNull()) {
+            stmt.bindLong(2, entity.getSimpleBoolean() ? 1l: 0l);
+        }
+        if (!entity.isSimpleByteNull()) {
+            stmt.bindLong(3, entity.getSimpleByte());
+        }
+        if (!entity.isSimpleShortNull()) {
+            stmt.bindLong(4, entity.getSimpleShort());
+        }
+        if (!entity.isSimpleIntNull()) {
+            stmt.bindLong(5, entity.getSimpleInt());
+        }
+        if (!entity.isSimpleLongNull()) {
+            stmt.bindLong(6, entity.getSimpleLong());
+        }
+        if (!entity.isSimpleFloatNull()) {
+            stmt.bindDouble(7, entity.getSimpleFloat());
+        }
+        if (!entity.isSimpleDoubleNull()) {
+            stmt.bindDouble(8, entity.getSimpleDouble());
+        }
+ 
+        String simpleString = entity.simpleString;
+        if (simpleString != null) {
+            stmt.bindString(9, simpleString);
+        }
+    }
+
+    /** @inheritdoc */
+    @Override
+    protected void bindValues(DatabaseStatement stmt, PrimitiveNullEntity entity) {
+        stmt.clearBindings();
+ 
+        Long id = entity.id;
+        if (id != null) {
+            stmt.bindLong(1, id);
+        }
+        if (!entity.isSimpleBooleanNull()) {
+            stmt.bindLong(2, entity.getSimpleBoolean() ? 1l: 0l);
+        }
+        if (!entity.isSimpleByteNull()) {
+            stmt.bindLong(3, entity.getSimpleByte());
+        }
+        if (!entity.isSimpleShortNull()) {
+            stmt.bindLong(4, entity.getSimpleShort());
+        }
+        if (!entity.isSimpleIntNull()) {
+            stmt.bindLong(5, entity.getSimpleInt());
+        }
+        if (!entity.isSimpleLongNull()) {
+            stmt.bindLong(6, entity.getSimpleLong());
+        }
+        if (!entity.isSimpleFloatNull()) {
+            stmt.bindDouble(7, entity.getSimpleFloat());
+        }
+        if (!entity.isSimpleDoubleNull()) {
+            stmt.bindDouble(8, entity.getSimpleDouble());
+        }
+ 
+        String simpleString = entity.simpleString;
+        if (simpleString != null) {
+            stmt.bindString(9, simpleString);
+        }
+    }
+
+    /** @inheritdoc */
+    @Override
+    public Long readKey(Cursor cursor, int offset) {
+        return cursor.isNull(offset + 0) ? null : cursor.getLong(offset + 0);
+    }    
+
+    /** @inheritdoc */
+    @Override
+    public PrimitiveNullEntity readEntity(Cursor cursor, int offset) {
+        PrimitiveNullEntity entity = new PrimitiveNullEntity();
+        readEntity(cursor, entity, offset);
+        return entity;
+    }
+     
+    /** @inheritdoc */
+    @Override
+    public void readEntity(Cursor cursor, PrimitiveNullEntity entity, int offset) {
+        entity.id = cursor.isNull(offset + 0) ? null : cursor.getLong(offset + 0);
+        if (cursor.isNull(offset + 1)) {
+            entity.setSimpleBooleanNull();
+        } else {
+            entity.setSimpleBoolean(cursor.getShort(offset + 1) != 0);
+        }
+        if (cursor.isNull(offset + 2)) {
+            entity.setSimpleByteNull();
+        } else {
+            entity.setSimpleByte((byte) cursor.getShort(offset + 2));
+        }
+        if (cursor.isNull(offset + 3)) {
+            entity.setSimpleShortNull();
+        } else {
+            entity.setSimpleShort(cursor.getShort(offset + 3));
+        }
+        if (cursor.isNull(offset + 4)) {
+            entity.setSimpleIntNull();
+        } else {
+            entity.setSimpleInt(cursor.getInt(offset + 4));
+        }
+        if (cursor.isNull(offset + 5)) {
+            entity.setSimpleLongNull();
+        } else {
+            entity.setSimpleLong(cursor.getLong(offset + 5));
+        }
+        if (cursor.isNull(offset + 6)) {
+            entity.setSimpleFloatNull();
+        } else {
+            entity.setSimpleFloat(cursor.getFloat(offset + 6));
+        }
+        if (cursor.isNull(offset + 7)) {
+            entity.setSimpleDoubleNull();
+        } else {
+            entity.setSimpleDouble(cursor.getDouble(offset + 7));
+        }
+        entity.simpleString = cursor.isNull(offset + 8) ? null : cursor.getString(offset + 8);
+     }
+
+    /** @inheritdoc */
+    @Override
+    protected PrimitiveNullEntity readEntityPartial(Cursor cursor, int[] propertyOrdinals) {
+        PrimitiveNullEntity entity = new PrimitiveNullEntity();
+        for (int i = 0; i < propertyOrdinals.length; i++) {
+            switch (propertyOrdinals[i]) {
+            case 0:
+                entity.id = cursor.isNull(i) ? null : cursor.getLong(i);
+                break;
+            case 1:
+                if (cursor.isNull(i)) {
+                    entity.setSimpleBooleanNull();
+                } else {
+                    entity.setSimpleBoolean(cursor.getShort(i) != 0);
+                }
+                break;
+            case 2:
+                if (cursor.isNull(i)) {
+                    entity.setSimpleByteNull();
+                } else {
+                    entity.setSimpleByte((byte) cursor.getShort(i));
+                }
+                break;
+            case 3:
+                if (cursor.isNull(i)) {
+                    entity.setSimpleShortNull();
+                } else {
+                    entity.setSimpleShort(cursor.getShort(i));
+                }
+                break;
+            case 4:
+                if (cursor.isNull(i)) {
+                    entity.setSimpleIntNull();
+                } else {
+                    entity.setSimpleInt(cursor.getInt(i));
+                }
+                break;
+            case 5:
+                if (cursor.isNull(i)) {
+                    entity.setSimpleLongNull();
+                } else {
+                    entity.setSimpleLong(cursor.getLong(i));
+                }
+                break;
+            case 6:
+                if (cursor.isNull(i)) {
+                    entity.setSimpleFloatNull();
+                } else {
+                    entity.setSimpleFloat(cursor.getFloat(i));
+                }
+                break;
+            case 7:
+                if (cursor.isNull(i)) {
+                    entity.setSimpleDoubleNull();
+                } else {
+                    entity.setSimpleDouble(cursor.getDouble(i));
+                }
+                break;
+            case 8:
+                entity.simpleString = cursor.isNull(i) ? null : cursor.getString(i);
+                break;
+            default:
+                throw new DaoException("Unknown property ordinal: " + propertyOrdinals[i]);
+            }
+        }
+        return entity;
+    }
+    
+    /** @inheritdoc */
+    @Override
+    protected Long updateKeyAfterInsert(PrimitiveNullEntity entity, long rowId) {
+        entity.id = rowId;
+        return rowId;
+    }
+    
+    /** @inheritdoc */
+    @Override
+    public Long getKey(PrimitiveNullEntity entity) {
+        if(entity != null) {
+            return entity.id;
+        } else {
+            return null;
+        }
+    }
+
+    /** @inheritdoc */
+    @Override    
+    protected boolean isEntityUpdateable() {
+        return true;
+    }
+    
+}
@@ -1,15 +1,19 @@
 package de.greenrobot.daotest;
 
 import java.util.List;
-import java.util.ArrayList;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteStatement;
 
 import de.greenrobot.dao.AbstractDao;
+import de.greenrobot.dao.DaoMetrics;
 import de.greenrobot.dao.Property;
-import de.greenrobot.dao.internal.SqlUtils;
+import de.greenrobot.dao.ToOneRelation;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.DatabaseStatement;
+import de.greenrobot.dao.database.StandardDatabase;
 import de.greenrobot.dao.internal.DaoConfig;
+import de.greenrobot.dao.internal.SqlUtils;
 
 import de.greenrobot.daotest.RelationEntity;
 
@@ -48,6 +52,11 @@ public class RelationEntityDao extends AbstractDao<RelationEntity, Long> {
 
     /** Creates the underlying database table. */
     public static void createTable(SQLiteDatabase db, boolean ifNotExists) {
+        createTable(new StandardDatabase(db), ifNotExists);
+    }
+
+    /** Creates the underlying database table. */
+    public static void createTable(Database db, boolean ifNotExists) {
         String constraint = ifNotExists? "IF NOT EXISTS ": "";
         db.execSQL("CREATE TABLE " + constraint + "'RELATION_ENTITY' (" + //
                 "'_id' INTEGER PRIMARY KEY ," + // 0: id
@@ -60,6 +69,11 @@ public class RelationEntityDao extends AbstractDao<RelationEntity, Long> {
 
     /** Drops the underlying database table. */
     public static void dropTable(SQLiteDatabase db, boolean ifExists) {
+        dropTable(new StandardDatabase(db), ifExists);
+    }
+
+    /** Drops the underlying database table. */
+    public static void dropTable(Database db, boolean ifExists) {
         String sql = "DROP TABLE " + (ifExists ? "IF EXISTS " : "") + "'RELATION_ENTITY'";
         db.execSQL(sql);
     }
@@ -91,6 +105,33 @@ public class RelationEntityDao extends AbstractDao<RelationEntity, Long> {
         }
     }
 
+    /** @inheritdoc */
+    @Override
+    protected void bindValues(DatabaseStatement stmt, RelationEntity entity) {
+        stmt.clearBindings();
+ 
+        Long id = entity.getId();
+        if (id != null) {
+            stmt.bindLong(1, id);
+        }
+ 
+        Long parentId = entity.getParentId();
+        if (parentId != null) {
+            stmt.bindLong(2, parentId);
+        }
+ 
+        Long testId = entity.getTestId();
+        if (testId != null) {
+            stmt.bindLong(3, testId);
+        }
+        stmt.bindLong(4, entity.getTestIdNotNull());
+ 
+        String simpleString = entity.getSimpleString();
+        if (simpleString != null) {
+            stmt.bindString(5, simpleString);
+        }
+    }
+
     @Override
     protected void attachEntity(RelationEntity entity) {
         super.attachEntity(entity);
@@ -149,8 +190,52 @@ public class RelationEntityDao extends AbstractDao<RelationEntity, Long> {
         return true;
     }
     
+    /**
+     * To-one relations of entity RelationEntity.<br/>
+     * Can be used to resolve relations for many entities at once using {@link #resolveToOne(List, ToOneRelation)}.
+     */
+    public static class Relations {
+        public final static ToOneRelation<RelationEntity, RelationEntity> Parent = //
+                new ToOneRelation<RelationEntity, RelationEntity>("parent", RelationEntity.class, "T0") {
+            @Override
+            public Object getForeignKey(RelationEntity source) {
+                return source.getParentId();
+            }
+
+            @Override
+            public void setTarget(RelationEntity source, RelationEntity target) {
+                source.setParent(target);
+            }
+        };
+        public final static ToOneRelation<RelationEntity, TestEntity> TestEntity = //
+                new ToOneRelation<RelationEntity, TestEntity>("testEntity", TestEntity.class, "T1") {
+            @Override
+            public Object getForeignKey(RelationEntity source) {
+                return source.getTestId();
+            }
+
+            @Override
+            public void setTarget(RelationEntity source, TestEntity target) {
+                source.setTestEntity(target);
+            }
+        };
+        public final static ToOneRelation<RelationEntity, TestEntity> TestNotNull = //
+                new ToOneRelation<RelationEntity, TestEntity>("testNotNull", TestEntity.class, "T2") {
+            @Override
+            public Object getForeignKey(RelationEntity source) {
+                return source.getTestIdNotNull();
+            }
+
+            @Override
+            public void setTarget(RelationEntity source, TestEntity target) {
+                source.setTestNotNull(target);
+            }
+        };
+    }
+
     private String selectDeep;
 
+    @Override
     protected String getSelectDeep() {
         if (selectDeep == null) {
             StringBuilder builder = new StringBuilder("SELECT ");
@@ -174,6 +259,7 @@ public class RelationEntityDao extends AbstractDao<RelationEntity, Long> {
         return selectDeep;
     }
     
+    @Override
     protected RelationEntity loadCurrentDeep(Cursor cursor, boolean lock) {
         RelationEntity entity = loadCurrent(cursor, 0, lock);
         int offset = getAllColumns().length;
@@ -204,63 +290,38 @@ public class RelationEntityDao extends AbstractDao<RelationEntity, Long> {
             return null;
         }
 
+        long start = metricsStart();
         StringBuilder builder = new StringBuilder(getSelectDeep());
         builder.append("WHERE ");
         SqlUtils.appendColumnsEqValue(builder, "T", getPkColumns());
         String sql = builder.toString();
-        
+
         String[] keyArray = new String[] { key.toString() };
         Cursor cursor = db.rawQuery(sql, keyArray);
-        
+        RelationEntity entity = null;
         try {
             boolean available = cursor.moveToFirst();
-            if (!available) {
-                return null;
-            } else if (!cursor.isLast()) {
-                throw new IllegalStateException("Expected unique result, but count was " + cursor.getCount());
-            }
-            return loadCurrentDeep(cursor, true);
-        } finally {
-            cursor.close();
-        }
-    }
-    
-    /** Reads all available rows from the given cursor and returns a list of new ImageTO objects. */
-    public List<RelationEntity> loadAllDeepFromCursor(Cursor cursor) {
-        int count = cursor.getCount();
-        List<RelationEntity> list = new ArrayList<RelationEntity>(count);
-        
-        if (cursor.moveToFirst()) {
-            if (identityScope != null) {
-                identityScope.lock();
-                identityScope.reserveRoom(count);
-            }
-            try {
-                do {
-                    list.add(loadCurrentDeep(cursor, false));
-                } while (cursor.moveToNext());
-            } finally {
-                if (identityScope != null) {
-                    identityScope.unlock();
+            if (available) {
+                if (!cursor.isLast()) {
+                    throw new IllegalStateException("Expected unique result, but count was " + cursor.getCount());
                 }
+                entity = loadCurrentDeep(cursor, true);
             }
-        }
-        return list;
-    }
-    
-    protected List<RelationEntity> loadDeepAllAndCloseCursor(Cursor cursor) {
-        try {
-            return loadAllDeepFromCursor(cursor);
         } finally {
             cursor.close();
         }
+        reportMetrics(DaoMetrics.Operation.LOAD, sql, entity != null ? 1 : 0, DaoMetrics.Cache.NOT_USED, start);
+        return entity;
     }
     
-
     /** A raw-style query where you can pass any WHERE clause and arguments. */
     public List<RelationEntity> queryDeep(String where, String... selectionArg) {
-        Cursor cursor = db.rawQuery(getSelectDeep() + where, selectionArg);
-        return loadDeepAllAndCloseCursor(cursor);
+        long start = metricsStart();
+        String sql = getSelectDeep() + where;
+        Cursor cursor = db.rawQuery(sql, selectionArg);
+        List<RelationEntity> list = loadDeepAllAndCloseCursor(cursor);
+        reportQuery(sql, selectionArg, list.size(), start);
+        return list;
     }
  
 }
@@ -6,6 +6,9 @@ import android.database.sqlite.SQLiteStatement;
 
 import de.greenrobot.dao.AbstractDao;
 import de.greenrobot.dao.Property;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.DatabaseStatement;
+import de.greenrobot.dao.database.StandardDatabase;
 import de.greenrobot.dao.internal.DaoConfig;
 
 import de.greenrobot.daotest.SimpleEntity;
@@ -46,6 +49,11 @@ public class SimpleEntityDao extends AbstractDao<SimpleEntity, Long> {
 
     /** Creates the underlying database table. */
     public static void createTable(SQLiteDatabase db, boolean ifNotExists) {
+        createTable(new StandardDatabase(db), ifNotExists);
+    }
+
+    /** Creates the underlying database table. */
+    public static void createTable(Database db, boolean ifNotExists) {
         String constraint = ifNotExists? "IF NOT EXISTS ": "";
         db.execSQL("CREATE TABLE " + constraint + "'SIMPLE_ENTITY' (" + //
                 "'_id' INTEGER PRIMARY KEY ," + // 0: id
@@ -62,6 +70,11 @@ public class SimpleEntityDao extends AbstractDao<SimpleEntity, Long> {
 
     /** Drops the underlying database table. */
     public static void dropTable(SQLiteDatabase db, boolean ifExists) {
+        dropTable(new StandardDatabase(db), ifExists);
+    }
+
+    /** Drops the underlying database table. */
+    public static void dropTable(Database db, boolean ifExists) {
         String sql = "DROP TABLE " + (ifExists ? "IF EXISTS " : "") + "'SIMPLE_ENTITY'";
         db.execSQL(sql);
     }
@@ -122,6 +135,62 @@ public class SimpleEntityDao extends AbstractDao<SimpleEntity, Long> {
         }
     }
 
+    /** @inheritdoc */
+    @Override
+    protected void bindValues(DatabaseStatement stmt, SimpleEntity entity) {
+        stmt.clearBindings();
+ 
+        Long id = entity.getId();
+        if (id != null) {
+            stmt.bindLong(1, id);
+        }
+ 
+        Boolean simpleBoolean = entity.getSimpleBoolean();
+        if (simpleBoolean != null) {
+            stmt.bindLong(2, simpleBoolean ? 1l: 0l);
+        }
+ 
+        Byte simpleByte = entity.getSimpleByte();
+        if (simpleByte != null) {
+            stmt.bindLong(3, simpleByte);
+        }
+ 
+        Short simpleShort = entity.getSimpleShort();
+        if (simpleShort != null) {
+            stmt.bindLong(4, simpleShort);
+        }
+ 
+        Integer simpleInt = entity.getSimpleInt();
+        if (simpleInt != null) {
+            stmt.bindLong(5, simpleInt);
+        }
+ 
+        Long simpleLong = entity.getSimpleLong();
+        if (simpleLong != null) {
+            stmt.bindLong(6, simpleLong);
+        }
+ 
+        Float simpleFloat = entity.getSimpleFloat();
+        if (simpleFloat != null) {
+            stmt.bindDouble(7, simpleFloat);
+        }
+ 
+        Double simpleDouble = entity.getSimpleDouble();
+        if (simpleDouble != null) {
+            stmt.bindDouble(8, simpleDouble);
+        }
+ 
+        String simpleString = entity.getSimpleString();
+        if (simpleString != null) {
+            stmt.bindString(9, simpleString);
+        }
+ 
+        byte[] simpleByteArray = entity.getSimpleByteArray();
+        if (simpleByteArray != null) {
+            stmt.bindBlob(10, simpleByteArray);
+        }
+    }
+
     /** @inheritdoc */
     @Override
     public Long readKey(Cursor cursor, int offset) {
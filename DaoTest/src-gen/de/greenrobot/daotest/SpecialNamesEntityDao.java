@@ -6,6 +6,9 @@ import android.database.sqlite.SQLiteStatement;
 
 import de.greenrobot.dao.AbstractDao;
 import de.greenrobot.dao.Property;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.DatabaseStatement;
+import de.greenrobot.dao.database.StandardDatabase;
 import de.greenrobot.dao.internal.DaoConfig;
 
 import de.greenrobot.daotest.SpecialNamesEntity;
@@ -46,6 +49,11 @@ public class SpecialNamesEntityDao extends AbstractDao<SpecialNamesEntity, Long>
 
     /** Creates the underlying database table. */
     public static void createTable(SQLiteDatabase db, boolean ifNotExists) {
+        createTable(new StandardDatabase(db), ifNotExists);
+    }
+
+    /** Creates the underlying database table. */
+    public static void createTable(Database db, boolean ifNotExists) {
         String constraint = ifNotExists? "IF NOT EXISTS ": "";
         db.execSQL("CREATE TABLE " + constraint + "'SPECIAL_NAMES_ENTITY' (" + //
                 "'_id' INTEGER PRIMARY KEY ," + // 0: id
@@ -62,6 +70,11 @@ public class SpecialNamesEntityDao extends AbstractDao<SpecialNamesEntity, Long>
 
     /** Drops the underlying database table. */
     public static void dropTable(SQLiteDatabase db, boolean ifExists) {
+        dropTable(new StandardDatabase(db), ifExists);
+    }
+
+    /** Drops the underlying database table. */
+    public static void dropTable(Database db, boolean ifExists) {
         String sql = "DROP TABLE " + (ifExists ? "IF EXISTS " : "") + "'SPECIAL_NAMES_ENTITY'";
         db.execSQL(sql);
     }
@@ -122,6 +135,62 @@ public class SpecialNamesEntityDao extends AbstractDao<SpecialNamesEntity, Long>
         }
     }
 
+    /** @inheritdoc */
+    @Override
+    protected void bindValues(DatabaseStatement stmt, SpecialNamesEntity entity) {
+        stmt.clearBindings();
+ 
+        Long id = entity.getId();
+        if (id != null) {
+            stmt.bindLong(1, id);
+        }
+ 
+        String count = entity.getCount();
+        if (count != null) {
+            stmt.bindString(2, count);
+        }
+ 
+        String select = entity.getSelect();
+        if (select != null) {
+            stmt.bindString(3, select);
+        }
+ 
+        String sum = entity.getSum();
+        if (sum != null) {
+            stmt.bindString(4, sum);
+        }
+ 
+        String avg = entity.getAvg();
+        if (avg != null) {
+            stmt.bindString(5, avg);
+        }
+ 
+        String join = entity.getJoin();
+        if (join != null) {
+            stmt.bindString(6, join);
+        }
+ 
+        String distinct = entity.getDistinct();
+        if (distinct != null) {
+            stmt.bindString(7, distinct);
+        }
+ 
+        String on = entity.getOn();
+        if (on != null) {
+            stmt.bindString(8, on);
+        }
+ 
+        String index = entity.getIndex();
+        if (index != null) {
+            stmt.bindString(9, index);
+        }
+ 
+        Integer order = entity.getOrder();
+        if (order != null) {
+            stmt.bindLong(10, order);
+        }
+    }
+
     /** @inheritdoc */
     @Override
     public Long readKey(Cursor cursor, int offset) {
@@ -5,7 +5,11 @@ import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteStatement;
 
 import de.greenrobot.dao.AbstractDao;
+import de.greenrobot.dao.DaoException;
 import de.greenrobot.dao.Property;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.DatabaseStatement;
+import de.greenrobot.dao.database.StandardDatabase;
 import de.greenrobot.dao.internal.DaoConfig;
 
 import de.greenrobot.daotest.TestEntity;
@@ -45,6 +49,11 @@ public class TestEntityDao extends AbstractDao<TestEntity, Long> {
 
     /** Creates the underlying database table. */
     public static void createTable(SQLiteDatabase db, boolean ifNotExists) {
+        createTable(new StandardDatabase(db), ifNotExists);
+    }
+
+    /** Creates the underlying database table. */
+    public static void createTable(Database db, boolean ifNotExists) {
         String constraint = ifNotExists? "IF NOT EXISTS ": "";
         db.execSQL("CREATE TABLE " + constraint + "'TEST_ENTITY' (" + //
                 "'_id' INTEGER PRIMARY KEY ," + // 0: id
@@ -65,6 +74,11 @@ public class TestEntityDao extends AbstractDao<TestEntity, Long> {
 
     /** Drops the underlying database table. */
     public static void dropTable(SQLiteDatabase db, boolean ifExists) {
+        dropTable(new StandardDatabase(db), ifExists);
+    }
+
+    /** Drops the underlying database table. */
+    public static void dropTable(Database db, boolean ifExists) {
         String sql = "DROP TABLE " + (ifExists ? "IF EXISTS " : "") + "'TEST_ENTITY'";
         db.execSQL(sql);
     }
@@ -112,6 +126,49 @@ public class TestEntityDao extends AbstractDao<TestEntity, Long> {
         }
     }
 
+    /** @inheritdoc */
+    @Override
+    protected void bindValues(DatabaseStatement stmt, TestEntity entity) {
+        stmt.clearBindings();
+ 
+        Long id = entity.getId();
+        if (id != null) {
+            stmt.bindLong(1, id);
+        }
+        stmt.bindLong(2, entity.getSimpleInt());
+ 
+        Integer simpleInteger = entity.getSimpleInteger();
+        if (simpleInteger != null) {
+            stmt.bindLong(3, simpleInteger);
+        }
+        stmt.bindString(4, entity.getSimpleStringNotNull());
+ 
+        String simpleString = entity.getSimpleString();
+        if (simpleString != null) {
+            stmt.bindString(5, simpleString);
+        }
+ 
+        String indexedString = entity.getIndexedString();
+        if (indexedString != null) {
+            stmt.bindString(6, indexedString);
+        }
+ 
+        String indexedStringAscUnique = entity.getIndexedStringAscUnique();
+        if (indexedStringAscUnique != null) {
+            stmt.bindString(7, indexedStringAscUnique);
+        }
+ 
+        java.util.Date simpleDate = entity.getSimpleDate();
+        if (simpleDate != null) {
+            stmt.bindLong(8, simpleDate.getTime());
+        }
+ 
+        Boolean simpleBoolean = entity.getSimpleBoolean();
+        if (simpleBoolean != null) {
+            stmt.bindLong(9, simpleBoolean ? 1l: 0l);
+        }
+    }
+
     /** @inheritdoc */
     @Override
     public Long readKey(Cursor cursor, int offset) {
@@ -148,6 +205,46 @@ public class TestEntityDao extends AbstractDao<TestEntity, Long> {
         entity.setSimpleDate(cursor.isNull(offset + 7) ? null : new java.util.Date(cursor.getLong(offset + 7)));
         entity.setSimpleBoolean(cursor.isNull(offset + 8) ? null : cursor.getShort(offset + 8) != 0);
      }
+
+    /** @inheritdoc */
+    @Override
+    protected TestEntity readEntityPartial(Cursor cursor, int[] propertyOrdinals) {
+        TestEntity entity = new TestEntity();
+        for (int i = 0; i < propertyOrdinals.length; i++) {
+            switch (propertyOrdinals[i]) {
+            case 0:
+                entity.setId(cursor.isNull(i) ? null : cursor.getLong(i));
+                break;
+            case 1:
+                entity.setSimpleInt(cursor.getInt(i));
+                break;
+            case 2:
+                entity.setSimpleInteger(cursor.isNull(i) ? null : cursor.getInt(i));
+                break;
+            case 3:
+                entity.setSimpleStringNotNull(cursor.getString(i));
+                break;
+            case 4:
+                entity.setSimpleString(cursor.isNull(i) ? null : cursor.getString(i));
+                break;
+            case 5:
+                entity.setIndexedString(cursor.isNull(i) ? null : cursor.getString(i));
+                break;
+            case 6:
+                entity.setIndexedStringAscUnique(cursor.isNull(i) ? null : cursor.getString(i));
+                break;
+            case 7:
+                entity.setSimpleDate(cursor.isNull(i) ? null : new java.util.Date(cursor.getLong(i)));
+                break;
+            case 8:
+                entity.setSimpleBoolean(cursor.isNull(i) ? null : cursor.getShort(i) != 0);
+                break;
+            default:
+                throw new DaoException("Unknown property ordinal: " + propertyOrdinals[i]);
+            }
+        }
+        return entity;
+    }
     
     /** @inheritdoc */
     @Override
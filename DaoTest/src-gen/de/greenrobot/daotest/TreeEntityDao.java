@@ -1,15 +1,18 @@
 package de.greenrobot.daotest;
 
 import java.util.List;
-import java.util.ArrayList;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteStatement;
 
 import de.greenrobot.dao.AbstractDao;
+import de.greenrobot.dao.DaoMetrics;
 import de.greenrobot.dao.Property;
-import de.greenrobot.dao.internal.SqlUtils;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.DatabaseStatement;
+import de.greenrobot.dao.database.StandardDatabase;
 import de.greenrobot.dao.internal.DaoConfig;
+import de.greenrobot.dao.internal.SqlUtils;
 import de.greenrobot.dao.query.Query;
 import de.greenrobot.dao.query.QueryBuilder;
 
@@ -47,6 +50,11 @@ public class TreeEntityDao extends AbstractDao<TreeEntity, Long> {
 
     /** Creates the underlying database table. */
     public static void createTable(SQLiteDatabase db, boolean ifNotExists) {
+        createTable(new StandardDatabase(db), ifNotExists);
+    }
+
+    /** Creates the underlying database table. */
+    public static void createTable(Database db, boolean ifNotExists) {
         String constraint = ifNotExists? "IF NOT EXISTS ": "";
         db.execSQL("CREATE TABLE " + constraint + "'TREE_ENTITY' (" + //
                 "'_id' INTEGER PRIMARY KEY ," + // 0: id
@@ -55,6 +63,11 @@ public class TreeEntityDao extends AbstractDao<TreeEntity, Long> {
 
     /** Drops the underlying database table. */
     public static void dropTable(SQLiteDatabase db, boolean ifExists) {
+        dropTable(new StandardDatabase(db), ifExists);
+    }
+
+    /** Drops the underlying database table. */
+    public static void dropTable(Database db, boolean ifExists) {
         String sql = "DROP TABLE " + (ifExists ? "IF EXISTS " : "") + "'TREE_ENTITY'";
         db.execSQL(sql);
     }
@@ -75,6 +88,22 @@ public class TreeEntityDao extends AbstractDao<TreeEntity, Long> {
         }
     }
 
+    /** @inheritdoc */
+    @Override
+    protected void bindValues(DatabaseStatement stmt, TreeEntity entity) {
+        stmt.clearBindings();
+ 
+        Long id = entity.getId();
+        if (id != null) {
+            stmt.bindLong(1, id);
+        }
+ 
+        Long parentId = entity.getParentId();
+        if (parentId != null) {
+            stmt.bindLong(2, parentId);
+        }
+    }
+
     @Override
     protected void attachEntity(TreeEntity entity) {
         super.attachEntity(entity);
@@ -143,6 +172,7 @@ public class TreeEntityDao extends AbstractDao<TreeEntity, Long> {
 
     private String selectDeep;
 
+    @Override
     protected String getSelectDeep() {
         if (selectDeep == null) {
             StringBuilder builder = new StringBuilder("SELECT ");
@@ -157,6 +187,7 @@ public class TreeEntityDao extends AbstractDao<TreeEntity, Long> {
         return selectDeep;
     }
     
+    @Override
     protected TreeEntity loadCurrentDeep(Cursor cursor, boolean lock) {
         TreeEntity entity = loadCurrent(cursor, 0, lock);
         int offset = getAllColumns().length;
@@ -173,63 +204,38 @@ public class TreeEntityDao extends AbstractDao<TreeEntity, Long> {
             return null;
         }
 
+        long start = metricsStart();
         StringBuilder builder = new StringBuilder(getSelectDeep());
         builder.append("WHERE ");
         SqlUtils.appendColumnsEqValue(builder, "T", getPkColumns());
         String sql = builder.toString();
-        
+
         String[] keyArray = new String[] { key.toString() };
         Cursor cursor = db.rawQuery(sql, keyArray);
-        
+        TreeEntity entity = null;
         try {
             boolean available = cursor.moveToFirst();
-            if (!available) {
-                return null;
-            } else if (!cursor.isLast()) {
-                throw new IllegalStateException("Expected unique result, but count was " + cursor.getCount());
-            }
-            return loadCurrentDeep(cursor, true);
-        } finally {
-            cursor.close();
-        }
-    }
-    
-    /** Reads all available rows from the given cursor and returns a list of new ImageTO objects. */
-    public List<TreeEntity> loadAllDeepFromCursor(Cursor cursor) {
-        int count = cursor.getCount();
-        List<TreeEntity> list = new ArrayList<TreeEntity>(count);
-        
-        if (cursor.moveToFirst()) {
-            if (identityScope != null) {
-                identityScope.lock();
-                identityScope.reserveRoom(count);
-            }
-            try {
-                do {
-                    list.add(loadCurrentDeep(cursor, false));
-                } while (cursor.moveToNext());
-            } finally {
-                if (identityScope != null) {
-                    identityScope.unlock();
+            if (available) {
+                if (!cursor.isLast()) {
+                    throw new IllegalStateException("Expected unique result, but count was " + cursor.getCount());
                 }
+                entity = loadCurrentDeep(cursor, true);
             }
-        }
-        return list;
-    }
-    
-    protected List<TreeEntity> loadDeepAllAndCloseCursor(Cursor cursor) {
-        try {
-            return loadAllDeepFromCursor(cursor);
         } finally {
             cursor.close();
         }
+        reportMetrics(DaoMetrics.Operation.LOAD, sql, entity != null ? 1 : 0, DaoMetrics.Cache.NOT_USED, start);
+        return entity;
     }
     
-
     /** A raw-style query where you can pass any WHERE clause and arguments. */
     public List<TreeEntity> queryDeep(String where, String... selectionArg) {
-        Cursor cursor = db.rawQuery(getSelectDeep() + where, selectionArg);
-        return loadDeepAllAndCloseCursor(cursor);
+        long start = metricsStart();
+        String sql = getSelectDeep() + where;
+        Cursor cursor = db.rawQuery(sql, selectionArg);
+        List<TreeEntity> list = loadDeepAllAndCloseCursor(cursor);
+        reportQuery(sql, selectionArg, list.size(), start);
+        return list;
     }
  
 }
@@ -6,6 +6,8 @@ import android.database.sqlite.SQLiteDatabase.CursorFactory;
 import android.database.sqlite.SQLiteOpenHelper;
 import android.util.Log;
 import de.greenrobot.dao.AbstractDaoMaster;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.StandardDatabase;
 import de.greenrobot.dao.identityscope.IdentityScopeType;
 
 import de.greenrobot.daotest2.dao.KeepEntityDao;
@@ -22,6 +24,11 @@ public class DaoMaster extends AbstractDaoMaster {
 
     /** Creates underlying database table using DAOs. */
     public static void createAllTables(SQLiteDatabase db, boolean ifNotExists) {
+        createAllTables(new StandardDatabase(db), ifNotExists);
+    }
+
+    /** Creates underlying database table using DAOs. */
+    public static void createAllTables(Database db, boolean ifNotExists) {
         KeepEntityDao.createTable(db, ifNotExists);
         ToManyTarget2Dao.createTable(db, ifNotExists);
         ToOneTarget2Dao.createTable(db, ifNotExists);
@@ -30,6 +37,11 @@ public class DaoMaster extends AbstractDaoMaster {
     
     /** Drops underlying database table using DAOs. */
     public static void dropAllTables(SQLiteDatabase db, boolean ifExists) {
+        dropAllTables(new StandardDatabase(db), ifExists);
+    }
+
+    /** Drops underlying database table using DAOs. */
+    public static void dropAllTables(Database db, boolean ifExists) {
         KeepEntityDao.dropTable(db, ifExists);
         ToManyTarget2Dao.dropTable(db, ifExists);
         ToOneTarget2Dao.dropTable(db, ifExists);
@@ -64,6 +76,11 @@ public class DaoMaster extends AbstractDaoMaster {
     }
 
     public DaoMaster(SQLiteDatabase db) {
+        this(new StandardDatabase(db));
+    }
+
+    /** Uses the given database, e.g. a {@link de.greenrobot.dao.database.JdbcDatabase} on a plain JVM. */
+    public DaoMaster(Database db) {
         super(db, SCHEMA_VERSION);
         registerDaoClass(KeepEntityDao.class);
         registerDaoClass(ToManyTarget2Dao.class);
@@ -7,9 +7,13 @@ import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteStatement;
 
 import de.greenrobot.dao.AbstractDao;
+import de.greenrobot.dao.DaoMetrics;
 import de.greenrobot.dao.Property;
-import de.greenrobot.dao.internal.SqlUtils;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.DatabaseStatement;
+import de.greenrobot.dao.database.StandardDatabase;
 import de.greenrobot.dao.internal.DaoConfig;
+import de.greenrobot.dao.internal.SqlUtils;
 
 import de.greenrobot.daotest2.dao.DaoSession;
 
@@ -48,6 +52,11 @@ public class RelationSource2Dao extends AbstractDao<RelationSource2, Long> {
 
     /** Creates the underlying database table. */
     public static void createTable(SQLiteDatabase db, boolean ifNotExists) {
+        createTable(new StandardDatabase(db), ifNotExists);
+    }
+
+    /** Creates the underlying database table. */
+    public static void createTable(Database db, boolean ifNotExists) {
         String constraint = ifNotExists? "IF NOT EXISTS ": "";
         db.execSQL("CREATE TABLE " + constraint + "'RELATION_SOURCE2' (" + //
                 "'_id' INTEGER PRIMARY KEY ," + // 0: id
@@ -56,6 +65,11 @@ public class RelationSource2Dao extends AbstractDao<RelationSource2, Long> {
 
     /** Drops the underlying database table. */
     public static void dropTable(SQLiteDatabase db, boolean ifExists) {
+        dropTable(new StandardDatabase(db), ifExists);
+    }
+
+    /** Drops the underlying database table. */
+    public static void dropTable(Database db, boolean ifExists) {
         String sql = "DROP TABLE " + (ifExists ? "IF EXISTS " : "") + "'RELATION_SOURCE2'";
         db.execSQL(sql);
     }
@@ -76,6 +90,22 @@ public class RelationSource2Dao extends AbstractDao<RelationSource2, Long> {
         }
     }
 
+    /** @inheritdoc */
+    @Override
+    protected void bindValues(DatabaseStatement stmt, RelationSource2 entity) {
+        stmt.clearBindings();
+ 
+        Long id = entity.getId();
+        if (id != null) {
+            stmt.bindLong(1, id);
+        }
+ 
+        Long toOneId = entity.getToOneId();
+        if (toOneId != null) {
+            stmt.bindLong(2, toOneId);
+        }
+    }
+
     @Override
     protected void attachEntity(RelationSource2 entity) {
         super.attachEntity(entity);
@@ -160,25 +190,28 @@ public class RelationSource2Dao extends AbstractDao<RelationSource2, Long> {
             return null;
         }
 
+        long start = metricsStart();
         StringBuilder builder = new StringBuilder(getSelectDeep());
         builder.append("WHERE ");
         SqlUtils.appendColumnsEqValue(builder, "T", getPkColumns());
         String sql = builder.toString();
-        
+
         String[] keyArray = new String[] { key.toString() };
         Cursor cursor = db.rawQuery(sql, keyArray);
-        
+        RelationSource2 entity = null;
         try {
             boolean available = cursor.moveToFirst();
-            if (!available) {
-                return null;
-            } else if (!cursor.isLast()) {
-                throw new IllegalStateException("Expected unique result, but count was " + cursor.getCount());
+            if (available) {
+                if (!cursor.isLast()) {
+                    throw new IllegalStateException("Expected unique result, but count was " + cursor.getCount());
+                }
+                entity = loadCurrentDeep(cursor, true);
             }
-            return loadCurrentDeep(cursor, true);
         } finally {
             cursor.close();
         }
+        reportMetrics(DaoMetrics.Operation.LOAD, sql, entity != null ? 1 : 0, DaoMetrics.Cache.NOT_USED, start);
+        return entity;
     }
     
     /** Reads all available rows from the given cursor and returns a list of new ImageTO objects. */
@@ -215,8 +248,12 @@ public class RelationSource2Dao extends AbstractDao<RelationSource2, Long> {
 
     /** A raw-style query where you can pass any WHERE clause and arguments. */
     public List<RelationSource2> queryDeep(String where, String... selectionArg) {
-        Cursor cursor = db.rawQuery(getSelectDeep() + where, selectionArg);
-        return loadDeepAllAndCloseCursor(cursor);
+        long start = metricsStart();
+        String sql = getSelectDeep() + where;
+        Cursor cursor = db.rawQuery(sql, selectionArg);
+        List<RelationSource2> list = loadDeepAllAndCloseCursor(cursor);
+        reportQuery(sql, selectionArg, list.size(), start);
+        return list;
     }
  
 }
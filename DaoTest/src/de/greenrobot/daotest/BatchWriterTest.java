@@ -0,0 +1,128 @@
+package de.greenrobot.daotest;
+
+import de.greenrobot.dao.BatchWriteException;
+import de.greenrobot.dao.BatchWriter;
+import de.greenrobot.dao.DaoException;
+import de.greenrobot.dao.test.AbstractDaoSessionTest;
+
+public class BatchWriterTest extends AbstractDaoSessionTest<DaoMaster, DaoSession> {
+
+    private SimpleEntityDao dao;
+
+    public BatchWriterTest() {
+        super(DaoMaster.class);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        dao = daoSession.getSimpleEntityDao();
+    }
+
+    public void testBatchSize() {
+        BatchWriter<SimpleEntity> writer = dao.batchWriter(10, Long.MAX_VALUE);
+        for (int i = 0; i < 25; i++) {
+            writer.add(new SimpleEntity());
+        }
+        assertEquals(20, dao.count());
+        assertEquals(2, writer.getBatchCount());
+        assertEquals(5, writer.getBufferedCount());
+
+        writer.close();
+        assertEquals(25, dao.count());
+        assertEquals(25, writer.getRowsWritten());
+        assertEquals(3, writer.getBatchCount());
+        assertEquals(0, writer.getBufferedCount());
+        assertTrue(writer.getRowsPerSecond() > 0);
+    }
+
+    public void testPrimaryKeysSet() {
+        BatchWriter<SimpleEntity> writer = dao.batchWriter(2, Long.MAX_VALUE);
+        SimpleEntity entity1 = new SimpleEntity();
+        SimpleEntity entity2 = new SimpleEntity();
+        writer.add(entity1);
+        assertNull(entity1.getId());
+        writer.add(entity2);
+        assertNotNull(entity1.getId());
+        assertNotNull(entity2.getId());
+        assertSame(entity1, dao.load(entity1.getId()));
+    }
+
+    public void testMaxDelay() throws InterruptedException {
+        BatchWriter<SimpleEntity> writer = dao.batchWriter(1000, 50);
+        writer.add(new SimpleEntity());
+        assertEquals(0, dao.count());
+        Thread.sleep(60);
+        writer.add(new SimpleEntity());
+        assertEquals(2, dao.count());
+        assertEquals(1, writer.getBatchCount());
+    }
+
+    public void testAddAfterClose() {
+        BatchWriter<SimpleEntity> writer = dao.batchWriter(10, Long.MAX_VALUE);
+        writer.close();
+        try {
+            writer.add(new SimpleEntity());
+            fail("Should have failed");
+        } catch (DaoException expected) {
+            // OK
+        }
+    }
+
+    public void testFailedBatchDropped() {
+        SimpleEntity existing = new SimpleEntity();
+        dao.insert(existing);
+        BatchWriter<SimpleEntity> writer = dao.batchWriter(2, Long.MAX_VALUE);
+        SimpleEntity entity = new SimpleEntity();
+        SimpleEntity duplicate = new SimpleEntity();
+        duplicate.setId(existing.getId());
+        writer.add(entity);
+        try {
+            writer.add(duplicate);
+            fail("Should have failed");
+        } catch (BatchWriteException expected) {
+            assertEquals(2, expected.getEntities().size());
+            assertSame(entity, expected.getEntities().get(0));
+        }
+        assertEquals(0, writer.getBufferedCount());
+        assertSame(existing, dao.load(existing.getId()));
+
+        writer.add(new SimpleEntity());
+        writer.add(new SimpleEntity());
+        writer.close();
+        assertEquals(3, dao.count());
+        assertEquals(1, writer.getBatchCount());
+    }
+
+    public void testCloseAfterFailure() {
+        SimpleEntity existing = new SimpleEntity();
+        dao.insert(existing);
+        BatchWriter<SimpleEntity> writer = dao.batchWriter(10, Long.MAX_VALUE);
+        SimpleEntity duplicate = new SimpleEntity();
+        duplicate.setId(existing.getId());
+        writer.add(duplicate);
+        try {
+            writer.close();
+            fail("Should have failed");
+        } catch (BatchWriteException expected) {
+            // OK
+        }
+        try {
+            writer.add(new SimpleEntity());
+            fail("Should be closed");
+        } catch (DaoException expected) {
+            // OK
+        }
+    }
+
+    public void testDiscard() {
+        BatchWriter<SimpleEntity> writer = dao.batchWriter(10, Long.MAX_VALUE);
+        writer.add(new SimpleEntity());
+        writer.add(new SimpleEntity());
+        writer.discard();
+        assertEquals(0, writer.getBufferedCount());
+        writer.close();
+        assertEquals(0, dao.count());
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * This file is part of greenDAO Generator.
+ * 
+ * greenDAO Generator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * greenDAO Generator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with greenDAO Generator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.greenrobot.daotest;
+
+import de.greenrobot.dao.DaoMetrics;
+import de.greenrobot.dao.DaoMetrics.Operation;
+import de.greenrobot.dao.DaoMetricsHistogram;
+import de.greenrobot.dao.DaoMetricsHistogram.Stats;
+import de.greenrobot.dao.test.AbstractDaoSessionTest;
+
+public class DaoMetricsTest extends AbstractDaoSessionTest<DaoMaster, DaoSession> {
+
+    private DaoMetricsHistogram histogram;
+    private SimpleEntityDao dao;
+
+    public DaoMetricsTest() {
+        super(DaoMaster.class);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        histogram = new DaoMetricsHistogram();
+        daoSession.setMetrics(histogram);
+        dao = daoSession.getSimpleEntityDao();
+    }
+
+    public void testWrites() {
+        SimpleEntity entity = new SimpleEntity();
+        dao.insert(entity);
+        dao.insertInTx(new SimpleEntity(), new SimpleEntity());
+        dao.update(entity);
+        dao.delete(entity);
+
+        Stats inserts = histogram.getStats(SimpleEntityDao.TABLENAME, Operation.INSERT);
+        assertEquals(2, inserts.getCount());
+        assertEquals(3, inserts.getRows());
+        assertEquals(1, histogram.getStats(SimpleEntityDao.TABLENAME, Operation.UPDATE).getCount());
+        assertEquals(1, histogram.getStats(SimpleEntityDao.TABLENAME, Operation.DELETE).getRows());
+        assertTrue(inserts.getMaxMillis() >= inserts.getAverageMillis());
+        assertTrue(inserts.getPercentileMillis(99) <= inserts.getMaxMillis());
+    }
+
+    public void testUpsert() {
+        SimpleEntity entity = new SimpleEntity();
+        dao.upsert(entity);
+        dao.upsertInTx(entity, new SimpleEntity());
+
+        assertNull(histogram.getStats(SimpleEntityDao.TABLENAME, Operation.INSERT));
+        Stats upserts = histogram.getStats(SimpleEntityDao.TABLENAME, Operation.UPSERT);
+        assertEquals(2, upserts.getCount());
+        assertEquals(3, upserts.getRows());
+    }
+
+    public void testUpdateAndDeleteQueries() {
+        dao.insertInTx(new SimpleEntity(), new SimpleEntity());
+        dao.queryBuilder().buildUpdate(SimpleEntityDao.Properties.SimpleInt.set(42)).execute();
+        dao.queryBuilder().buildDelete().executeDelete();
+
+        assertEquals(2, histogram.getStats(SimpleEntityDao.TABLENAME, Operation.UPDATE).getRows());
+        assertEquals(2, histogram.getStats(SimpleEntityDao.TABLENAME, Operation.DELETE).getRows());
+    }
+
+    public void testLoadByRowId() {
+        SimpleEntity entity = new SimpleEntity();
+        long rowId = dao.insert(entity);
+        dao.loadByRowId(rowId);
+
+        Stats loads = histogram.getStats(SimpleEntityDao.TABLENAME, Operation.LOAD);
+        assertEquals(1, loads.getCount());
+        assertEquals(1, loads.getRows());
+    }
+
+    public void testLoadCacheHitAndMiss() {
+        SimpleEntity entity = new SimpleEntity();
+        dao.insert(entity);
+        dao.load(entity.getId());
+        daoSession.clear();
+        dao.load(entity.getId());
+
+        Stats loads = histogram.getStats(SimpleEntityDao.TABLENAME, Operation.LOAD);
+        assertEquals(2, loads.getCount());
+        assertEquals(1, loads.getCacheHits());
+        assertEquals(1, loads.getCacheMisses());
+        assertEquals(0.5, loads.getCacheHitRate());
+    }
+
+    public void testQuery() {
+        dao.insertInTx(new SimpleEntity(), new SimpleEntity());
+        dao.queryBuilder().list();
+        dao.queryBuilder().count();
+
+        Stats queries = histogram.getStats(SimpleEntityDao.TABLENAME, Operation.QUERY);
+        assertEquals(2, queries.getCount());
+        assertEquals(3, queries.getRows());
+    }
+
+    public void testSqlFingerprint() {
+        final String[] lastSql = new String[1];
+        daoSession.setMetrics(new DaoMetrics() {
+            @Override
+            public void onOperation(Operation operation, String tablename, String sql, int rows,
+                    long durationNanos, Cache cache) {
+                lastSql[0] = sql;
+            }
+        });
+        dao.queryBuilder().where(SimpleEntityDao.Properties.SimpleInt.eq(42)).list();
+        assertTrue(lastSql[0].contains("?"));
+        assertFalse(lastSql[0].contains("42"));
+    }
+
+    public void testRemove() {
+        daoSession.setMetrics(null);
+        assertSame(DaoMetrics.NONE, daoSession.getMetrics());
+        dao.insert(new SimpleEntity());
+        assertTrue(histogram.getAllStats().isEmpty());
+    }
+
+}
@@ -185,6 +185,25 @@ public class DaoSessionConcurrentTest extends AbstractDaoSessionTest<DaoMaster,
         latchThreadsDone.await();
     }
 
+    public void testConcurrentWritesOutsideTx() throws InterruptedException {
+        Runnable runnable = new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < 100; i++) {
+                    TestEntity entity = createEntity(null);
+                    dao.insert(entity);
+                    entity.setSimpleInt(i);
+                    dao.update(entity);
+                }
+            }
+        };
+        initThreads(runnable, runnable, runnable, runnable);
+        latchInsideTx.countDown();
+        latchThreadsDone.await();
+        assertEquals(400, dao.count());
+        assertEquals(4, dao.queryBuilder().where(TestEntityDao.Properties.SimpleInt.eq(99)).count());
+    }
+
     // Query doesn't involve any statement locking currently, but just to stay on the safe side...
     public void testConcurrentQueryDuringTx() throws InterruptedException {
         final TestEntity entity = createEntity(null);
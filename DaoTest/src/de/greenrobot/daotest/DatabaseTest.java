@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * This file is part of greenDAO Generator.
+ * 
+ * greenDAO Generator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * greenDAO Generator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with greenDAO Generator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.greenrobot.daotest;
+
+import android.database.Cursor;
+import android.database.SQLException;
+import de.greenrobot.dao.database.Database;
+import de.greenrobot.dao.database.DatabaseStatement;
+import de.greenrobot.dao.database.StandardDatabase;
+import de.greenrobot.dao.test.DbTest;
+import de.greenrobot.daotest.entity.SimpleEntityNotNullHelper;
+
+/**
+ * Runs DAOs on a Database that is not a StandardDatabase, so the generic DatabaseStatement code paths are used (like
+ * on a plain JVM with JdbcDatabase).
+ */
+public class DatabaseTest extends DbTest {
+
+    private DaoSession daoSession;
+    private SimpleEntityNotNullDao dao;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        Database database = new DelegatingDatabase(new StandardDatabase(db));
+        DaoMaster.createAllTables(database, false);
+        daoSession = new DaoMaster(database).newSession();
+        dao = daoSession.getSimpleEntityNotNullDao();
+    }
+
+    public void testInsertLoadUpdateDelete() {
+        SimpleEntityNotNull entity = SimpleEntityNotNullHelper.createEntity(1l);
+        dao.insert(entity);
+        daoSession.clear();
+
+        SimpleEntityNotNull loaded = dao.load(1l);
+        assertNotSame(entity, loaded);
+        assertEquals(entity.getSimpleLong(), loaded.getSimpleLong());
+        assertEquals(entity.getSimpleDouble(), loaded.getSimpleDouble());
+        assertEquals(entity.getSimpleString(), loaded.getSimpleString());
+        assertEquals(entity.getSimpleByteArray().length, loaded.getSimpleByteArray().length);
+
+        loaded.setSimpleString("updated");
+        dao.update(loaded);
+        daoSession.clear();
+        assertEquals("updated", dao.load(1l).getSimpleString());
+
+        assertEquals(1, dao.count());
+        dao.deleteByKey(1l);
+        assertEquals(0, dao.count());
+    }
+
+    public void testInsertInTxAndQuery() {
+        SimpleEntityNotNull[] entities = new SimpleEntityNotNull[10];
+        for (int i = 0; i < entities.length; i++) {
+            entities[i] = SimpleEntityNotNullHelper.createEntity(i + 1l);
+        }
+        dao.insertInTx(entities);
+        assertEquals(entities.length, dao.count());
+        assertEquals(entities.length, dao.queryBuilder().list().size());
+        assertEquals(1, dao.queryBuilder().where(SimpleEntityNotNullDao.Properties.Id.eq(5)).list().size());
+    }
+
+    public void testRollback() {
+        try {
+            daoSession.runInTx(new Runnable() {
+                @Override
+                public void run() {
+                    dao.insert(SimpleEntityNotNullHelper.createEntity(1l));
+                    throw new RuntimeException("Rollback");
+                }
+            });
+            fail("Should have thrown");
+        } catch (RuntimeException expected) {
+            // OK
+        }
+        assertEquals(0, dao.count());
+    }
+
+    /** Hides the StandardDatabase type from greenDAO. */
+    private static class DelegatingDatabase implements Database {
+        private final Database delegate;
+
+        DelegatingDatabase(Database delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Cursor rawQuery(String sql, String[] selectionArgs) {
+            return delegate.rawQuery(sql, selectionArgs);
+        }
+
+        @Override
+        public void execSQL(String sql) throws SQLException {
+            delegate.execSQL(sql);
+        }
+
+        @Override
+        public void execSQL(String sql, Object[] bindArgs) throws SQLException {
+            delegate.execSQL(sql, bindArgs);
+        }
+
+        @Override
+        public DatabaseStatement compileStatement(String sql) {
+            return delegate.compileStatement(sql);
+        }
+
+        @Override
+        public void beginTransaction() {
+            delegate.beginTransaction();
+        }
+
+        @Override
+        public void setTransactionSuccessful() {
+            delegate.setTransactionSuccessful();
+        }
+
+        @Override
+        public void endTransaction() {
+            delegate.endTransaction();
+        }
+
+        @Override
+        public boolean inTransaction() {
+            return delegate.inTransaction();
+        }
+
+        @Override
+        public boolean isDbLockedByCurrentThread() {
+            return delegate.isDbLockedByCurrentThread();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+
+        @Override
+        public Object getRawDatabase() {
+            return delegate.getRawDatabase();
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package de.greenrobot.daotest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import de.greenrobot.dao.test.AbstractDaoSessionTest;
+import de.greenrobot.daotest.SimpleEntityNotNullDao.Properties;
+import de.greenrobot.daotest.entity.SimpleEntityNotNullHelper;
+
+public class ParallelDecodingTest extends AbstractDaoSessionTest<DaoMaster, DaoSession> {
+
+    private static final int COUNT = 2000;
+
+    private SimpleEntityNotNullDao dao;
+    private ExecutorService executor;
+
+    public ParallelDecodingTest() {
+        super(DaoMaster.class);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        dao = daoSession.getSimpleEntityNotNullDao();
+        executor = Executors.newFixedThreadPool(4);
+        daoSession.setParallelDecoding(executor, 100);
+
+        List<SimpleEntityNotNull> entities = new ArrayList<SimpleEntityNotNull>(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            entities.add(SimpleEntityNotNullHelper.createEntity((long) i));
+        }
+        dao.insertInTx(entities);
+        daoSession.clear();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        executor.shutdown();
+        super.tearDown();
+    }
+
+    public void testLoadAll() {
+        List<SimpleEntityNotNull> entities = dao.queryBuilder().orderAsc(Properties.Id).list();
+        assertEquals(COUNT, entities.size());
+        for (int i = 0; i < COUNT; i++) {
+            SimpleEntityNotNull entity = entities.get(i);
+            assertEquals(i, entity.getId());
+            assertEquals(SimpleEntityNotNullHelper.createEntity((long) i).getSimpleString(), entity.getSimpleString());
+        }
+        // Entities were attached to the identity scope
+        assertSame(entities.get(42), dao.load(42l));
+    }
+
+    public void testKeepsEntitiesInIdentityScope() {
+        SimpleEntityNotNull loaded = dao.load(7l);
+        List<SimpleEntityNotNull> entities = dao.queryBuilder().orderAsc(Properties.Id).list();
+        assertSame(loaded, entities.get(7));
+    }
+
+    public void testBelowMinRows() {
+        List<SimpleEntityNotNull> entities = dao.queryBuilder().where(Properties.Id.lt(10)).list();
+        assertEquals(10, entities.size());
+    }
+
+    /** The only executor thread runs loadAll, so no other thread is left for the slices. */
+    public void testLoadAllOnExecutorThread() throws Exception {
+        ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+        try {
+            daoSession.setParallelDecoding(singleThreadExecutor, 100);
+            Future<Integer> future = singleThreadExecutor.submit(new Callable<Integer>() {
+                @Override
+                public Integer call() {
+                    return dao.loadAll().size();
+                }
+            });
+            assertEquals(COUNT, future.get(10, TimeUnit.SECONDS).intValue());
+        } finally {
+            singleThreadExecutor.shutdown();
+        }
+    }
+
+    public void testDisable() {
+        daoSession.setParallelDecoding(null, 0);
+        assertNull(daoSession.getParallelDecodingExecutor());
+        assertEquals(COUNT, dao.loadAll().size());
+    }
+
+}
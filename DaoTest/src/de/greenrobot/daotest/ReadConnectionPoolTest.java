@@ -0,0 +1,104 @@
+package de.greenrobot.daotest;
+
+import java.util.List;
+
+import android.os.Build;
+import de.greenrobot.dao.DaoException;
+import de.greenrobot.dao.DaoLog;
+import de.greenrobot.dao.ReadConnectionPool;
+import de.greenrobot.dao.test.AbstractDaoSessionTest;
+
+public class ReadConnectionPoolTest extends AbstractDaoSessionTest<DaoMaster, DaoSession> {
+
+    private ReadConnectionPool pool;
+    private TestEntityDao dao;
+
+    public ReadConnectionPoolTest() {
+        super(DaoMaster.class, false);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        if (Build.VERSION.SDK_INT >= 11) {
+            pool = daoMaster.enableReadConnectionPool(2);
+            daoSession = daoMaster.newSession();
+        } else {
+            DaoLog.e("Sorry, we need at least API level 11 for WAL");
+        }
+        dao = daoSession.getTestEntityDao();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        if (pool != null) {
+            pool.close();
+        }
+        super.tearDown();
+    }
+
+    public void testReadOnPooledConnection() {
+        if (pool == null) {
+            return;
+        }
+        assertNotSame(db, pool.getReadDatabase().getRawDatabase());
+        TestEntity entity = createEntity();
+        dao.insert(entity);
+        daoSession.clear();
+
+        TestEntity loaded = dao.load(entity.getId());
+        assertNotNull(loaded);
+        assertNotSame(entity, loaded);
+        assertEquals(1, dao.loadAll().size());
+        assertEquals(1, dao.count());
+        List<TestEntity> list = dao.queryBuilder().where(TestEntityDao.Properties.Id.eq(entity.getId())).list();
+        assertEquals(1, list.size());
+    }
+
+    public void testReadInsideTxUsesPrimary() {
+        if (pool == null) {
+            return;
+        }
+        daoSession.runInTx(new Runnable() {
+            @Override
+            public void run() {
+                assertSame(db, pool.getReadDatabase().getRawDatabase());
+                TestEntity entity = createEntity();
+                dao.insert(entity);
+                daoSession.clear();
+                // Not committed yet: only visible on the primary database
+                assertNotNull(dao.load(entity.getId()));
+                assertEquals(1, dao.queryBuilder().count());
+            }
+        });
+    }
+
+    public void testEnableTwice() {
+        if (pool == null) {
+            return;
+        }
+        try {
+            daoMaster.enableReadConnectionPool(2);
+            fail("Should have failed");
+        } catch (DaoException expected) {
+            // OK
+        }
+    }
+
+    public void testClosedPoolUsesPrimary() {
+        if (pool == null) {
+            return;
+        }
+        pool.close();
+        assertSame(db, pool.getReadDatabase().getRawDatabase());
+        dao.insert(createEntity());
+        assertEquals(1, dao.count());
+    }
+
+    protected TestEntity createEntity() {
+        TestEntity entity = new TestEntity();
+        entity.setSimpleStringNotNull("green");
+        return entity;
+    }
+
+}
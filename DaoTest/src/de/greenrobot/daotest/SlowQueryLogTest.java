@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * This file is part of greenDAO Generator.
+ * 
+ * greenDAO Generator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * greenDAO Generator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with greenDAO Generator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.greenrobot.daotest;
+
+import java.util.List;
+
+import de.greenrobot.dao.SlowQueryLog;
+import de.greenrobot.dao.SlowQueryLog.Entry;
+import de.greenrobot.dao.test.AbstractDaoSessionTest;
+
+public class SlowQueryLogTest extends AbstractDaoSessionTest<DaoMaster, DaoSession> {
+
+    private SimpleEntityDao dao;
+
+    public SlowQueryLogTest() {
+        super(DaoMaster.class);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        dao = daoSession.getSimpleEntityDao();
+        dao.insertInTx(new SimpleEntity(), new SimpleEntity());
+    }
+
+    public void testFullTableScan() {
+        SlowQueryLog log = new SlowQueryLog(0, 10);
+        daoSession.setSlowQueryLog(log);
+        dao.queryBuilder().where(SimpleEntityDao.Properties.SimpleInt.eq(42)).list();
+
+        List<Entry> entries = log.getEntries();
+        assertEquals(1, entries.size());
+        Entry entry = entries.get(0);
+        assertEquals(SimpleEntityDao.TABLENAME, entry.getTablename());
+        assertEquals("42", entry.getValues()[0]);
+        assertTrue(entry.getQueryPlan(), entry.isFullTableScan());
+        assertTrue(log.dump().contains("FULL TABLE SCAN"));
+    }
+
+    public void testPrimaryKeySearch() {
+        SlowQueryLog log = new SlowQueryLog(0, 10);
+        daoSession.setSlowQueryLog(log);
+        dao.queryBuilder().where(SimpleEntityDao.Properties.Id.eq(1)).unique();
+
+        Entry entry = log.getEntries().get(0);
+        assertFalse(entry.getQueryPlan(), entry.isFullTableScan());
+        assertEquals(1, entry.getRows());
+    }
+
+    public void testThreshold() {
+        SlowQueryLog log = new SlowQueryLog(60000, 10);
+        daoSession.setSlowQueryLog(log);
+        dao.queryBuilder().list();
+        assertTrue(log.getEntries().isEmpty());
+    }
+
+    public void testRingBuffer() {
+        SlowQueryLog log = new SlowQueryLog(0, 2);
+        daoSession.setSlowQueryLog(log);
+        dao.queryRaw("WHERE SIMPLE_INT=?", "1");
+        dao.queryRaw("WHERE SIMPLE_INT=?", "2");
+        dao.queryRaw("WHERE SIMPLE_INT=?", "3");
+
+        List<Entry> entries = log.getEntries();
+        assertEquals(2, entries.size());
+        assertEquals("2", entries.get(0).getValues()[0]);
+        assertEquals("3", entries.get(1).getValues()[0]);
+
+        log.clear();
+        assertTrue(log.getEntries().isEmpty());
+    }
+
+}
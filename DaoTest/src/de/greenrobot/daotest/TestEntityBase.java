@@ -0,0 +1,16 @@
+package de.greenrobot.daotest;
+
+/** Superclass of test entities generated in the current style, declaring the members the entity template overrides. */
+public abstract class TestEntityBase {
+
+    public static final String ENTITY_NAME = "TestEntity";
+
+    public abstract String getTableName();
+
+    public abstract String getEntityName();
+
+    public abstract Long getId();
+
+    protected abstract void setId(Long id);
+
+}
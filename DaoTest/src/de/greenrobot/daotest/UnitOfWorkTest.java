@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * This file is part of greenDAO Generator.
+ * 
+ * greenDAO Generator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * greenDAO Generator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with greenDAO Generator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.greenrobot.daotest;
+
+import de.greenrobot.dao.DaoException;
+import de.greenrobot.dao.UnitOfWork;
+import de.greenrobot.dao.test.AbstractDaoSessionTest;
+
+public class UnitOfWorkTest extends AbstractDaoSessionTest<DaoMaster, DaoSession> {
+
+    private UnitOfWork unitOfWork;
+    private SimpleEntityDao dao;
+
+    public UnitOfWorkTest() {
+        super(DaoMaster.class);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        unitOfWork = daoSession.startUnitOfWork();
+        dao = daoSession.getSimpleEntityDao();
+    }
+
+    public void testInsertDeferredUntilFlush() {
+        SimpleEntity entity = new SimpleEntity();
+        unitOfWork.insert(entity);
+        assertNull(entity.getId());
+        assertEquals(0, dao.count());
+        assertEquals(1, unitOfWork.getPendingCount());
+
+        unitOfWork.flush();
+        assertNotNull(entity.getId());
+        assertEquals(1, dao.count());
+        assertEquals(0, unitOfWork.getPendingCount());
+        assertEquals(1, unitOfWork.getFlushedCount());
+    }
+
+    public void testInsertThenDeleteEliminated() {
+        SimpleEntity entity = new SimpleEntity();
+        unitOfWork.insert(entity);
+        unitOfWork.delete(entity);
+        assertEquals(0, unitOfWork.getPendingCount());
+        assertEquals(2, unitOfWork.getEliminatedCount());
+        unitOfWork.flush();
+        assertNull(entity.getId());
+        assertEquals(0, dao.count());
+    }
+
+    public void testInsertThenUpdateMerged() {
+        SimpleEntity entity = new SimpleEntity();
+        unitOfWork.insert(entity);
+        entity.setSimpleInt(42);
+        unitOfWork.update(entity);
+        assertEquals(1, unitOfWork.getPendingCount());
+        unitOfWork.flush();
+        daoSession.clear();
+        assertEquals(42, (int) dao.load(entity.getId()).getSimpleInt());
+    }
+
+    public void testUpdateThenDelete() {
+        SimpleEntity entity = new SimpleEntity();
+        dao.insert(entity);
+        unitOfWork.update(entity);
+        unitOfWork.delete(entity);
+        assertEquals(1, unitOfWork.getPendingCount());
+        unitOfWork.flush();
+        assertEquals(0, dao.count());
+    }
+
+    public void testDeleteThenInsertReplaces() {
+        SimpleEntity entity = new SimpleEntity();
+        dao.insert(entity);
+        unitOfWork.delete(entity);
+        entity.setSimpleInt(7);
+        unitOfWork.insert(entity);
+        unitOfWork.flush();
+        daoSession.clear();
+        assertEquals(1, dao.count());
+        assertEquals(7, (int) dao.load(entity.getId()).getSimpleInt());
+    }
+
+    public void testDeleteThenInsertOtherObjectWithSameKey() {
+        SimpleEntity entity = new SimpleEntity();
+        dao.insert(entity);
+        unitOfWork.delete(entity);
+        SimpleEntity replacement = new SimpleEntity();
+        replacement.setId(entity.getId());
+        replacement.setSimpleInt(7);
+        unitOfWork.insert(replacement);
+        assertEquals(1, unitOfWork.getPendingCount());
+        unitOfWork.flush();
+        daoSession.clear();
+        assertEquals(1, dao.count());
+        assertEquals(7, (int) dao.load(entity.getId()).getSimpleInt());
+    }
+
+    public void testUpdateAfterDeleteFails() {
+        SimpleEntity entity = new SimpleEntity();
+        dao.insert(entity);
+        unitOfWork.delete(entity);
+        try {
+            unitOfWork.update(entity);
+            fail("Should have failed");
+        } catch (DaoException expected) {
+            // OK
+        }
+    }
+
+    public void testMultipleDaos() {
+        SimpleEntity entity = new SimpleEntity();
+        TestEntity testEntity = new TestEntity();
+        testEntity.setSimpleStringNotNull("green");
+        unitOfWork.insert(entity);
+        unitOfWork.insert(testEntity);
+        unitOfWork.flush();
+        assertEquals(1, dao.count());
+        assertEquals(1, daoSession.getTestEntityDao().count());
+    }
+
+    public void testDiscard() {
+        unitOfWork.insert(new SimpleEntity());
+        unitOfWork.discard();
+        unitOfWork.flush();
+        assertEquals(0, dao.count());
+    }
+
+}
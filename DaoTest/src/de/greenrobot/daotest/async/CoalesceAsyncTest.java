@@ -0,0 +1,101 @@
+package de.greenrobot.daotest.async;
+
+import java.util.concurrent.CountDownLatch;
+
+import de.greenrobot.dao.async.AsyncOperation;
+import de.greenrobot.daotest.SimpleEntity;
+
+public class CoalesceAsyncTest extends AbstractAsyncTest {
+
+    private CountDownLatch blockingLatch;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        asyncSession.setCoalesceWrites(true);
+    }
+
+    /** Keeps the executor busy so subsequently enqueued operations stay in the queue. */
+    private void blockExecutor() {
+        blockingLatch = new CountDownLatch(1);
+        asyncSession.runInTx(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    blockingLatch.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+    }
+
+    public void testUpdateAfterUpdate() {
+        SimpleEntity entity = new SimpleEntity();
+        entity.setSimpleString("initial");
+        daoSession.insert(entity);
+
+        blockExecutor();
+        entity.setSimpleString("first");
+        AsyncOperation op1 = asyncSession.update(entity);
+        SimpleEntity entity2 = new SimpleEntity();
+        entity2.setId(entity.getId());
+        entity2.setSimpleString("second");
+        AsyncOperation op2 = asyncSession.update(entity2);
+        blockingLatch.countDown();
+        assertWaitForCompletion1Sec();
+
+        assertSame(op2, op1.getCoalescedInto());
+        assertTrue(op1.isCompletedSucessfully());
+        assertTrue(op2.isCompletedSucessfully());
+        assertEquals(3, completedOperations.size());
+        daoSession.clear();
+        assertEquals("second", daoSession.getSimpleEntityDao().load(entity.getId()).getSimpleString());
+    }
+
+    public void testDeleteSupersedesUpdate() {
+        SimpleEntity entity = new SimpleEntity();
+        daoSession.insert(entity);
+
+        blockExecutor();
+        AsyncOperation op1 = asyncSession.update(entity);
+        AsyncOperation op2 = asyncSession.deleteByKey(entity.getId());
+        blockingLatch.countDown();
+        assertWaitForCompletion1Sec();
+
+        assertSame(op2, op1.getCoalescedInto());
+        assertTrue(op1.isCompleted());
+        assertNull(daoSession.getSimpleEntityDao().load(entity.getId()));
+    }
+
+    public void testQueryPreventsCoalescing() {
+        SimpleEntity entity = new SimpleEntity();
+        daoSession.insert(entity);
+
+        blockExecutor();
+        AsyncOperation op1 = asyncSession.update(entity);
+        AsyncOperation load = asyncSession.load(SimpleEntity.class, entity.getId());
+        AsyncOperation op2 = asyncSession.update(entity);
+        blockingLatch.countDown();
+        assertWaitForCompletion1Sec();
+
+        assertNull(op1.getCoalescedInto());
+        assertNull(op2.getCoalescedInto());
+        assertTrue(load.isCompletedSucessfully());
+    }
+
+    public void testCoalescingDisabled() {
+        asyncSession.setCoalesceWrites(false);
+        SimpleEntity entity = new SimpleEntity();
+        daoSession.insert(entity);
+
+        blockExecutor();
+        AsyncOperation op1 = asyncSession.update(entity);
+        asyncSession.update(entity);
+        blockingLatch.countDown();
+        assertWaitForCompletion1Sec();
+
+        assertNull(op1.getCoalescedInto());
+    }
+
+}
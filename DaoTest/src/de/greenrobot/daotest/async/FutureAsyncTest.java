@@ -0,0 +1,134 @@
+package de.greenrobot.daotest.async;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import de.greenrobot.dao.DaoException;
+import de.greenrobot.dao.async.AsyncFunction;
+import de.greenrobot.dao.async.AsyncOperation;
+import de.greenrobot.dao.async.AsyncOperationListener;
+import de.greenrobot.daotest.SimpleEntity;
+
+public class FutureAsyncTest extends AbstractAsyncTest {
+
+    public void testGet() throws Exception {
+        SimpleEntity entity = new SimpleEntity();
+        entity.setSimpleString("heho");
+        daoSession.insert(entity);
+        daoSession.clear();
+
+        AsyncOperation operation = asyncSession.load(SimpleEntity.class, entity.getId());
+        SimpleEntity result = (SimpleEntity) operation.get(1, TimeUnit.SECONDS);
+        assertTrue(operation.isDone());
+        assertFalse(operation.isCancelled());
+        assertEquals("heho", result.getSimpleString());
+    }
+
+    public void testGetException() throws Exception {
+        SimpleEntity entity = new SimpleEntity();
+        daoSession.insert(entity);
+        AsyncOperation operation = asyncSession.insert(entity);
+        try {
+            operation.get();
+            fail("get should have thrown");
+        } catch (ExecutionException expected) {
+            assertSame(operation.getThrowable(), expected.getCause());
+        }
+    }
+
+    public void testAddListener() {
+        final List<AsyncOperation> calledFor = new CopyOnWriteArrayList<AsyncOperation>();
+        AsyncOperationListener listener = new AsyncOperationListener() {
+            @Override
+            public void onAsyncOperationCompleted(AsyncOperation operation) {
+                calledFor.add(operation);
+            }
+        };
+        AsyncOperation operation1 = asyncSession.insert(new SimpleEntity()).addListener(listener);
+        AsyncOperation operation2 = asyncSession.insert(new SimpleEntity());
+        assertWaitForCompletion1Sec();
+        assertEquals(1, calledFor.size());
+        assertSame(operation1, calledFor.get(0));
+
+        // Already completed: called immediately
+        operation2.addListener(listener);
+        assertEquals(2, calledFor.size());
+        assertSame(operation2, calledFor.get(1));
+    }
+
+    public void testThenApply() throws Exception {
+        daoSession.insert(new SimpleEntity());
+        daoSession.insert(new SimpleEntity());
+        AsyncOperation operation = asyncSession.count(SimpleEntity.class).thenApply(new AsyncFunction<Long>() {
+            @Override
+            public Long apply(Object result) {
+                return (Long) result * 10;
+            }
+        });
+        assertEquals(20l, operation.get(1, TimeUnit.SECONDS));
+        assertEquals(AsyncOperation.OperationType.Continuation, operation.getType());
+    }
+
+    public void testThenApplyFailurePropagates() throws Exception {
+        SimpleEntity entity = new SimpleEntity();
+        daoSession.insert(entity);
+        // An assertion failing on the executor thread would only fail the operation, so record the call instead
+        final AtomicBoolean applied = new AtomicBoolean();
+        AsyncOperation operation = asyncSession.insert(entity).thenApply(new AsyncFunction<Object>() {
+            @Override
+            public Object apply(Object result) {
+                applied.set(true);
+                return null;
+            }
+        });
+        assertTrue(operation.waitForCompletion(1000));
+        assertTrue(operation.isFailed());
+        assertFalse("Must not be called for failed operations", applied.get());
+    }
+
+    public void testThenApplyFunctionThrows() {
+        AsyncOperation operation = asyncSession.count(SimpleEntity.class).thenApply(new AsyncFunction<Object>() {
+            @Override
+            public Object apply(Object result) {
+                throw new DaoException("Boom");
+            }
+        });
+        assertTrue(operation.waitForCompletion(1000));
+        assertEquals("Boom", operation.getThrowable().getMessage());
+    }
+
+    public void testThenComposePipeline() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            SimpleEntity entity = new SimpleEntity();
+            entity.setSimpleString("old");
+            daoSession.insert(entity);
+        }
+        AsyncOperation operation = asyncSession.loadAll(SimpleEntity.class).thenCompose(
+                new AsyncFunction<AsyncOperation>() {
+                    @Override
+                    public AsyncOperation apply(Object result) {
+                        @SuppressWarnings("unchecked")
+                        List<SimpleEntity> entities = (List<SimpleEntity>) result;
+                        for (SimpleEntity entity : entities) {
+                            entity.setSimpleString("new");
+                        }
+                        return asyncSession.updateInTx(SimpleEntity.class, entities);
+                    }
+                }).thenCompose(new AsyncFunction<AsyncOperation>() {
+            @Override
+            public AsyncOperation apply(Object result) {
+                return asyncSession.count(SimpleEntity.class);
+            }
+        });
+        assertEquals(3l, operation.get(1, TimeUnit.SECONDS));
+
+        daoSession.clear();
+        for (SimpleEntity entity : daoSession.loadAll(SimpleEntity.class)) {
+            assertEquals("new", entity.getSimpleString());
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+package de.greenrobot.daotest.async;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import de.greenrobot.dao.DaoException;
+import de.greenrobot.dao.async.AsyncOperation;
+import de.greenrobot.dao.async.AsyncSession;
+import de.greenrobot.daotest.SimpleEntity;
+
+public class LifecycleAsyncTest extends AbstractAsyncTest {
+
+    private ExecutorService executorService;
+    private volatile Thread executorThread;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        executorService = Executors.newFixedThreadPool(2, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                executorThread = new Thread(runnable, "test-executor");
+                return executorThread;
+            }
+        });
+        asyncSession = daoSession.startAsyncSession(executorService);
+        asyncSession.setListener(this);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        executorService.shutdownNow();
+        super.tearDown();
+    }
+
+    public void testCustomExecutor() {
+        final Thread[] txThread = new Thread[1];
+        asyncSession.runInTx(new Runnable() {
+            @Override
+            public void run() {
+                txThread[0] = Thread.currentThread();
+            }
+        });
+        assertWaitForCompletion1Sec();
+        assertSame(executorThread, txThread[0]);
+    }
+
+    public void testShutdown() {
+        AsyncOperation operation = asyncSession.insert(new SimpleEntity());
+        asyncSession.shutdown();
+        assertTrue(asyncSession.isShutdown());
+        try {
+            asyncSession.insert(new SimpleEntity());
+            fail("Shut down sessions must not accept operations");
+        } catch (DaoException expected) {
+            // OK
+        }
+        assertWaitForCompletion1Sec();
+        assertTrue(operation.isCompletedSucessfully());
+    }
+
+    public void testDrain() {
+        for (int i = 0; i < 10; i++) {
+            asyncSession.insert(new SimpleEntity());
+        }
+        assertTrue(asyncSession.drain(1000));
+        assertEquals(10, daoSession.getSimpleEntityDao().count());
+    }
+
+    public void testShutdownNow() throws InterruptedException {
+        final CountDownLatch startedLatch = new CountDownLatch(1);
+        final CountDownLatch blockingLatch = new CountDownLatch(1);
+        asyncSession.runInTx(new Runnable() {
+            @Override
+            public void run() {
+                startedLatch.countDown();
+                try {
+                    blockingLatch.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+        assertTrue(startedLatch.await(1, TimeUnit.SECONDS));
+        AsyncOperation queued = asyncSession.insert(new SimpleEntity());
+
+        List<AsyncOperation> removed = asyncSession.shutdownNow();
+        assertEquals(1, removed.size());
+        assertSame(queued, removed.get(0));
+        assertTrue(queued.isFailed());
+
+        blockingLatch.countDown();
+        assertWaitForCompletion1Sec();
+        assertEquals(0, daoSession.getSimpleEntityDao().count());
+    }
+
+    public void testIdleTimeout() throws InterruptedException {
+        AsyncSession asyncSession2 = daoSession.startAsyncSession(executorService);
+        asyncSession2.setIdleTimeoutMillis(0);
+        asyncSession.setIdleTimeoutMillis(0);
+        // With a pool of 2 threads, both sessions can only proceed if the threads are returned when idle
+        for (int i = 0; i < 3; i++) {
+            asyncSession.insert(new SimpleEntity());
+            assertWaitForCompletion1Sec();
+            asyncSession2.insert(new SimpleEntity());
+            assertTrue(asyncSession2.waitForCompletion(1000));
+        }
+        AsyncSession asyncSession3 = daoSession.startAsyncSession(executorService);
+        asyncSession3.insert(new SimpleEntity());
+        assertTrue(asyncSession3.waitForCompletion(1000));
+        assertEquals(7, daoSession.getSimpleEntityDao().count());
+    }
+
+}
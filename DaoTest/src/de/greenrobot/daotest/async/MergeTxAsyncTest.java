@@ -1,6 +1,7 @@
 package de.greenrobot.daotest.async;
 
 import de.greenrobot.dao.async.AsyncOperation;
+import de.greenrobot.dao.async.MergedBatchHistogram;
 import de.greenrobot.daotest.SimpleEntity;
 
 public class MergeTxAsyncTest extends AbstractAsyncTest {
@@ -27,4 +28,40 @@ public class MergeTxAsyncTest extends AbstractAsyncTest {
         assertEquals(2, op2.getMergedOperationsCount());
     }
 
+    public void testMergedBatchHistogram() {
+        for (int i = 0; i < 3; i++) {
+            asyncSession.insert(new SimpleEntity(), AsyncOperation.FLAG_MERGE_TX);
+        }
+        assertWaitForCompletion1Sec();
+
+        MergedBatchHistogram histogram = asyncSession.getMergedBatchHistogram();
+        assertEquals(3, histogram.getOperationCount());
+        long[] counts = histogram.getCounts();
+        // 3 operations were merged into a single TX (bucket 2..3)
+        assertEquals(1, counts[1]);
+        assertEquals(1, histogram.getBatchCount());
+        assertTrue(asyncSession.getAverageOperationMillis() > 0);
+    }
+
+    public void testAdaptiveMergingLimitsTxSize() {
+        asyncSession.setAdaptiveMerging(true);
+        asyncSession.setMergeTargetMillis(0);
+        for (int i = 0; i < 10; i++) {
+            asyncSession.insert(new SimpleEntity(), AsyncOperation.FLAG_MERGE_TX);
+        }
+        assertWaitForCompletion1Sec();
+        for (int i = 0; i < 10; i++) {
+            asyncSession.insert(new SimpleEntity(), AsyncOperation.FLAG_MERGE_TX);
+        }
+        assertWaitForCompletion1Sec();
+
+        // After the first TX, the target of 0 ms limits merged TXs to the minimum of 2 operations
+        assertEquals(20, daoSession.getSimpleEntityDao().count());
+        MergedBatchHistogram histogram = asyncSession.getMergedBatchHistogram();
+        long[] counts = histogram.getCounts();
+        for (int i = 2; i < counts.length; i++) {
+            assertTrue(counts[i] <= 1);
+        }
+    }
+
 }
@@ -0,0 +1,89 @@
+package de.greenrobot.daotest.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import android.os.SystemClock;
+
+import de.greenrobot.dao.async.AsyncOperation;
+import de.greenrobot.dao.query.Query;
+import de.greenrobot.daotest.SimpleEntity;
+import de.greenrobot.daotest.SimpleEntityDao;
+
+public class ParallelReadAsyncTest extends AbstractAsyncTest {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        asyncSession.setParallelReads(4);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        asyncSession.setParallelReads(0);
+        super.tearDown();
+    }
+
+    public void testReadAfterWrite() {
+        List<AsyncOperation> counts = new ArrayList<AsyncOperation>();
+        for (int i = 0; i < 10; i++) {
+            asyncSession.insert(new SimpleEntity());
+            counts.add(asyncSession.count(SimpleEntity.class));
+        }
+        assertWaitForCompletion1Sec();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Long.valueOf(i + 1), counts.get(i).getResult());
+        }
+        assertEquals(20, completedOperations.size());
+    }
+
+    public void testWriteAfterRead() {
+        daoSession.insert(new SimpleEntity());
+        AsyncOperation count = asyncSession.count(SimpleEntity.class);
+        asyncSession.deleteAll(SimpleEntity.class);
+        assertWaitForCompletion1Sec();
+        assertEquals(1l, count.getResult());
+        assertEquals(0, daoSession.getSimpleEntityDao().count());
+    }
+
+    /** Writes wait until all preceding reads completed, so a slow read delays the writes enqueued after it. */
+    public void testSlowReadBlocksWrite() {
+        ThreadPoolExecutor slowPool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>()) {
+            @Override
+            protected void beforeExecute(Thread thread, Runnable runnable) {
+                SystemClock.sleep(200);
+            }
+        };
+        try {
+            asyncSession.setReadExecutor(slowPool);
+            long start = SystemClock.uptimeMillis();
+            AsyncOperation count = asyncSession.count(SimpleEntity.class);
+            AsyncOperation insert = asyncSession.insert(new SimpleEntity());
+            assertWaitForCompletion1Sec();
+            assertTrue(SystemClock.uptimeMillis() - start >= 200);
+            assertEquals(0l, count.getResult());
+            assertTrue(insert.getTimeStarted() >= count.getTimeCompleted());
+        } finally {
+            asyncSession.setReadExecutor(null);
+            slowPool.shutdown();
+        }
+    }
+
+    public void testQueryWithParameters() {
+        SimpleEntity entity = new SimpleEntity();
+        entity.setSimpleString("findMe");
+        daoSession.insert(entity);
+
+        Query<SimpleEntity> query = daoSession.getSimpleEntityDao().queryBuilder()
+                .where(SimpleEntityDao.Properties.SimpleString.eq(null)).build();
+        query.setParameter(0, "findMe");
+        AsyncOperation operation = asyncSession.queryUnique(query);
+        assertWaitForCompletion1Sec();
+        assertEquals(entity.getId(), ((SimpleEntity) operation.getResult()).getId());
+    }
+
+}
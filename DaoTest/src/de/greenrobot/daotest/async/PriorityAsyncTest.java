@@ -0,0 +1,103 @@
+package de.greenrobot.daotest.async;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import de.greenrobot.dao.DaoException;
+import de.greenrobot.dao.async.AsyncOperation;
+import de.greenrobot.dao.async.AsyncQueueMetrics;
+import de.greenrobot.dao.async.AsyncSession.OverflowPolicy;
+import de.greenrobot.daotest.SimpleEntity;
+
+public class PriorityAsyncTest extends AbstractAsyncTest {
+
+    private CountDownLatch blockingLatch;
+
+    /** Keeps the executor busy (after it took the blocking operation from the queue). */
+    private void blockExecutor() throws InterruptedException {
+        blockingLatch = new CountDownLatch(1);
+        final CountDownLatch startedLatch = new CountDownLatch(1);
+        asyncSession.runInTx(new Runnable() {
+            @Override
+            public void run() {
+                startedLatch.countDown();
+                try {
+                    blockingLatch.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+        assertTrue(startedLatch.await(1, TimeUnit.SECONDS));
+    }
+
+    public void testInteractiveBeforeBackground() throws InterruptedException {
+        blockExecutor();
+        AsyncOperation backgroundOp = asyncSession.insert(new SimpleEntity(), AsyncOperation.FLAG_BACKGROUND);
+        AsyncOperation interactiveOp = asyncSession.count(SimpleEntity.class);
+        blockingLatch.countDown();
+        assertWaitForCompletion1Sec();
+
+        assertEquals(3, completedOperations.size());
+        assertSame(interactiveOp, completedOperations.get(1));
+        assertSame(backgroundOp, completedOperations.get(2));
+        assertEquals(0l, interactiveOp.getResult());
+
+        AsyncQueueMetrics metrics = asyncSession.getQueueMetrics();
+        assertEquals(0, metrics.getDepth());
+        assertEquals(2, metrics.getMaxDepth());
+        assertEquals(1, metrics.getDequeuedBackgroundCount());
+    }
+
+    public void testOverflowFail() throws InterruptedException {
+        asyncSession.setQueueCapacity(2);
+        asyncSession.setOverflowPolicy(OverflowPolicy.FAIL);
+        blockExecutor();
+        asyncSession.insert(new SimpleEntity());
+        asyncSession.insert(new SimpleEntity());
+        try {
+            asyncSession.insert(new SimpleEntity());
+            fail("Queue should be full");
+        } catch (DaoException expected) {
+            // OK
+        }
+        blockingLatch.countDown();
+        assertWaitForCompletion1Sec();
+        assertEquals(2, daoSession.getSimpleEntityDao().count());
+        assertEquals(1, asyncSession.getQueueMetrics().getRejectedCount());
+    }
+
+    public void testOverflowDropOldestBackground() throws InterruptedException {
+        asyncSession.setQueueCapacity(2);
+        asyncSession.setOverflowPolicy(OverflowPolicy.DROP_OLDEST_BACKGROUND);
+        blockExecutor();
+        AsyncOperation dropped = asyncSession.insert(new SimpleEntity(), AsyncOperation.FLAG_BACKGROUND);
+        AsyncOperation backgroundOp = asyncSession.insert(new SimpleEntity(), AsyncOperation.FLAG_BACKGROUND);
+        AsyncOperation interactiveOp = asyncSession.insert(new SimpleEntity());
+        assertTrue(dropped.isCompleted());
+        assertTrue(dropped.isFailed());
+
+        blockingLatch.countDown();
+        assertWaitForCompletion1Sec();
+        assertTrue(backgroundOp.isCompletedSucessfully());
+        assertTrue(interactiveOp.isCompletedSucessfully());
+        assertEquals(2, daoSession.getSimpleEntityDao().count());
+        assertEquals(1, asyncSession.getQueueMetrics().getDroppedCount());
+    }
+
+    public void testOverflowBlockEnqueueFromExecutor() {
+        asyncSession.setQueueCapacity(1);
+        asyncSession.setOverflowPolicy(OverflowPolicy.BLOCK);
+        asyncSession.runInTx(new Runnable() {
+            @Override
+            public void run() {
+                // Runs on the executor, which would never make space in the queue while blocked here
+                asyncSession.insert(new SimpleEntity());
+                asyncSession.insert(new SimpleEntity());
+            }
+        });
+        assertWaitForCompletion1Sec();
+        assertEquals(2, daoSession.getSimpleEntityDao().count());
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * This file is part of greenDAO Generator.
+ * 
+ * greenDAO Generator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * greenDAO Generator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with greenDAO Generator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.greenrobot.daotest.entity;
+
+import de.greenrobot.dao.test.AbstractDaoTestLongPk;
+import de.greenrobot.daotest.PrimitiveNullEntity;
+import de.greenrobot.daotest.PrimitiveNullEntityDao;
+
+public class PrimitiveNullEntityTest extends AbstractDaoTestLongPk<PrimitiveNullEntityDao, PrimitiveNullEntity> {
+
+    public PrimitiveNullEntityTest() {
+        super(PrimitiveNullEntityDao.class);
+    }
+
+    @Override
+    protected PrimitiveNullEntity createEntity(Long key) {
+        return new PrimitiveNullEntity(key);
+    }
+
+    public void testValuesNull() {
+        PrimitiveNullEntity entity = createEntity(1l);
+        assertValuesNull(entity);
+        dao.insert(entity);
+        PrimitiveNullEntity reloaded = dao.load(1l);
+        assertNotSame(entity, reloaded);
+        assertValuesNull(reloaded);
+    }
+
+    public void testValues() {
+        PrimitiveNullEntity entity = createEntity(1l);
+        setValues(entity);
+        dao.insert(entity);
+        PrimitiveNullEntity reloaded = dao.load(1l);
+        assertNotSame(entity, reloaded);
+        assertValues(reloaded);
+    }
+
+    public void testZeroValuesAreNotNull() {
+        PrimitiveNullEntity entity = createEntity(1l);
+        entity.setSimpleBoolean(false);
+        entity.setSimpleByte((byte) 0);
+        entity.setSimpleShort((short) 0);
+        entity.setSimpleInt(0);
+        entity.setSimpleLong(0);
+        entity.setSimpleFloat(0);
+        entity.setSimpleDouble(0);
+        dao.insert(entity);
+
+        PrimitiveNullEntity reloaded = dao.load(1l);
+        assertFalse(reloaded.isSimpleBooleanNull());
+        assertFalse(reloaded.isSimpleByteNull());
+        assertFalse(reloaded.isSimpleShortNull());
+        assertFalse(reloaded.isSimpleIntNull());
+        assertFalse(reloaded.isSimpleLongNull());
+        assertFalse(reloaded.isSimpleFloatNull());
+        assertFalse(reloaded.isSimpleDoubleNull());
+        assertEquals(1, dao.queryBuilder().where(PrimitiveNullEntity.Properties.SimpleInt.eq(0)).count());
+    }
+
+    public void testUpdateValuesToNull() {
+        PrimitiveNullEntity entity = createEntity(1l);
+        setValues(entity);
+        dao.insert(entity);
+
+        entity.setSimpleBooleanNull();
+        entity.setSimpleByteNull();
+        entity.setSimpleShortNull();
+        entity.setSimpleIntNull();
+        entity.setSimpleLongNull();
+        entity.setSimpleFloatNull();
+        entity.setSimpleDoubleNull();
+        entity.simpleString = null;
+        assertValuesNull(entity);
+        dao.update(entity);
+
+        PrimitiveNullEntity reloaded = dao.load(1l);
+        assertValuesNull(reloaded);
+        assertEquals(1, dao.queryBuilder().where(PrimitiveNullEntity.Properties.SimpleInt.isNull()).count());
+    }
+
+    public void testUpdateValuesFromNull() {
+        PrimitiveNullEntity entity = createEntity(1l);
+        dao.insert(entity);
+        setValues(entity);
+        dao.update(entity);
+
+        PrimitiveNullEntity reloaded = dao.load(1l);
+        assertValues(reloaded);
+    }
+
+    public void testRefreshToNull() {
+        PrimitiveNullEntity entity = createEntity(1l);
+        dao.insert(entity);
+        setValues(entity);
+        dao.refresh(entity);
+        assertValuesNull(entity);
+    }
+
+    protected void setValues(PrimitiveNullEntity entity) {
+        entity.setSimpleBoolean(true);
+        entity.setSimpleByte(Byte.MAX_VALUE);
+        entity.setSimpleShort(Short.MAX_VALUE);
+        entity.setSimpleInt(Integer.MAX_VALUE);
+        entity.setSimpleLong(Long.MAX_VALUE);
+        entity.setSimpleFloat(Float.MAX_VALUE);
+        entity.setSimpleDouble(Double.MAX_VALUE);
+        entity.simpleString = "greenrobot greenDAO";
+    }
+
+    protected void assertValues(PrimitiveNullEntity entity) {
+        assertEquals(1l, (long) entity.getId());
+        assertFalse(entity.isSimpleBooleanNull());
+        assertTrue(entity.getSimpleBoolean());
+        assertFalse(entity.isSimpleByteNull());
+        assertEquals(Byte.MAX_VALUE, entity.getSimpleByte());
+        assertFalse(entity.isSimpleShortNull());
+        assertEquals(Short.MAX_VALUE, entity.getSimpleShort());
+        assertFalse(entity.isSimpleIntNull());
+        assertEquals(Integer.MAX_VALUE, entity.getSimpleInt());
+        assertFalse(entity.isSimpleLongNull());
+        assertEquals(Long.MAX_VALUE, entity.getSimpleLong());
+        assertFalse(entity.isSimpleFloatNull());
+        assertEquals(Float.MAX_VALUE, entity.getSimpleFloat());
+        assertFalse(entity.isSimpleDoubleNull());
+        assertEquals(Double.MAX_VALUE, entity.getSimpleDouble());
+        assertEquals("greenrobot greenDAO", entity.simpleString);
+    }
+
+    protected void assertValuesNull(PrimitiveNullEntity entity) {
+        assertTrue(entity.isSimpleBooleanNull());
+        assertFalse(entity.getSimpleBoolean());
+        assertTrue(entity.isSimpleByteNull());
+        assertEquals(0, entity.getSimpleByte());
+        assertTrue(entity.isSimpleShortNull());
+        assertEquals(0, entity.getSimpleShort());
+        assertTrue(entity.isSimpleIntNull());
+        assertEquals(0, entity.getSimpleInt());
+        assertTrue(entity.isSimpleLongNull());
+        assertEquals(0, entity.getSimpleLong());
+        assertTrue(entity.isSimpleFloatNull());
+        assertEquals(0f, entity.getSimpleFloat());
+        assertTrue(entity.isSimpleDoubleNull());
+        assertEquals(0d, entity.getSimpleDouble());
+        assertNull(entity.simpleString);
+    }
+
+}
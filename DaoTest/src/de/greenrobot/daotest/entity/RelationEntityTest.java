@@ -19,7 +19,11 @@ package de.greenrobot.daotest.entity;
 
 import java.util.List;
 
+import de.greenrobot.dao.DaoException;
 import de.greenrobot.dao.identityscope.IdentityScopeType;
+import de.greenrobot.dao.query.LazyList;
+import de.greenrobot.dao.query.Query;
+import de.greenrobot.dao.query.QueryBuilder;
 import de.greenrobot.dao.test.AbstractDaoTestLongPk;
 import de.greenrobot.daotest.DaoMaster;
 import de.greenrobot.daotest.DaoSession;
@@ -167,6 +171,82 @@ public class RelationEntityTest extends AbstractDaoTestLongPk<RelationEntityDao,
         assertTestEntity(entityList.get(0));
     }
 
+    public void testBuildDeep() {
+        insertEntityWithRelations(42l);
+        insertEntityWithRelations(43l);
+        Query<RelationEntity> query = dao.queryBuilder().where(RelationEntityDao.Properties.SimpleString.eq("findMe"))
+                .orderDesc(RelationEntityDao.Relations.TestEntity.target(TestEntityDao.Properties.Id)).buildDeep();
+        assertTrue(query.isDeep());
+
+        List<RelationEntity> entityList = query.list();
+        assertEquals(2, entityList.size());
+        assertEquals(43l, (long) entityList.get(0).getTestEntity().getId());
+        assertEquals(42l, (long) entityList.get(1).getTestEntity().getId());
+        assertEquals("I'm a parent", entityList.get(0).getParent().getSimpleString());
+    }
+
+    public void testBuildDeepLimitOffset() {
+        insertEntityWithRelations(42l);
+        insertEntityWithRelations(43l);
+        QueryBuilder<RelationEntity> queryBuilder = dao.queryBuilder();
+        queryBuilder.where(RelationEntityDao.Properties.SimpleString.eq("findMe"));
+        queryBuilder.orderAsc(RelationEntityDao.Relations.TestEntity.target(TestEntityDao.Properties.Id));
+        Query<RelationEntity> query = queryBuilder.limit(1).offset(1).buildDeep();
+
+        RelationEntity entity = query.unique();
+        assertEquals(43l, (long) entity.getTestEntity().getId());
+        assertEquals(entity.getParentId(), entity.getParent().getId());
+    }
+
+    public void testBuildDeepLazyList() {
+        insertEntityWithRelations(42l);
+        Query<RelationEntity> query = dao.queryBuilder()
+                .where(RelationEntityDao.Properties.SimpleString.eq("findMe")).buildDeep();
+        LazyList<RelationEntity> lazyList = query.listLazyUncached();
+        try {
+            assertEquals(1, lazyList.size());
+            assertTestEntity(lazyList.get(0));
+        } finally {
+            lazyList.close();
+        }
+    }
+
+    public void testBuildDeepWithoutToOneRelations() {
+        try {
+            daoSession.getTestEntityDao().queryBuilder().buildDeep();
+            fail("Entities without to-one relations cannot be loaded deep");
+        } catch (DaoException expected) {
+            // OK
+        }
+    }
+
+    public void testResolveToOne() {
+        insertEntityWithRelations(42l);
+        insertEntityWithRelations(43l);
+        List<RelationEntity> entityList = dao.queryRaw("WHERE T." + RelationEntityDao.Properties.SimpleString.columnName
+                + "=?", "findMe");
+        assertEquals(2, entityList.size());
+
+        dao.resolveToOne(entityList, RelationEntityDao.Relations.TestEntity);
+        dao.resolveToOne(entityList, RelationEntityDao.Relations.Parent);
+        for (RelationEntity entity : entityList) {
+            assertEquals("I'm a parent", entity.getParent().getSimpleString());
+            assertEquals(entity.getTestId(), entity.getTestEntity().getId());
+        }
+        assertEquals(42l, (long) entityList.get(0).getTestEntity().getId());
+        assertEquals(43l, (long) entityList.get(1).getTestEntity().getId());
+    }
+
+    public void testResolveToOneNullKey() {
+        RelationEntity entity = insertEntityWithRelations(42l);
+        entity.setTestId(null);
+        dao.update(entity);
+        List<RelationEntity> entityList = dao.queryRaw("WHERE T._id=?", entity.getId().toString());
+
+        dao.resolveToOne(entityList, RelationEntityDao.Relations.TestEntity);
+        assertNull(entityList.get(0).getTestEntity());
+    }
+
     protected RelationEntity insertEntityWithRelations(Long testEntityId) {
         TestEntity testEntity = daoSession.getTestEntityDao().load(testEntityId);
         if (testEntity == null) {
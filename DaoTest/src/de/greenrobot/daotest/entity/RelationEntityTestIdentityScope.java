@@ -22,6 +22,7 @@ import java.util.List;
 import de.greenrobot.dao.identityscope.IdentityScopeType;
 import de.greenrobot.daotest.RelationEntity;
 import de.greenrobot.daotest.RelationEntityDao;
+import de.greenrobot.daotest.TestEntity;
 
 /**
  * @author Markus
@@ -81,4 +82,17 @@ public class RelationEntityTestIdentityScope extends RelationEntityTest {
         assertTestEntity(entity);
     }
 
+    public void testResolveToOneIdentityScope() {
+        RelationEntity entity = insertEntityWithRelations(42l);
+        TestEntity testEntity = daoSession.getTestEntityDao().load(42l);
+        insertEntityWithRelations(42l);
+        List<RelationEntity> entityList = dao.loadAll();
+
+        dao.resolveToOne(entityList, RelationEntityDao.Relations.TestNotNull);
+        for (RelationEntity relationEntity : entityList) {
+            assertSame(testEntity, relationEntity.getTestNotNull());
+        }
+        assertSame(entity, dao.load(entity.getId()));
+    }
+
 }
@@ -0,0 +1,75 @@
+package de.greenrobot.daotest.performance;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import de.greenrobot.dao.DaoLog;
+import de.greenrobot.dao.async.AsyncSession;
+import de.greenrobot.dao.test.AbstractDaoSessionTest;
+import de.greenrobot.daotest.DaoMaster;
+import de.greenrobot.daotest.DaoSession;
+import de.greenrobot.daotest.SimpleEntity;
+
+/**
+ * Measures async throughput of several concurrent AsyncSessions sharing the default pool or a bounded pool. Runs a
+ * small number of operations by default; for JVM measurements, see AsyncSessionBenchmark in DaoBenchmark.
+ */
+public class AsyncPerformanceTest extends AbstractDaoSessionTest<DaoMaster, DaoSession> {
+
+    public AsyncPerformanceTest() {
+        super(DaoMaster.class);
+    }
+
+    public void testAsyncThroughput() throws Exception {
+        runTests(100);
+        // runTests(10000);
+        DaoLog.d("testAsyncThroughput DONE");
+    }
+
+    protected void runTests(int operationCount) {
+        DaoLog.d("####################");
+        DaoLog.d(getClass().getSimpleName() + ": " + operationCount + " operations on " + new Date());
+        DaoLog.d("####################");
+        int[] sessionCounts = { 1, 4, 16 };
+        for (int sessionCount : sessionCounts) {
+            runThroughput(sessionCount, operationCount, null, "default pool");
+
+            ExecutorService boundedPool = Executors.newFixedThreadPool(4);
+            try {
+                runThroughput(sessionCount, operationCount, boundedPool, "bounded pool (4 threads)");
+            } finally {
+                boundedPool.shutdown();
+            }
+        }
+    }
+
+    protected void runThroughput(int sessionCount, int operationCount, ExecutorService executor, String info) {
+        daoSession.getSimpleEntityDao().deleteAll();
+        List<AsyncSession> sessions = new ArrayList<AsyncSession>(sessionCount);
+        for (int i = 0; i < sessionCount; i++) {
+            AsyncSession session = executor != null ? daoSession.startAsyncSession(executor) : daoSession
+                    .startAsyncSession();
+            session.setIdleTimeoutMillis(0);
+            sessions.add(session);
+        }
+        System.gc();
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < operationCount; i++) {
+            sessions.get(i % sessionCount).insert(new SimpleEntity());
+        }
+        for (AsyncSession session : sessions) {
+            session.drain(60000);
+        }
+        long time = System.currentTimeMillis() - start;
+
+        long opsPerSecond = time > 0 ? operationCount * 1000l / time : -1;
+        DaoLog.d(sessionCount + " sessions, " + info + ": " + operationCount + " inserts in " + time + "ms ("
+                + opsPerSecond + " ops/s)");
+        assertEquals(operationCount, daoSession.getSimpleEntityDao().count());
+    }
+
+}
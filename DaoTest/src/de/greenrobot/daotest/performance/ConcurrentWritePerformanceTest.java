@@ -0,0 +1,107 @@
+package de.greenrobot.daotest.performance;
+
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+
+import de.greenrobot.dao.DaoLog;
+import de.greenrobot.dao.test.AbstractDaoSessionTest;
+import de.greenrobot.daotest.DaoMaster;
+import de.greenrobot.daotest.DaoSession;
+import de.greenrobot.daotest.TestEntity;
+import de.greenrobot.daotest.TestEntityDao;
+
+/**
+ * Measures write throughput of several threads writing to the same DAO concurrently (like DaoSessionConcurrentTest, but
+ * without waiting for a TX). Writers take statements from a pool instead of synchronizing on a single statement. Runs
+ * a small number of entities by default; for JVM measurements, see ConcurrentWriteBenchmark in DaoBenchmark.
+ */
+public class ConcurrentWritePerformanceTest extends AbstractDaoSessionTest<DaoMaster, DaoSession> {
+
+    private TestEntityDao dao;
+
+    public ConcurrentWritePerformanceTest() {
+        super(DaoMaster.class);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        dao = daoSession.getTestEntityDao();
+    }
+
+    public void testConcurrentWriteThroughput() throws Exception {
+        runTests(100);
+        // runTests(10000);
+        DaoLog.d("testConcurrentWriteThroughput DONE");
+    }
+
+    protected void runTests(int entityCount) throws InterruptedException {
+        DaoLog.d("####################");
+        DaoLog.d(getClass().getSimpleName() + ": " + entityCount + " entities on " + new Date());
+        DaoLog.d("####################");
+        int[] threadCounts = { 1, 2, 4, 8 };
+        for (int threadCount : threadCounts) {
+            runThroughput(threadCount, entityCount, false);
+            runThroughput(threadCount, entityCount, true);
+        }
+    }
+
+    protected void runThroughput(final int threadCount, int entityCount, final boolean update)
+            throws InterruptedException {
+        dao.deleteAll();
+        final int perThread = entityCount / threadCount;
+        final TestEntity[][] entities = new TestEntity[threadCount][perThread];
+        for (int t = 0; t < threadCount; t++) {
+            for (int i = 0; i < perThread; i++) {
+                entities[t][i] = createEntity();
+            }
+            if (update) {
+                dao.insertInTx(entities[t]);
+            }
+        }
+        final CountDownLatch latchStart = new CountDownLatch(1);
+        final CountDownLatch latchDone = new CountDownLatch(threadCount);
+        for (int t = 0; t < threadCount; t++) {
+            final TestEntity[] threadEntities = entities[t];
+            new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        latchStart.await();
+                        for (TestEntity entity : threadEntities) {
+                            if (update) {
+                                entity.setSimpleInt(entity.getSimpleInt() + 1);
+                                dao.update(entity);
+                            } else {
+                                dao.insert(entity);
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    } finally {
+                        latchDone.countDown();
+                    }
+                }
+            }.start();
+        }
+        System.gc();
+
+        long start = System.currentTimeMillis();
+        latchStart.countDown();
+        latchDone.await();
+        long time = System.currentTimeMillis() - start;
+
+        int total = perThread * threadCount;
+        long opsPerSecond = time > 0 ? total * 1000l / time : -1;
+        DaoLog.d(threadCount + " threads, " + (update ? "update" : "insert") + ": " + total + " entities in " + time
+                + "ms (" + opsPerSecond + " ops/s)");
+        assertEquals(total, dao.count());
+    }
+
+    protected TestEntity createEntity() {
+        TestEntity entity = new TestEntity();
+        entity.setSimpleStringNotNull("green");
+        return entity;
+    }
+
+}
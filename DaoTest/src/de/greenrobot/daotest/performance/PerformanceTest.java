@@ -133,6 +133,14 @@ public abstract class PerformanceTest<D extends AbstractDao<T, K>, T, K> extends
         startClock("update");
         dao.updateInTx(list);
         stopClock(list.size() + " entities");
+
+        startClock("insert-or-replace-existing");
+        dao.insertOrReplaceInTx(list);
+        stopClock(list.size() + " entities");
+
+        startClock("upsert-existing");
+        dao.upsertInTx(list);
+        stopClock(list.size() + " entities");
     }
 
     protected List<T> runLoadAll(String traceName) {
@@ -0,0 +1,129 @@
+package de.greenrobot.daotest.performance;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import android.os.Build;
+import de.greenrobot.dao.DaoLog;
+import de.greenrobot.dao.ReadConnectionPool;
+import de.greenrobot.dao.query.Query;
+import de.greenrobot.dao.test.AbstractDaoSessionTest;
+import de.greenrobot.daotest.DaoMaster;
+import de.greenrobot.daotest.DaoSession;
+import de.greenrobot.daotest.TestEntity;
+import de.greenrobot.daotest.TestEntityDao;
+
+/**
+ * Measures mixed read/write throughput: one thread writes batches while reader threads run queries. Compares the
+ * single connection mode with WAL and a read connection pool. Runs a small number of batches by default. WAL and the
+ * pool need Android's SQLiteDatabase, so unlike other measurements this one has no JMH counterpart in DaoBenchmark.
+ */
+public class ReadWritePerformanceTest extends AbstractDaoSessionTest<DaoMaster, DaoSession> {
+
+    private static final int BATCH_SIZE = 100;
+
+    public ReadWritePerformanceTest() {
+        super(DaoMaster.class, false);
+    }
+
+    public void testReadWriteThroughput() throws Exception {
+        runTests(10);
+        // runTests(1000);
+        DaoLog.d("testReadWriteThroughput DONE");
+    }
+
+    protected void runTests(int batchCount) throws InterruptedException {
+        DaoLog.d("####################");
+        DaoLog.d(getClass().getSimpleName() + ": " + batchCount + " batches on " + new Date());
+        DaoLog.d("####################");
+        int[] readerCounts = { 1, 4 };
+        for (int readerCount : readerCounts) {
+            runThroughput(readerCount, batchCount, "single connection");
+        }
+        if (Build.VERSION.SDK_INT < 11) {
+            DaoLog.e("Sorry, we need at least API level 11 for WAL");
+            return;
+        }
+        ReadConnectionPool pool = daoMaster.enableReadConnectionPool(4);
+        try {
+            daoSession = daoMaster.newSession();
+            for (int readerCount : readerCounts) {
+                runThroughput(readerCount, batchCount, "WAL, 4 read connections");
+            }
+        } finally {
+            pool.close();
+        }
+    }
+
+    protected void runThroughput(int readerCount, final int batchCount, String info) throws InterruptedException {
+        final TestEntityDao dao = daoSession.getTestEntityDao();
+        dao.deleteAll();
+        final CountDownLatch latchStart = new CountDownLatch(1);
+        final CountDownLatch latchWriterDone = new CountDownLatch(1);
+        final CountDownLatch latchReadersDone = new CountDownLatch(readerCount);
+        final AtomicLong readCount = new AtomicLong();
+
+        new Thread() {
+            @Override
+            public void run() {
+                try {
+                    latchStart.await();
+                    for (int i = 0; i < batchCount; i++) {
+                        List<TestEntity> batch = new ArrayList<TestEntity>(BATCH_SIZE);
+                        for (int j = 0; j < BATCH_SIZE; j++) {
+                            TestEntity entity = new TestEntity();
+                            entity.setSimpleStringNotNull("green");
+                            entity.setSimpleInt(j);
+                            batch.add(entity);
+                        }
+                        dao.insertInTx(batch);
+                    }
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                } finally {
+                    latchWriterDone.countDown();
+                }
+            }
+        }.start();
+
+        final Query<TestEntity> query = dao.queryBuilder().where(TestEntityDao.Properties.SimpleInt.eq(42)).limit(10)
+                .build();
+        for (int i = 0; i < readerCount; i++) {
+            new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        Query<TestEntity> threadQuery = query.forCurrentThread();
+                        latchStart.await();
+                        while (latchWriterDone.getCount() > 0) {
+                            threadQuery.list();
+                            readCount.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    } finally {
+                        latchReadersDone.countDown();
+                    }
+                }
+            }.start();
+        }
+        System.gc();
+
+        long start = System.currentTimeMillis();
+        latchStart.countDown();
+        latchWriterDone.await();
+        long time = System.currentTimeMillis() - start;
+        latchReadersDone.await();
+
+        long writes = batchCount * (long) BATCH_SIZE;
+        long writesPerSecond = time > 0 ? writes * 1000 / time : -1;
+        long readsPerSecond = time > 0 ? readCount.get() * 1000 / time : -1;
+        DaoLog.d(info + ", " + readerCount + " readers: " + writes + " inserts in " + time + "ms (" + writesPerSecond
+                + " inserts/s, " + readsPerSecond + " queries/s)");
+        assertEquals(writes, dao.count());
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * This file is part of greenDAO Generator.
+ * 
+ * greenDAO Generator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * greenDAO Generator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with greenDAO Generator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.greenrobot.daotest.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import de.greenrobot.dao.query.Tuple;
+import de.greenrobot.daotest.TestEntity;
+import de.greenrobot.daotest.TestEntityDao.Properties;
+import de.greenrobot.daotest.entity.TestEntityTestBase;
+
+/** Results larger than one cursor window (about 2 MB) are read through refilled windows. */
+public class MultiWindowTest extends TestEntityTestBase {
+
+    private static final int COUNT = 500;
+    private static final int STRING_LENGTH = 10000;
+
+    private String largeString;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        char[] chars = new char[STRING_LENGTH];
+        Arrays.fill(chars, 'x');
+        largeString = new String(chars);
+    }
+
+    private void insertLarge() {
+        List<TestEntity> list = new ArrayList<TestEntity>();
+        for (int i = 0; i < COUNT; i++) {
+            list.add(createEntity(getSimpleInteger(i), largeString + i));
+        }
+        dao.insertInTx(list);
+    }
+
+    public void testLoadAll() {
+        insertLarge();
+        List<TestEntity> entities = dao.queryBuilder().orderAsc(Properties.SimpleInteger).list();
+        assertEquals(COUNT, entities.size());
+        for (int i = 0; i < COUNT; i++) {
+            TestEntity entity = entities.get(i);
+            assertEquals(getSimpleInteger(i), (int) entity.getSimpleInteger());
+            assertEquals(largeString + i, entity.getSimpleString());
+        }
+        assertEquals(COUNT, dao.loadAll().size());
+    }
+
+    public void testLoadAllIdentityScope() {
+        insertLarge();
+        List<TestEntity> entities = dao.loadAll();
+        List<TestEntity> entities2 = dao.loadAll();
+        assertEquals(COUNT, entities2.size());
+        for (int i = 0; i < COUNT; i++) {
+            if (identityScopeForDao != null) {
+                assertSame(entities.get(i), entities2.get(i));
+            } else {
+                assertEquals(entities.get(i).getId(), entities2.get(i).getId());
+            }
+        }
+    }
+
+    public void testListTuples() {
+        insertLarge();
+        List<Tuple> tuples = dao.queryBuilder().select(Properties.SimpleInteger, Properties.SimpleString)
+                .orderAsc(Properties.SimpleInteger).listTuples();
+        assertEquals(COUNT, tuples.size());
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals(getSimpleInteger(i), tuples.get(i).getInt(0));
+            assertEquals(largeString + i, tuples.get(i).getString(1));
+        }
+    }
+
+}
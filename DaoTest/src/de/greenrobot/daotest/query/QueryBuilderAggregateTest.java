@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * This file is part of greenDAO Generator.
+ * 
+ * greenDAO Generator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * greenDAO Generator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with greenDAO Generator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.greenrobot.daotest.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.greenrobot.dao.DaoException;
+import de.greenrobot.dao.query.Aggregate;
+import de.greenrobot.dao.query.Query;
+import de.greenrobot.dao.query.Tuple;
+import de.greenrobot.daotest.TestEntity;
+import de.greenrobot.daotest.TestEntityDao.Properties;
+import de.greenrobot.daotest.entity.TestEntityTestBase;
+
+public class QueryBuilderAggregateTest extends TestEntityTestBase {
+
+    public void testAggregates() {
+        insert(3);
+        Tuple tuple = dao.queryBuilder()
+                .select(Properties.SimpleInteger.sum(), Properties.SimpleInteger.min(),
+                        Properties.SimpleInteger.max(), Properties.SimpleInteger.avg(), Aggregate.count())
+                .listTuples().get(0);
+        assertEquals(getSimpleInteger(0) + getSimpleInteger(1) + getSimpleInteger(2), tuple.getLong(0));
+        assertEquals(getSimpleInteger(0), tuple.getInt(1));
+        assertEquals(getSimpleInteger(2), tuple.getInt(2));
+        assertEquals((double) getSimpleInteger(1), tuple.getDouble(3));
+        assertEquals(3, tuple.getLong(4));
+    }
+
+    public void testUniqueLongReusable() {
+        insert(3);
+        Query<TestEntity> query = dao.queryBuilder().where(Properties.SimpleInteger.gt(0))
+                .select(Properties.SimpleInteger.max()).build();
+        assertEquals(getSimpleInteger(2), query.uniqueLong(0));
+        query.setParameter(0, getSimpleInteger(2));
+        assertEquals(0, query.uniqueLong(0));
+    }
+
+    public void testGroupByHaving() {
+        ArrayList<TestEntity> list = new ArrayList<TestEntity>();
+        for (int i = 0; i < 5; i++) {
+            // Strings: A, B, A, B, A
+            list.add(createEntity(i, i % 2 == 0 ? "A" : "B"));
+        }
+        list.add(createEntity(42, null));
+        dao.insertInTx(list);
+
+        List<Tuple> tuples = dao.queryBuilder()
+                .select(Properties.SimpleString, Aggregate.count(), Properties.SimpleInteger.sum())
+                .where(Properties.SimpleString.isNotNull()).groupBy(Properties.SimpleString)
+                .orderAsc(Properties.SimpleString).listTuples();
+        assertEquals(2, tuples.size());
+        assertEquals("A", tuples.get(0).getString(0));
+        assertEquals(3, tuples.get(0).getLong(1));
+        assertEquals(0 + 2 + 4, tuples.get(0).getLong(2));
+        assertEquals("B", tuples.get(1).getString(0));
+        assertEquals(1 + 3, tuples.get(1).getLong(2));
+
+        tuples = dao.queryBuilder().select(Properties.SimpleString, Properties.SimpleString.countDistinct())
+                .groupBy(Properties.SimpleString).having(Aggregate.count().gt(2)).listTuples();
+        assertEquals(1, tuples.size());
+        assertEquals("A", tuples.get(0).getString(0));
+        assertEquals(1, tuples.get(0).getLong(1));
+    }
+
+    public void testHavingWithoutGroupBy() {
+        try {
+            dao.queryBuilder().select(Aggregate.count()).having(Aggregate.count().gt(2)).build();
+            fail("Should have failed");
+        } catch (DaoException expected) {
+            // OK
+        }
+    }
+
+    public void testGroupByNotSupportedForCount() {
+        try {
+            dao.queryBuilder().groupBy(Properties.SimpleString).buildCount();
+            fail("Should have failed");
+        } catch (DaoException expected) {
+            // OK
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * This file is part of greenDAO Generator.
+ * 
+ * greenDAO Generator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * greenDAO Generator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with greenDAO Generator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.greenrobot.daotest.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.greenrobot.dao.DaoException;
+import de.greenrobot.dao.query.Query;
+import de.greenrobot.daotest.TestEntity;
+import de.greenrobot.daotest.TestEntityDao.Properties;
+import de.greenrobot.daotest.entity.TestEntityTestBase;
+
+public class QueryBuilderPartialTest extends TestEntityTestBase {
+
+    public void testListPartial() {
+        ArrayList<TestEntity> inserted = insert(3);
+        List<TestEntity> result = dao.queryBuilder().orderAsc(Properties.SimpleInteger)
+                .listPartial(Properties.SimpleString, Properties.Id);
+        assertEquals(3, result.size());
+        for (int i = 0; i < 3; i++) {
+            TestEntity entity = result.get(i);
+            assertEquals(inserted.get(i).getId(), entity.getId());
+            assertEquals(getSimpleString(i), entity.getSimpleString());
+            assertNull(entity.getSimpleInteger());
+            assertNull(entity.getSimpleStringNotNull());
+        }
+    }
+
+    public void testBuildPartialUnique() {
+        insert(3);
+        Query<TestEntity> query = dao.queryBuilder().where(Properties.SimpleInteger.eq(getSimpleInteger(1)))
+                .buildPartial(Properties.SimpleInteger);
+        assertTrue(query.isPartial());
+        TestEntity entity = query.unique();
+        assertEquals(getSimpleInteger(1), (int) entity.getSimpleInteger());
+        assertNull(entity.getId());
+        assertNull(entity.getSimpleString());
+
+        query.setParameter(0, getSimpleInteger(2));
+        assertEquals(getSimpleInteger(2), (int) query.unique().getSimpleInteger());
+    }
+
+    public void testPartialNotInIdentityScope() {
+        ArrayList<TestEntity> inserted = insert(1);
+        TestEntity partial = dao.queryBuilder().listPartial(Properties.Id).get(0);
+        assertEquals(inserted.get(0).getId(), partial.getId());
+        assertNotSame(inserted.get(0), partial);
+    }
+
+    public void testBuildPartialForeignProperty() {
+        try {
+            dao.queryBuilder().buildPartial(new de.greenrobot.dao.Property(42, String.class, "foo", false, "FOO",
+                    "OTHER"));
+            fail("Should have failed");
+        } catch (DaoException expected) {
+            // OK
+        }
+    }
+
+    public void testBuildPartialLazyListNotSupported() {
+        Query<TestEntity> query = dao.queryBuilder().buildPartial(Properties.Id);
+        try {
+            query.listLazy();
+            fail("Should have failed");
+        } catch (DaoException expected) {
+            // OK
+        }
+    }
+
+}
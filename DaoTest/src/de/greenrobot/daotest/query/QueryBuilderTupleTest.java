@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * This file is part of greenDAO Generator.
+ * 
+ * greenDAO Generator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * greenDAO Generator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with greenDAO Generator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.greenrobot.daotest.query;
+
+import java.util.List;
+
+import android.database.Cursor;
+import de.greenrobot.dao.query.RowMapper;
+import de.greenrobot.dao.query.Tuple;
+import de.greenrobot.dao.selectable.SqlSelectable;
+import de.greenrobot.daotest.TestEntity;
+import de.greenrobot.daotest.TestEntityDao.Properties;
+import de.greenrobot.daotest.entity.TestEntityTestBase;
+
+public class QueryBuilderTupleTest extends TestEntityTestBase {
+
+    public void testListTuples() {
+        insert(3);
+        List<Tuple> tuples = dao.queryBuilder().select(Properties.SimpleInteger, Properties.SimpleString)
+                .orderAsc(Properties.SimpleInteger).listTuples();
+        assertEquals(3, tuples.size());
+        for (int i = 0; i < 3; i++) {
+            Tuple tuple = tuples.get(i);
+            assertEquals(2, tuple.size());
+            assertEquals(getSimpleInteger(i), tuple.getInt(0));
+            assertEquals(getSimpleString(i), tuple.getString(1));
+        }
+    }
+
+    public void testListTuplesAggregate() {
+        insert(3);
+        List<Tuple> tuples = dao.queryBuilder()
+                .select(new SqlSelectable("COUNT(*)"), new SqlSelectable("MAX(SIMPLE_INTEGER)")).listTuples();
+        assertEquals(1, tuples.size());
+        assertEquals(3, tuples.get(0).getLong(0));
+        assertEquals(getSimpleInteger(2), tuples.get(0).getInt(1));
+    }
+
+    public void testListTuplesNull() {
+        TestEntity entity = createEntity(0, null);
+        entity.setSimpleInteger(null);
+        dao.insert(entity);
+        Tuple tuple = dao.queryBuilder().select(Properties.SimpleInteger, Properties.SimpleString).listTuples()
+                .get(0);
+        assertTrue(tuple.isNull(0));
+        assertEquals(0, tuple.getLong(0));
+        assertNull(tuple.getString(1));
+    }
+
+    public void testListTuplesTextAsNumber() {
+        insert(1);
+        Tuple tuple = dao.queryBuilder()
+                .select(new SqlSelectable("'42'"), new SqlSelectable("'2.5 kg'"), new SqlSelectable("'green'"))
+                .listTuples().get(0);
+        assertEquals(42, tuple.getLong(0));
+        assertEquals(42d, tuple.getDouble(0));
+        assertEquals(2, tuple.getLong(1));
+        assertEquals(2.5d, tuple.getDouble(1));
+        assertEquals(0, tuple.getLong(2));
+        assertEquals(0d, tuple.getDouble(2));
+    }
+
+    public void testMapTo() {
+        insert(3);
+        List<String> result = dao.queryBuilder().select(Properties.SimpleString, Properties.SimpleInteger)
+                .orderAsc(Properties.SimpleInteger).mapTo(new RowMapper<String>() {
+                    @Override
+                    public String map(Cursor cursor) {
+                        return cursor.getString(0) + ":" + cursor.getInt(1);
+                    }
+                });
+        assertEquals(3, result.size());
+        assertEquals(getSimpleString(1) + ":" + getSimpleInteger(1), result.get(1));
+    }
+
+    public void testListLongColumn() {
+        insert(3);
+        long[] values = dao.queryBuilder().select(Properties.SimpleInteger).orderAsc(Properties.SimpleInteger).build()
+                .listLongColumn(0);
+        assertEquals(3, values.length);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(getSimpleInteger(i), values[i]);
+        }
+    }
+
+}
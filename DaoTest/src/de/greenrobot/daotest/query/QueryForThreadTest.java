@@ -19,8 +19,8 @@ package de.greenrobot.daotest.query;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Map;
 
-import android.util.SparseArray;
 import de.greenrobot.dao.DaoException;
 import de.greenrobot.dao.DaoLog;
 import de.greenrobot.dao.query.Query;
@@ -75,7 +75,7 @@ public class QueryForThreadTest extends TestEntityTestBase {
 
         Method gcMethod = dataSuperclass.getDeclaredMethod("gc");
         gcMethod.setAccessible(true);
-        SparseArray<?> map = (SparseArray<?>) mapField.get(queryData);
+        Map<?, ?> map = (Map<?, ?>) mapField.get(queryData);
         for (int i = 0; map.size() > 1 && i < 1000; i++) {
             DaoLog.d("Queries left after " + i + ". GC: " + map.size());
             System.gc();
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2011 Markus Junginger, greenrobot (http://greenrobot.de)
+ *
+ * This file is part of greenDAO Generator.
+ * 
+ * greenDAO Generator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * greenDAO Generator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with greenDAO Generator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.greenrobot.daotest.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.greenrobot.dao.DaoException;
+import de.greenrobot.dao.identityscope.IdentityScopeLong;
+import de.greenrobot.dao.query.QueryBuilder;
+import de.greenrobot.dao.query.UpdateQuery;
+import de.greenrobot.daotest.TestEntity;
+import de.greenrobot.daotest.TestEntityDao.Properties;
+import de.greenrobot.daotest.entity.TestEntityTestBase;
+
+public class UpdateQueryTest extends TestEntityTestBase {
+    @Override
+    protected void setUp() throws Exception {
+        setIdentityScopeBeforeSetUp(new IdentityScopeLong<TestEntity>());
+        super.setUp();
+        QueryBuilder.LOG_SQL = true;
+        QueryBuilder.LOG_VALUES = true;
+    }
+
+    public void testUpdateQuerySimple() {
+        insert(3);
+        int value = getSimpleInteger(1);
+        UpdateQuery<TestEntity> updateQuery = dao.queryBuilder().where(Properties.SimpleInteger.eq(value))
+                .buildUpdate(Properties.SimpleString.set("updated"));
+        updateQuery.execute();
+
+        List<TestEntity> updated = dao.queryBuilder().where(Properties.SimpleString.eq("updated")).list();
+        assertEquals(1, updated.size());
+        assertEquals(value, (int) updated.get(0).getSimpleInteger());
+        assertEquals(3, dao.count());
+    }
+
+    public void testUpdateQueryMultipleColumnsAndParameters() {
+        insert(3);
+        UpdateQuery<TestEntity> updateQuery = dao.queryBuilder()
+                .where(Properties.SimpleString.eq(getSimpleString(0)))
+                .buildUpdate(QueryBuilder.set(Properties.SimpleInteger, 42), Properties.SimpleBoolean.set(true));
+        updateQuery.execute();
+        assertEquals(1, dao.queryBuilder().where(Properties.SimpleInteger.eq(42)).count());
+
+        // Set values come first, followed by where values
+        updateQuery.setParameter(0, 23);
+        updateQuery.setParameter(2, getSimpleString(2));
+        updateQuery.execute();
+        TestEntity entity = dao.queryBuilder().where(Properties.SimpleInteger.eq(23)).unique();
+        assertEquals(getSimpleString(2), entity.getSimpleString());
+        assertTrue(entity.getSimpleBoolean());
+    }
+
+    public void testUpdateQueryNull() {
+        insert(2);
+        dao.queryBuilder().where(Properties.SimpleString.eq(getSimpleString(1)))
+                .buildUpdate(Properties.SimpleString.set(null)).execute();
+        assertEquals(1, dao.queryBuilder().where(Properties.SimpleString.isNull()).count());
+    }
+
+    public void testUpdateQueryWithoutSetClause() {
+        try {
+            dao.queryBuilder().buildUpdate();
+            fail("Should have failed");
+        } catch (DaoException expected) {
+            // OK
+        }
+    }
+
+    public void testUpdateQueryDetachesEntities() {
+        ArrayList<TestEntity> inserted = insert(3);
+        TestEntity cached = dao.load(inserted.get(1).getId());
+        assertSame(inserted.get(1), cached);
+
+        dao.queryBuilder().where(Properties.SimpleInteger.eq(getSimpleInteger(1)))
+                .buildUpdate(Properties.SimpleInteger.set(42)).execute();
+
+        TestEntity reloaded = dao.load(inserted.get(1).getId());
+        assertNotSame(cached, reloaded);
+        assertEquals(42, (int) reloaded.getSimpleInteger());
+        // Not affected
+        assertSame(inserted.get(0), dao.load(inserted.get(0).getId()));
+    }
+
+    public void testDeleteQueryDetachesEntities() {
+        ArrayList<TestEntity> inserted = insert(3);
+        Long key = inserted.get(1).getId();
+        assertSame(inserted.get(1), dao.load(key));
+
+        dao.queryBuilder().where(Properties.SimpleInteger.eq(getSimpleInteger(1))).buildDelete().executeDelete();
+
+        assertEquals(2, dao.count());
+        assertNull(dao.load(key));
+        assertSame(inserted.get(0), dao.load(inserted.get(0).getId()));
+    }
+
+}